@@ -0,0 +1,132 @@
+package com.ashishbagdane.lib.eh.benchmark.exception;
+
+import com.ashishbagdane.lib.eh.exception.operation.BatchOperationException;
+import com.ashishbagdane.lib.eh.exception.resource.ResourceNotFoundException;
+import com.ashishbagdane.lib.eh.exception.system.InternalErrorException;
+import com.ashishbagdane.lib.eh.exception.validation.InvalidInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures constructing one exception of each family, including its error context and stack trace, and throwing it
+ * through a few frames to a catch block. The difference between the two shows the cost of unwinding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ExceptionCreationBenchmark {
+
+    private static final int STACK_DEPTH = 8;
+
+    private List<String> failedItems;
+
+    private Map<String, String> itemErrors;
+
+    private Throwable cause;
+
+    @Setup
+    public void setUp() {
+        failedItems = new ArrayList<>();
+        itemErrors = new LinkedHashMap<>();
+        for (int i = 0; i < 25; i++) {
+            String item = "order-" + i;
+            failedItems.add(item);
+            itemErrors.put(item, "Insufficient stock for SKU-" + i);
+        }
+        cause = new IllegalStateException("Connection reset");
+    }
+
+    @Benchmark
+    public RuntimeException createResourceNotFound() {
+        return new ResourceNotFoundException("Order", "8c2b6f0e-52d4-4d1a-9a47-1d1f0b6c7e21");
+    }
+
+    @Benchmark
+    public RuntimeException createInvalidInput() {
+        return new InvalidInputException("quantity", "-3", "must be positive");
+    }
+
+    @Benchmark
+    public RuntimeException createBatchOperation() {
+        return new BatchOperationException("importOrders", failedItems, itemErrors);
+    }
+
+    @Benchmark
+    public RuntimeException createInternalError() {
+        return new InternalErrorException("chargeCard", cause);
+    }
+
+    @Benchmark
+    public RuntimeException throwResourceNotFound() {
+        try {
+            throwFrom(STACK_DEPTH, () -> new ResourceNotFoundException("Order", "8c2b6f0e-52d4-4d1a-9a47-1d1f0b6c7e21"));
+            return null;
+        } catch (ResourceNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException throwInvalidInput() {
+        try {
+            throwFrom(STACK_DEPTH, () -> new InvalidInputException("quantity", "-3", "must be positive"));
+            return null;
+        } catch (InvalidInputException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException throwBatchOperation() {
+        try {
+            throwFrom(STACK_DEPTH, () -> new BatchOperationException("importOrders", failedItems, itemErrors));
+            return null;
+        } catch (BatchOperationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public RuntimeException throwInternalError() {
+        try {
+            throwFrom(STACK_DEPTH, () -> new InternalErrorException("chargeCard", cause));
+            return null;
+        } catch (InternalErrorException e) {
+            return e;
+        }
+    }
+
+    /**
+     * Creates and throws the exception {@code depth} frames below the caller, so the stack trace has a realistic
+     * length and the throw cannot be reduced to a local jump.
+     */
+    private static void throwFrom(int depth, ExceptionFactory factory) {
+        if (depth == 0) {
+            throw factory.create();
+        }
+        throwFrom(depth - 1, factory);
+    }
+
+    @FunctionalInterface
+    private interface ExceptionFactory {
+
+        RuntimeException create();
+    }
+}
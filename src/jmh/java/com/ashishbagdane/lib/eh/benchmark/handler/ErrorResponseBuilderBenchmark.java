@@ -0,0 +1,80 @@
+package com.ashishbagdane.lib.eh.benchmark.handler;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorMessage;
+import com.ashishbagdane.lib.eh.handler.ErrorResponseBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ErrorResponseBuilder#buildErrorResponse} for a message that carries its path and for one whose
+ * path is resolved from the request bound to the current thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ErrorResponseBuilderBenchmark {
+
+    private ErrorResponseBuilder errorResponseBuilder;
+
+    private ErrorMessage messageWithPath;
+
+    private ErrorMessage messageWithoutPath;
+
+    @Setup
+    public void setUp() {
+        errorResponseBuilder = new ErrorResponseBuilder();
+        RequestContextHolder.setRequestAttributes(
+            new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/orders/42")));
+
+        messageWithPath = ErrorMessage.builder()
+            .timestamp(LocalDateTime.now())
+            .status(404)
+            .error("Not Found")
+            .message("Order with ID '42' not found")
+            .path("/api/orders/42")
+            .traceId("4bf92f3577b34da6a3ce929d0e0e4736")
+            .details(Map.of("resourceType", "Order", "resourceId", "42"))
+            .build();
+        messageWithoutPath = ErrorMessage.builder()
+            .timestamp(LocalDateTime.now())
+            .status(404)
+            .error("Not Found")
+            .message("Order with ID '42' not found")
+            .details(Map.of("resourceType", "Order", "resourceId", "42"))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Map<String, Object> withPath() {
+        return errorResponseBuilder.buildErrorResponse(messageWithPath);
+    }
+
+    @Benchmark
+    public Map<String, Object> resolvingPath() {
+        return errorResponseBuilder.buildErrorResponse(messageWithoutPath);
+    }
+}
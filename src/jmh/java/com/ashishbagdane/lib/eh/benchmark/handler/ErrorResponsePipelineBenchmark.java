@@ -0,0 +1,82 @@
+package com.ashishbagdane.lib.eh.benchmark.handler;
+
+import com.ashishbagdane.lib.eh.exception.resource.ResourceNotFoundException;
+import com.ashishbagdane.lib.eh.exception.validation.InvalidInputException;
+import com.ashishbagdane.lib.eh.handler.ApplicationErrorAttributes;
+import com.ashishbagdane.lib.eh.handler.ErrorResponseBuilder;
+import com.ashishbagdane.lib.eh.metrics.ErrorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.RequestDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full error response pipeline of {@link ApplicationErrorAttributes#getErrorAttributes} for application
+ * exceptions and an unexpected exception stored on a mock request, including metric recording and response building.
+ *
+ * <p>The handler logger is switched off, so the numbers exclude appender I/O but include building the log
+ * arguments.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ErrorResponsePipelineBenchmark {
+
+    @Param({"resourceNotFound", "invalidInput", "unexpected"})
+    public String error;
+
+    private ApplicationErrorAttributes errorAttributes;
+
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(ApplicationErrorAttributes.class))
+            .setLevel(ch.qos.logback.classic.Level.OFF);
+
+        errorAttributes = new ApplicationErrorAttributes(new ErrorResponseBuilder(),
+                                                         new ErrorMetrics(new SimpleMeterRegistry()));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/42");
+        request.setAttribute(RequestDispatcher.ERROR_EXCEPTION, switch (error) {
+            case "resourceNotFound" -> new ResourceNotFoundException("Order", "42");
+            case "invalidInput" -> new InvalidInputException("quantity", "-3", "must be positive");
+            case "unexpected" -> new IllegalStateException("Connection pool exhausted");
+            default -> throw new IllegalArgumentException("Unknown error " + error);
+        });
+        webRequest = new ServletWebRequest(request);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Map<String, Object> getErrorAttributes() {
+        return errorAttributes.getErrorAttributes(webRequest, ErrorAttributeOptions.defaults());
+    }
+}
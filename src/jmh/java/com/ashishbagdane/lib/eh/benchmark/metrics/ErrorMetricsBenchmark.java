@@ -0,0 +1,67 @@
+package com.ashishbagdane.lib.eh.benchmark.metrics;
+
+import com.ashishbagdane.lib.eh.metrics.ErrorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ErrorMetrics} recording from many threads sharing one registry, as under an error burst. The
+ * error type and domain are drawn from small sets, so threads contend on the same counters. Run with {@code -t} to
+ * vary the thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(8)
+public class ErrorMetricsBenchmark {
+
+    private static final String[] ERROR_TYPES = {
+        "ResourceNotFoundException", "InvalidInputException", "BatchOperationException", "InternalErrorException"
+    };
+
+    private static final String[] ERROR_CODES = {"DATA_NOT_FOUND", "VALIDATION_INVALID_PARAMETER"};
+
+    private static final String[] DOMAINS = {"orders", "payments", "customers"};
+
+    private ErrorMetrics errorMetrics;
+
+    @Setup
+    public void setUp() {
+        errorMetrics = new ErrorMetrics(new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void incrementErrorCount() {
+        errorMetrics.incrementErrorCount(pick(ERROR_TYPES));
+    }
+
+    @Benchmark
+    public void incrementErrorCountWithContext() {
+        errorMetrics.incrementErrorCount(pick(ERROR_TYPES), pick(ERROR_CODES), pick(DOMAINS));
+    }
+
+    @Benchmark
+    public void recordValidationErrors() {
+        errorMetrics.recordValidationErrors(pick(DOMAINS), 3);
+    }
+
+    private static String pick(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+}
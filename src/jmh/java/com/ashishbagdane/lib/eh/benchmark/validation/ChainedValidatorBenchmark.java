@@ -0,0 +1,72 @@
+package com.ashishbagdane.lib.eh.benchmark.validation;
+
+import com.ashishbagdane.lib.eh.benchmark.validation.ValidatorCompositionBenchmark.User;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator.ValidationType;
+import com.ashishbagdane.lib.eh.exception.validation.validators.EmailFieldValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ChainedValidator} in every {@link ValidationType} on inputs that pass, fail the first rule only and
+ * fail every rule. Fail-fast chains should cost about the same for the last two; collect-all chains pay for every
+ * rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ChainedValidatorBenchmark {
+
+    @Param({"FAIL_FAST", "VALIDATE_ALL", "ADAPTIVE_FAIL_FAST"})
+    public ValidationType validationType;
+
+    @Param({"valid", "firstInvalid", "allInvalid"})
+    public String input;
+
+    private User user;
+
+    private Validator<User> validator;
+
+    @Setup
+    public void setUp() {
+        user = switch (input) {
+            case "valid" -> new User("Jane", "jane.doe@example.com", "jane+backup@example.org", List.of("admin"));
+            case "firstInvalid" -> new User(" ", "jane.doe@example.com", "jane+backup@example.org", List.of("admin"));
+            case "allInvalid" -> new User(" ", "", "jane..backup@example.org", List.of());
+            default -> throw new IllegalArgumentException("Unknown input " + input);
+        };
+
+        @SuppressWarnings("unchecked")
+        Validator<User>[] chain = new Validator[] {
+            new RequiredFieldValidator<>(User::getName, "name"),
+            new RequiredFieldValidator<>(User::getEmail, "email"),
+            new EmailFieldValidator<>(User::getEmail, "email"),
+            new EmailFieldValidator<>(User::getBackupEmail, "backupEmail"),
+            new RequiredFieldValidator<>(User::getRoles, "roles")
+        };
+        validator = new ChainedValidator<>(validationType, chain);
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return validator.validate(user);
+    }
+}
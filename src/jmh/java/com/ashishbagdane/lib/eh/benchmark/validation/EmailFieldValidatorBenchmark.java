@@ -0,0 +1,62 @@
+package com.ashishbagdane.lib.eh.benchmark.validation;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.validators.EmailFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures {@link EmailFieldValidator} on valid, invalid and pathological addresses. The pathological inputs are the
+ * shapes that made backtracking email regular expressions take exponential time: long runs of local-part characters
+ * or domain labels followed by a character that rejects the whole address, and an input far above the length limit.
+ * Their time must stay linear in the input length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EmailFieldValidatorBenchmark {
+
+    @Param({"valid", "validSubdomains", "missingAt", "missingTld", "consecutiveDots", "longLocalPart",
+        "longDomainLabels", "overlong"})
+    public String shape;
+
+    private String email;
+
+    private EmailFieldValidator<String> validator;
+
+    @Setup
+    public void setUp() {
+        email = switch (shape) {
+            case "valid" -> "jane.doe@example.com";
+            case "validSubdomains" -> "jane.doe+orders@mail.eu-west.example.co.uk";
+            case "missingAt" -> "jane.doe.example.com";
+            case "missingTld" -> "jane.doe@example";
+            case "consecutiveDots" -> "jane..doe@example.com";
+            case "longLocalPart" -> "a".repeat(60) + "!";
+            case "longDomainLabels" -> "jane@" + "a.".repeat(120) + "!";
+            case "overlong" -> "a".repeat(10_000) + "@example.com";
+            default -> throw new IllegalArgumentException("Unknown shape " + shape);
+        };
+        validator = new EmailFieldValidator<>(Function.identity(), "email");
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return validator.validate(email);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ashishbagdane.lib.eh.benchmark.validation;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures {@link RequiredFieldValidator} on present, blank and missing values of the field types it special-cases.
+ * Run with {@code -prof gc} to verify that neither passing nor failing values allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequiredFieldValidatorBenchmark {
+
+    @Param({"text", "paddedText", "blankText", "null", "list", "emptyList"})
+    public String value;
+
+    private Object input;
+
+    private RequiredFieldValidator<Object, Object> validator;
+
+    @Setup
+    public void setUp() {
+        input = switch (value) {
+            case "text" -> "Jane";
+            case "paddedText" -> "   Jane   ";
+            case "blankText" -> " \t ".repeat(8);
+            case "null" -> null;
+            case "list" -> List.of("admin", "user");
+            case "emptyList" -> List.of();
+            default -> throw new IllegalArgumentException("Unknown value " + value);
+        };
+        validator = new RequiredFieldValidator<>(Function.identity(), "field");
+    }
+
+    @Benchmark
+    public ValidationResult validate() {
+        return validator.validate(input);
+    }
+}
@@ -0,0 +1,138 @@
+package com.ashishbagdane.lib.eh.benchmark.validation;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.CompositeValidator;
+import com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator.ValidationType;
+import com.ashishbagdane.lib.eh.exception.validation.validators.EmailFieldValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stream based {@link CompositeValidator}, {@link ChainedValidator} and the array based validator
+ * produced by {@link ValidatorBuilder#build()} and the generated class produced by {@link ValidatorBuilder#compile()}
+ * on the same set of field rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidatorCompositionBenchmark {
+
+    /**
+     * Sample DTO with a handful of validated fields.
+     */
+    public static class User {
+
+        private final String name;
+
+        private final String email;
+
+        private final String backupEmail;
+
+        private final List<String> roles;
+
+        public User(String name, String email, String backupEmail, List<String> roles) {
+            this.name = name;
+            this.email = email;
+            this.backupEmail = backupEmail;
+            this.roles = roles;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getBackupEmail() {
+            return backupEmail;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+    }
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private User user;
+
+    private Validator<User> composite;
+
+    private Validator<User> chained;
+
+    private Validator<User> compiled;
+
+    private Validator<User> hiddenClass;
+
+    @Setup
+    public void setUp() {
+        user = valid
+            ? new User("Jane", "jane.doe@example.com", "jane+backup@example.org", List.of("admin"))
+            : new User(" ", "jane.doe@example", "jane..backup@example.org", List.of());
+
+        List<Validator<User>> rules = List.of(
+            new RequiredFieldValidator<>(User::getName, "name"),
+            new RequiredFieldValidator<>(User::getEmail, "email"),
+            new EmailFieldValidator<>(User::getEmail, "email"),
+            new EmailFieldValidator<>(User::getBackupEmail, "backupEmail"),
+            new RequiredFieldValidator<>(User::getRoles, "roles")
+        );
+
+        composite = new CompositeValidator<>() {
+            {
+                rules.forEach(this::addValidator);
+            }
+        };
+
+        @SuppressWarnings("unchecked")
+        Validator<User>[] chain = rules.toArray(new Validator[0]);
+        chained = new ChainedValidator<>(ValidationType.VALIDATE_ALL, chain);
+
+        ValidatorBuilder<User> builder = new ValidatorBuilder<>();
+        rules.forEach(builder::addValidator);
+        compiled = builder.build();
+        hiddenClass = builder.compile();
+    }
+
+    @Benchmark
+    public ValidationResult compositeValidator() {
+        return composite.validate(user);
+    }
+
+    @Benchmark
+    public ValidationResult chainedValidator() {
+        return chained.validate(user);
+    }
+
+    @Benchmark
+    public ValidationResult compiledValidator() {
+        return compiled.validate(user);
+    }
+
+    @Benchmark
+    public ValidationResult hiddenClassValidator() {
+        return hiddenClass.validate(user);
+    }
+}
@@ -0,0 +1,358 @@
+package com.ashishbagdane.lib.eh.exception.operation;
+
+import com.ashishbagdane.lib.base.eh.exception.base.AbstractApplicationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs an {@link ItemProcessor} over every item of a batch, capturing the failure of each item instead of stopping at
+ * the first one.
+ *
+ * <p>Items are split into chunks of consecutive positions. With a parallelism of 1 all chunks run in the calling
+ * thread; otherwise up to {@code parallelism} workers on the executor take chunks until none are left. The executor
+ * defaults to the common {@link ForkJoinPool}, which suits CPU-bound processors. For processors that block on I/O,
+ * pass a virtual thread executor on Java 21 or later, such as {@code Executors.newVirtualThreadPerTaskExecutor()},
+ * together with a higher parallelism and a smaller chunk size.</p>
+ *
+ * <p>An exception thrown by the processor marks its item as failed in the {@link BatchFailures} of the result. The
+ * error code is the {@link AbstractApplicationException#getErrorCode() error code} of application exceptions and the
+ * simple class name of other exceptions, unless an {@link Builder#errorCodeResolver error code resolver} is set.
+ * Errors are not captured: they stop the run and are rethrown to the caller.</p>
+ *
+ * <p>With a {@link Builder#failureThreshold failure threshold} the run is aborted once the failed items exceed that
+ * fraction of the batch. Items that were not processed are then reported as skipped, so the totals of the result
+ * and of the {@link BatchOperationException} remain accurate.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * BatchExecutor<Order, Receipt> executor = BatchExecutor.builder("importOrders", orderService::importOrder)
+ *     .parallelism(8)
+ *     .failureThreshold(0.2)
+ *     .build();
+ * List<Receipt> receipts = executor.executeOrThrow(orders).getResults();
+ * }</pre></p>
+ *
+ * @param <T> The type of the items
+ * @param <R> The type of the item results
+ * @since 1.1
+ */
+public final class BatchExecutor<T, R> {
+
+    /**
+     * Default number of consecutive items processed by a worker at a time.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final String operation;
+
+    private final ItemProcessor<? super T, ? extends R> processor;
+
+    private final Executor executor;
+
+    private final int parallelism;
+
+    private final int chunkSize;
+
+    private final double failureThreshold;
+
+    private final Function<? super Exception, String> errorCodeResolver;
+
+    private final int sampleMessages;
+
+    private BatchExecutor(Builder<T, R> builder) {
+        this.operation = builder.operation;
+        this.processor = builder.processor;
+        this.executor = builder.executor;
+        this.parallelism = builder.parallelism;
+        this.chunkSize = builder.chunkSize;
+        this.failureThreshold = builder.failureThreshold;
+        this.errorCodeResolver = builder.errorCodeResolver;
+        this.sampleMessages = builder.sampleMessages;
+    }
+
+    /**
+     * Creates a builder for a batch executor.
+     *
+     * @param operation name of the batch operation, used in the {@link BatchOperationException}
+     * @param processor the processor applied to each item
+     * @param <T>       the item type
+     * @param <R>       the item result type
+     * @return a new {@link Builder}
+     */
+    public static <T, R> Builder<T, R> builder(String operation, ItemProcessor<? super T, ? extends R> processor) {
+        return new Builder<>(operation, processor);
+    }
+
+    /**
+     * Processes all items and returns the results and failures.
+     *
+     * @param items the items to process
+     * @return the batch result, which may contain failures
+     */
+    public BatchResult<R> execute(Collection<? extends T> items) {
+        Objects.requireNonNull(items, "items must not be null");
+        Run run = new Run(items instanceof List<? extends T> list && items instanceof RandomAccess ?
+                              list : new ArrayList<>(items));
+
+        int chunks = (int) ((run.size + (long) chunkSize - 1) / chunkSize);
+        int workers = Math.min(parallelism, chunks);
+        if (workers <= 1) {
+            run.work();
+        } else {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[workers];
+            for (int i = 0; i < workers; i++) {
+                futures[i] = CompletableFuture.runAsync(run::work, executor);
+            }
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+        return run.result();
+    }
+
+    /**
+     * Processes all items and throws if any item failed.
+     *
+     * @param items the items to process
+     * @return the batch result, without failures
+     * @throws BatchOperationException if any item failed or the run was aborted
+     */
+    public BatchResult<R> executeOrThrow(Collection<? extends T> items) {
+        return execute(items).throwIfFailed();
+    }
+
+    private static String defaultErrorCode(Exception exception) {
+        if (exception instanceof AbstractApplicationException applicationException) {
+            return applicationException.getErrorCode().name();
+        }
+        return exception.getClass().getSimpleName();
+    }
+
+    /**
+     * Processes a single item of a batch.
+     *
+     * @param <T> The type of the items
+     * @param <R> The type of the item results
+     */
+    @FunctionalInterface
+    public interface ItemProcessor<T, R> {
+
+        /**
+         * Processes an item.
+         *
+         * @param item the item
+         * @return the result of the item, may be null
+         * @throws Exception if the item failed
+         */
+        R process(T item) throws Exception;
+    }
+
+    /**
+     * State of a single execution, shared by its workers.
+     */
+    private final class Run {
+
+        private final List<? extends T> items;
+
+        private final int size;
+
+        private final Object[] results;
+
+        private final BatchFailures.Builder failures;
+
+        private final int maxFailures;
+
+        private final AtomicInteger nextChunk = new AtomicInteger();
+
+        private final AtomicInteger processed = new AtomicInteger();
+
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private volatile boolean aborted;
+
+        private Run(List<? extends T> items) {
+            this.items = items;
+            this.size = items.size();
+            this.results = new Object[size];
+            this.failures = BatchFailures.builder(size).sampleMessages(sampleMessages);
+            this.maxFailures = failureThreshold >= 1 ? Integer.MAX_VALUE : (int) (failureThreshold * size);
+        }
+
+        private void work() {
+            try {
+                long from;
+                while (!aborted && (from = (long) nextChunk.getAndIncrement() * chunkSize) < size) {
+                    int to = (int) Math.min(size, from + chunkSize);
+                    int done = (int) from;
+                    while (done < to && !aborted) {
+                        process(done++);
+                    }
+                    processed.addAndGet(done - (int) from);
+                }
+            } catch (Throwable t) {
+                aborted = true;
+                throw t;
+            }
+        }
+
+        private void process(int index) {
+            try {
+                results[index] = processor.process(items.get(index));
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    aborted = true;
+                }
+                String errorCode = errorCodeResolver.apply(e);
+                synchronized (failures) {
+                    failures.fail(index, errorCode, e.getMessage());
+                }
+                if (failed.incrementAndGet() > maxFailures) {
+                    aborted = true;
+                }
+            }
+        }
+
+        private BatchResult<R> result() {
+            int skipped = size - processed.get();
+            BatchFailures batchFailures;
+            synchronized (failures) {
+                batchFailures = failures.skipped(skipped).build();
+            }
+            return new BatchResult<>(operation, results, batchFailures, skipped > 0);
+        }
+    }
+
+    /**
+     * Builder for {@link BatchExecutor}.
+     *
+     * @param <T> The type of the items
+     * @param <R> The type of the item results
+     */
+    public static final class Builder<T, R> {
+
+        private final String operation;
+
+        private final ItemProcessor<? super T, ? extends R> processor;
+
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        private double failureThreshold = 1.0;
+
+        private Function<? super Exception, String> errorCodeResolver = BatchExecutor::defaultErrorCode;
+
+        private int sampleMessages = BatchFailures.DEFAULT_SAMPLE_MESSAGES;
+
+        private Builder(String operation, ItemProcessor<? super T, ? extends R> processor) {
+            this.operation = Objects.requireNonNull(operation, "operation must not be null");
+            this.processor = Objects.requireNonNull(processor, "processor must not be null");
+        }
+
+        /**
+         * Sets the executor running the workers. Defaults to the common pool.
+         *
+         * @param executor the executor
+         * @return This builder instance for method chaining
+         */
+        public Builder<T, R> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of workers processing chunks at the same time. Defaults to the number of available
+         * processors; 1 processes the batch in the calling thread.
+         *
+         * @param parallelism the number of workers
+         * @return This builder instance for method chaining
+         */
+        public Builder<T, R> parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the number of consecutive items a worker takes at a time.
+         *
+         * @param chunkSize items per chunk
+         * @return This builder instance for method chaining
+         */
+        public Builder<T, R> chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Aborts the run once more than this fraction of the items has failed. 0 aborts at the first failure; the
+         * default of 1 never aborts.
+         *
+         * @param failureThreshold fraction of the batch between 0 and 1
+         * @return This builder instance for method chaining
+         */
+        public Builder<T, R> failureThreshold(double failureThreshold) {
+            if (!(failureThreshold >= 0 && failureThreshold <= 1)) {
+                throw new IllegalArgumentException("Failure threshold must be between 0 and 1");
+            }
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the function deriving the error code of a failed item from its exception.
+         *
+         * @param errorCodeResolver the resolver
+         * @return This builder instance for method chaining
+         */
+        public Builder<T, R> errorCodeResolver(Function<? super Exception, String> errorCodeResolver) {
+            this.errorCodeResolver = Objects.requireNonNull(errorCodeResolver, "errorCodeResolver must not be null");
+            return this;
+        }
+
+        /**
+         * Sets how many exception messages are retained per error code.
+         *
+         * @param sampleMessages the number of messages, may be 0
+         * @return This builder instance for method chaining
+         */
+        public Builder<T, R> sampleMessages(int sampleMessages) {
+            if (sampleMessages < 0) {
+                throw new IllegalArgumentException("Sample messages must not be negative");
+            }
+            this.sampleMessages = sampleMessages;
+            return this;
+        }
+
+        public BatchExecutor<T, R> build() {
+            return new BatchExecutor<>(this);
+        }
+    }
+}
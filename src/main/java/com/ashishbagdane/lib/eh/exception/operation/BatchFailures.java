@@ -0,0 +1,334 @@
+package com.ashishbagdane.lib.eh.exception.operation;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact record of the failed items of a batch, identified by their position in the batch.
+ *
+ * <p>Failed positions are kept in a bitmap and grouped by error code, and only the first few messages of each error
+ * code are retained as samples. The memory used therefore depends on the batch size and the number of distinct error
+ * codes rather than on the number and length of the messages, and {@link #summary()} stays small however many items
+ * failed. The position and error code of every failed item can still be read page by page with
+ * {@link #getFailures(int, int)}.</p>
+ *
+ * <p>Example usage:
+ * <pre>
+ * BatchFailures.Builder failures = BatchFailures.builder(orders.size());
+ * for (int i = 0; i &lt; orders.size(); i++) {
+ *     ValidationResult result = validator.validate(orders.get(i));
+ *     if (!result.isValid()) {
+ *         failures.fail(i, "INVALID_ORDER", result.getErrors().get(0).getMessage());
+ *     }
+ * }
+ * throw new BatchOperationException("importOrders", failures.build());
+ * </pre></p>
+ *
+ * @since 1.1
+ */
+public final class BatchFailures implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Number of sample messages retained per error code by default.
+     */
+    public static final int DEFAULT_SAMPLE_MESSAGES = 3;
+
+    private final int totalItems;
+
+    private final int skippedItems;
+
+    private final BitSet failed;
+
+    private final Map<String, Group> groups;
+
+    private BatchFailures(Builder builder) {
+        this.totalItems = builder.totalItems;
+        this.skippedItems = builder.skippedItems;
+        this.failed = (BitSet) builder.failed.clone();
+        Map<String, Group> copy = new LinkedHashMap<>();
+        builder.groups.forEach((code, group) -> copy.put(code, group.copy()));
+        this.groups = copy;
+    }
+
+    /**
+     * Creates a builder for the failures of a batch of {@code totalItems} items.
+     *
+     * @param totalItems the number of items in the batch
+     * @return a new {@link Builder}
+     * @throws IllegalArgumentException if totalItems is negative
+     */
+    public static Builder builder(int totalItems) {
+        return new Builder(totalItems);
+    }
+
+    public int getTotalItems() {
+        return totalItems;
+    }
+
+    public int getFailedCount() {
+        return failed.cardinality();
+    }
+
+    public int getSuccessCount() {
+        return totalItems - skippedItems - getFailedCount();
+    }
+
+    /**
+     * Returns the number of items that were not processed, for example because the batch was aborted.
+     *
+     * @return the number of skipped items
+     */
+    public int getSkippedCount() {
+        return skippedItems;
+    }
+
+    public boolean isFailed(int index) {
+        return failed.get(index);
+    }
+
+    /**
+     * Returns the number of failed items per error code, in the order the codes were first reported.
+     *
+     * @return unmodifiable map of error code to count
+     */
+    public Map<String, Integer> getCountsByErrorCode() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        groups.forEach((code, group) -> counts.put(code, group.indices.cardinality()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Returns the retained sample messages of an error code.
+     *
+     * @param errorCode the error code
+     * @return unmodifiable list of messages, empty if the code was not reported
+     */
+    public List<String> getSampleMessages(String errorCode) {
+        Group group = groups.get(errorCode);
+        return group == null ? List.of() : Collections.unmodifiableList(group.samples);
+    }
+
+    /**
+     * Returns a page of failed items in ascending position order.
+     *
+     * @param offset number of failed items to skip
+     * @param limit  maximum number of failed items to return
+     * @return the failed items of the page, empty if offset is past the last failure
+     * @throws IllegalArgumentException if offset is negative or limit is not positive
+     */
+    public List<ItemFailure> getFailures(int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            throw new IllegalArgumentException("Offset must not be negative and limit must be positive");
+        }
+        List<ItemFailure> page = new ArrayList<>(Math.min(limit, getFailedCount()));
+        int index = failed.nextSetBit(0);
+        for (int skipped = 0; index >= 0 && skipped < offset; skipped++) {
+            index = failed.nextSetBit(index + 1);
+        }
+        while (index >= 0 && page.size() < limit) {
+            page.add(new ItemFailure(index, errorCodeOf(index)));
+            index = failed.nextSetBit(index + 1);
+        }
+        return page;
+    }
+
+    /**
+     * Returns a bounded summary suitable for an error context or response body: the item counts and, per error
+     * code, the number of failed items, the first failed position and the sample messages.
+     *
+     * @return the summary
+     */
+    public Map<String, Object> summary() {
+        List<Map<String, Object>> errorGroups = new ArrayList<>(groups.size());
+        groups.forEach((code, group) -> {
+            Map<String, Object> errorGroup = new LinkedHashMap<>();
+            errorGroup.put("errorCode", code);
+            errorGroup.put("count", group.indices.cardinality());
+            errorGroup.put("firstIndex", group.indices.nextSetBit(0));
+            errorGroup.put("sampleMessages", List.copyOf(group.samples));
+            errorGroups.add(errorGroup);
+        });
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("totalItems", totalItems);
+        summary.put("failedCount", getFailedCount());
+        summary.put("successCount", getSuccessCount());
+        summary.put("skippedCount", skippedItems);
+        summary.put("errorGroups", errorGroups);
+        return summary;
+    }
+
+    private String errorCodeOf(int index) {
+        for (Map.Entry<String, Group> group : groups.entrySet()) {
+            if (group.getValue().indices.get(index)) {
+                return group.getKey();
+            }
+        }
+        throw new IllegalStateException("No error code recorded for item " + index);
+    }
+
+    /**
+     * Positions and sample messages of one error code.
+     */
+    private static final class Group implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final BitSet indices = new BitSet();
+
+        private final ArrayList<String> samples = new ArrayList<>();
+
+        private Group copy() {
+            Group copy = new Group();
+            copy.indices.or(indices);
+            copy.samples.addAll(samples);
+            return copy;
+        }
+    }
+
+    /**
+     * Position and error code of one failed item.
+     */
+    public static final class ItemFailure implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private final String errorCode;
+
+        private ItemFailure(int index, String errorCode) {
+            this.index = index;
+            this.errorCode = errorCode;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getErrorCode() {
+            return errorCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ItemFailure that)) {
+                return false;
+            }
+            return index == that.index && errorCode.equals(that.errorCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * index + errorCode.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return index + ":" + errorCode;
+        }
+    }
+
+    /**
+     * Builder for {@link BatchFailures}. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private final int totalItems;
+
+        private final BitSet failed = new BitSet();
+
+        private final Map<String, Group> groups = new LinkedHashMap<>();
+
+        private int skippedItems;
+
+        private int sampleMessages = DEFAULT_SAMPLE_MESSAGES;
+
+        private Builder(int totalItems) {
+            if (totalItems < 0) {
+                throw new IllegalArgumentException("Total items must not be negative");
+            }
+            this.totalItems = totalItems;
+        }
+
+        /**
+         * Sets how many messages are retained per error code.
+         *
+         * @param sampleMessages the number of messages, may be 0
+         * @return This builder instance for method chaining
+         * @throws IllegalArgumentException if sampleMessages is negative
+         */
+        public Builder sampleMessages(int sampleMessages) {
+            if (sampleMessages < 0) {
+                throw new IllegalArgumentException("Sample messages must not be negative");
+            }
+            this.sampleMessages = sampleMessages;
+            return this;
+        }
+
+        /**
+         * Records the failure of an item. Only the first failure of an item is recorded.
+         *
+         * @param index     position of the item in the batch
+         * @param errorCode code of the failure
+         * @param message   message of the failure, retained only as a sample
+         * @return This builder instance for method chaining
+         * @throws IllegalArgumentException if index is outside the batch
+         */
+        public Builder fail(int index, String errorCode, String message) {
+            Objects.requireNonNull(errorCode, "errorCode must not be null");
+            if (index < 0 || index >= totalItems) {
+                throw new IllegalArgumentException("Index " + index + " is outside the batch of " + totalItems);
+            }
+            if (failed.get(index)) {
+                return this;
+            }
+            failed.set(index);
+            Group group = groups.computeIfAbsent(errorCode, code -> new Group());
+            group.indices.set(index);
+            if (message != null && group.samples.size() < sampleMessages) {
+                group.samples.add(message);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the number of items that were not processed and count neither as failed nor as succeeded.
+         *
+         * @param skippedItems the number of skipped items
+         * @return This builder instance for method chaining
+         * @throws IllegalArgumentException if skippedItems is negative
+         */
+        public Builder skipped(int skippedItems) {
+            if (skippedItems < 0) {
+                throw new IllegalArgumentException("Skipped items must not be negative");
+            }
+            this.skippedItems = skippedItems;
+            return this;
+        }
+
+        /**
+         * Builds the failures.
+         *
+         * @return the failures
+         * @throws IllegalStateException if skipped and failed items exceed the batch
+         */
+        public BatchFailures build() {
+            if (skippedItems + failed.cardinality() > totalItems) {
+                throw new IllegalStateException("Skipped and failed items exceed the batch of " + totalItems);
+            }
+            return new BatchFailures(this);
+        }
+    }
+}
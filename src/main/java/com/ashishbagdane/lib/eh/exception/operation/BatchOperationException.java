@@ -7,9 +7,15 @@ import java.util.Map;
 
 /**
  * Exception thrown when a batch operation partially or completely fails.
+ *
+ * <p>For large batches, prefer {@link #BatchOperationException(String, BatchFailures)}: its error context holds a
+ * bounded summary instead of every failed item and message, and the full detail stays available through
+ * {@link #getFailures()}.</p>
  */
 public class BatchOperationException extends OperationException {
 
+    private final BatchFailures failures;
+
     public BatchOperationException(String operation, List<String> failedItems, Map<String, String> errors) {
         super(
             ErrorCode.BUSINESS_INVALID_OPERATION,
@@ -21,6 +27,7 @@ public class BatchOperationException extends OperationException {
                 .attribute("totalFailed", failedItems.size())
                 .build()
         );
+        this.failures = null;
     }
 
     public BatchOperationException(String operation, int totalItems, int failedCount, Map<String, String> errors) {
@@ -36,5 +43,41 @@ public class BatchOperationException extends OperationException {
                 .attribute("errors", errors)
                 .build()
         );
+        this.failures = null;
+    }
+
+    /**
+     * Creates an exception whose error context holds the {@link BatchFailures#summary() summary} of the failures
+     * under {@code failureSummary}.
+     *
+     * @param operation the batch operation
+     * @param failures  the failed items
+     * @since 1.1
+     */
+    public BatchOperationException(String operation, BatchFailures failures) {
+        super(
+            ErrorCode.BUSINESS_INVALID_OPERATION,
+            String.format("Batch operation '%s' failed: %d/%d items failed",
+                          operation, failures.getFailedCount(), failures.getTotalItems()),
+            createErrorContext()
+                .attribute("operation", operation)
+                .attribute("totalItems", failures.getTotalItems())
+                .attribute("failedCount", failures.getFailedCount())
+                .attribute("successCount", failures.getSuccessCount())
+                .attribute("skippedCount", failures.getSkippedCount())
+                .attribute("failureSummary", failures.summary())
+                .build()
+        );
+        this.failures = failures;
+    }
+
+    /**
+     * Returns the compact failure store, for paged retrieval of every failed item.
+     *
+     * @return the failures, or null if the exception was created from a list of items or a count
+     * @since 1.1
+     */
+    public BatchFailures getFailures() {
+        return failures;
     }
 }
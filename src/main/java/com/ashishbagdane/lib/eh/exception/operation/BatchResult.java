@@ -0,0 +1,75 @@
+package com.ashishbagdane.lib.eh.exception.operation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a {@link BatchExecutor} run: the result of each succeeded item by position and the
+ * {@link BatchFailures} of the others.
+ *
+ * @param <R> The type of the item results
+ * @since 1.1
+ */
+public final class BatchResult<R> {
+
+    private final String operation;
+
+    private final List<R> results;
+
+    private final BatchFailures failures;
+
+    private final boolean aborted;
+
+    BatchResult(String operation, Object[] results, BatchFailures failures, boolean aborted) {
+        this.operation = operation;
+        @SuppressWarnings("unchecked")
+        List<R> view = (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+        this.results = view;
+        this.failures = failures;
+        this.aborted = aborted;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the item results by position. The entries of failed and skipped items are null.
+     *
+     * @return unmodifiable list with one entry per item
+     */
+    public List<R> getResults() {
+        return results;
+    }
+
+    public BatchFailures getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns whether the run stopped early because the failure threshold was exceeded.
+     *
+     * @return true if some items were skipped
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    public boolean isSuccess() {
+        return !aborted && failures.getFailedCount() == 0;
+    }
+
+    /**
+     * Throws a {@link BatchOperationException} if any item failed or the run was aborted.
+     *
+     * @return this result
+     * @throws BatchOperationException if the batch did not fully succeed
+     */
+    public BatchResult<R> throwIfFailed() {
+        if (!isSuccess()) {
+            throw new BatchOperationException(operation, failures);
+        }
+        return this;
+    }
+}
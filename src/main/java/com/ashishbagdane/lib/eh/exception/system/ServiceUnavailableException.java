@@ -2,13 +2,22 @@ package com.ashishbagdane.lib.eh.exception.system;
 
 import com.ashishbagdane.lib.base.eh.core.ErrorCode;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
 
 /**
  * Exception thrown when a system service is temporarily unavailable.
  */
 public class ServiceUnavailableException extends SystemException {
 
+    private final LocalDateTime retryAfter;
+
+    private final Instant retryAt;
+
     public ServiceUnavailableException(String serviceName, String reason) {
         super(
             ErrorCode.HTTP_SERVICE_UNAVAILABLE,
@@ -19,9 +28,34 @@ public class ServiceUnavailableException extends SystemException {
                 .attribute("timestamp", LocalDateTime.now())
                 .build()
         );
+        this.retryAfter = null;
+        this.retryAt = null;
     }
 
+    /**
+     * Creates the exception with a retry time in the system default time zone, the zone of
+     * {@link LocalDateTime#now()}.
+     */
     public ServiceUnavailableException(String serviceName, String reason, LocalDateTime retryAfter) {
+        this(serviceName, reason, retryAfter,
+             retryAfter == null ? null : retryAfter.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Creates the exception with the instant after which the service is expected to be available again. The clock
+     * provides the time zone of {@link #getRetryAfter()}.
+     *
+     * @since 1.1
+     */
+    public ServiceUnavailableException(String serviceName, String reason, Instant retryAt, Clock clock) {
+        this(serviceName, reason,
+             LocalDateTime.ofInstant(Objects.requireNonNull(retryAt, "retryAt must not be null"),
+                                     Objects.requireNonNull(clock, "clock must not be null").getZone()),
+             retryAt);
+    }
+
+    private ServiceUnavailableException(String serviceName, String reason, LocalDateTime retryAfter,
+                                        Instant retryAt) {
         super(
             ErrorCode.HTTP_SERVICE_UNAVAILABLE,
             String.format("Service '%s' is temporarily unavailable: %s. Please retry after %s",
@@ -32,5 +66,40 @@ public class ServiceUnavailableException extends SystemException {
                 .attribute("retryAfter", retryAfter)
                 .build()
         );
+        this.retryAfter = retryAfter;
+        this.retryAt = retryAt;
+    }
+
+    /**
+     * Returns the time after which the service is expected to be available again.
+     *
+     * @return the retry time, or null if the exception was created without one
+     * @since 1.1
+     */
+    public LocalDateTime getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Returns the instant after which the service is expected to be available again. Unlike
+     * {@link #getRetryAfter()}, the instant does not depend on a time zone.
+     *
+     * @return the retry instant, or null if the exception was created without one
+     * @since 1.1
+     */
+    public Instant getRetryAt() {
+        return retryAt;
+    }
+
+    /**
+     * Returns how long callers should wait from the current instant of the given clock, negative if the retry time
+     * has passed.
+     *
+     * @param clock the clock providing the current instant
+     * @return the retry delay, or null if the exception was created without a retry time
+     * @since 1.1
+     */
+    public Duration getRetryDelay(Clock clock) {
+        return retryAt == null ? null : Duration.between(clock.instant(), retryAt);
     }
 }
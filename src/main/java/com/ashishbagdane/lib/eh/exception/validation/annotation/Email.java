@@ -0,0 +1,30 @@
+package com.ashishbagdane.lib.eh.exception.validation.annotation;
+
+import com.ashishbagdane.lib.eh.exception.validation.validators.EmailFormat;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a character sequence field or getter as an email address. The generated validator reports the same
+ * {@link com.ashishbagdane.lib.base.eh.core.ErrorCode#VALIDATION_INVALID_EMAIL} error as
+ * {@link com.ashishbagdane.lib.eh.exception.validation.validators.EmailFieldValidator}; null values are invalid.
+ *
+ * @see com.ashishbagdane.lib.eh.exception.validation.processor.ValidatorProcessor
+ * @since 1.1
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Email {
+
+    /**
+     * Maximum accepted length of the address.
+     *
+     * @return the maximum length
+     */
+    int maxLength() default EmailFormat.DEFAULT_MAX_LENGTH;
+}
@@ -0,0 +1,22 @@
+package com.ashishbagdane.lib.eh.exception.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field or getter as required. The generated validator reports the same
+ * {@link com.ashishbagdane.lib.base.eh.core.ErrorCode#VALIDATION_MISSING_FIELD} error as
+ * {@link com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator} when the value is null, a
+ * blank character sequence, or an empty collection or map.
+ *
+ * @see com.ashishbagdane.lib.eh.exception.validation.processor.ValidatorProcessor
+ * @since 1.1
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Required {
+}
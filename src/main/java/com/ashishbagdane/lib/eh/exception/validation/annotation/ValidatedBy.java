@@ -0,0 +1,30 @@
+package com.ashishbagdane.lib.eh.exception.validation.annotation;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Applies custom validators to a field or getter value. Each validator class must be public, have a public no-argument
+ * constructor and validate values of the annotated member's type; the generated validator holds one shared instance
+ * of each.
+ *
+ * @see com.ashishbagdane.lib.eh.exception.validation.processor.ValidatorProcessor
+ * @since 1.1
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface ValidatedBy {
+
+    /**
+     * Validators applied to the value, in order.
+     *
+     * @return the validator classes
+     */
+    Class<? extends Validator<?>>[] value();
+}
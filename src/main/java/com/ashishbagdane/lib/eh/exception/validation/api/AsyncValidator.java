@@ -0,0 +1,53 @@
+package com.ashishbagdane.lib.eh.exception.validation.api;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Interface for validations that need I/O or other long running work, such as uniqueness checks or reference
+ * lookups. The result is delivered asynchronously instead of blocking the caller.
+ *
+ * @param <T> The type of object to be validated
+ * @since 1.1
+ */
+@FunctionalInterface
+public interface AsyncValidator<T> {
+
+    /**
+     * Starts validating the input object.
+     *
+     * @param input The object to validate
+     * @return A stage completing with the {@link ValidationResult}, or exceptionally if the check itself failed
+     */
+    CompletionStage<ValidationResult> validateAsync(T input);
+
+    /**
+     * Adapts a synchronous validator by running it on the given executor. If the returned stage is completed or
+     * cancelled before the task starts, the validator is not invoked.
+     *
+     * @param validator The synchronous validator
+     * @param executor  The executor running the validation
+     * @param <T>       The type of object to be validated
+     * @return An {@link AsyncValidator} delegating to the validator
+     */
+    static <T> AsyncValidator<T> of(Validator<T> validator, Executor executor) {
+        Objects.requireNonNull(validator, "validator must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        return input -> {
+            CompletableFuture<ValidationResult> future = new CompletableFuture<>();
+            executor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(validator.validate(input));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            });
+            return future;
+        };
+    }
+}
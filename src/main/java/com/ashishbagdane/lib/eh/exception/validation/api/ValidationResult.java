@@ -36,7 +36,19 @@ public interface ValidationResult {
     List<ValidationError> getErrors();
 
     /**
-     * Creates a successful validation result with no errors.
+     * Indicates whether validation stopped early because an error limit was reached, so {@link #getErrors()} may not
+     * contain every error of the input.
+     *
+     * @return true if the errors are incomplete
+     * @since 1.1
+     */
+    default boolean isTruncated() {
+        return false;
+    }
+
+    /**
+     * Returns the shared successful validation result with no errors. The returned instance is immutable and may be
+     * reused freely.
      *
      * @return A valid {@link ValidationResult}
      */
@@ -53,4 +65,25 @@ public interface ValidationResult {
     static ValidationResult invalid(List<ValidationError> errors) {
         return new DefaultValidationResult(false, errors);
     }
+
+    /**
+     * Creates a failed validation result with a single error.
+     *
+     * @param error The validation error
+     * @return An invalid {@link ValidationResult} containing only the specified error
+     */
+    static ValidationResult invalid(ValidationError error) {
+        return DefaultValidationResult.invalid(error);
+    }
+
+    /**
+     * Creates a failed validation result whose errors are incomplete because an error limit was reached.
+     *
+     * @param errors the errors collected before validation stopped
+     * @return An invalid, truncated {@link ValidationResult}
+     * @since 1.1
+     */
+    static ValidationResult truncated(List<ValidationError> errors) {
+        return DefaultValidationResult.truncated(errors);
+    }
 }
@@ -0,0 +1,271 @@
+package com.ashishbagdane.lib.eh.exception.validation.async;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.AsyncValidator;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator.ValidationType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent {@link AsyncValidator}s concurrently and combines their results in declaration order.
+ *
+ * <p>Each check can be bounded by a per-validator timeout and the whole validation by an overall timeout. A timed
+ * out check is reported as a {@link ErrorCode#VALIDATION_ERROR} error, so validation fails closed. With a fail-fast
+ * {@link ValidationType} the result completes with the first failure to arrive and the remaining checks are
+ * cancelled; with {@link ValidationType#VALIDATE_ALL} all errors are collected. A check that completes exceptionally
+ * completes the combined result exceptionally. Unfinished checks are cancelled before the combined result completes,
+ * and cancelling the combined result cancels them as well.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ConcurrentAsyncValidator<User> validator = ConcurrentAsyncValidator.<User>builder(ValidationType.FAIL_FAST)
+ *     .executor(ioExecutor)
+ *     .addValidator(uniqueEmailCheck)
+ *     .addSyncValidator(new RequiredFieldValidator<>(User::getName, "name"))
+ *     .perValidatorTimeout(Duration.ofMillis(200))
+ *     .overallTimeout(Duration.ofMillis(500))
+ *     .build();
+ * }</pre></p>
+ *
+ * @param <T> The type of object to be validated
+ * @since 1.1
+ */
+public final class ConcurrentAsyncValidator<T> implements AsyncValidator<T> {
+
+    private final List<AsyncValidator<T>> validators;
+
+    private final ValidationType validationType;
+
+    private final Duration perValidatorTimeout;
+
+    private final Duration overallTimeout;
+
+    private final ValidationResult overallTimeoutResult;
+
+    private ConcurrentAsyncValidator(Builder<T> builder) {
+        this.validators = List.copyOf(builder.validators);
+        this.validationType = builder.validationType;
+        this.perValidatorTimeout = builder.perValidatorTimeout;
+        this.overallTimeout = builder.overallTimeout;
+        this.overallTimeoutResult = overallTimeout == null ? null :
+            timeoutResult("Validation timed out", overallTimeout, Map.of());
+    }
+
+    /**
+     * Creates a builder for a concurrent async validator.
+     *
+     * @param validationType how failures are handled
+     * @param <T>            the type of object to be validated
+     * @return a new {@link Builder}
+     */
+    public static <T> Builder<T> builder(ValidationType validationType) {
+        return new Builder<>(validationType);
+    }
+
+    @Override
+    public CompletableFuture<ValidationResult> validateAsync(T input) {
+        int count = validators.size();
+        if (count == 0) {
+            return CompletableFuture.completedFuture(ValidationResult.valid());
+        }
+
+        CompletableFuture<ValidationResult> combined = new CompletableFuture<>();
+        List<CompletableFuture<ValidationResult>> checks = new ArrayList<>(count);
+        ValidationResult[] results = new ValidationResult[count];
+        AtomicInteger remaining = new AtomicInteger(count);
+
+        for (int i = 0; i < count; i++) {
+            int position = i;
+            CompletableFuture<ValidationResult> check;
+            try {
+                check = validators.get(i).validateAsync(input).toCompletableFuture();
+            } catch (RuntimeException e) {
+                check = CompletableFuture.failedFuture(e);
+            }
+            checks.add(check);
+
+            bounded(check, position).whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    combined.completeExceptionally(throwable);
+                    return;
+                }
+                results[position] = result;
+                if (result.isInvalid() && validationType.isFailFast()) {
+                    combined.complete(result);
+                } else if (remaining.decrementAndGet() == 0) {
+                    combined.complete(combine(results));
+                }
+            });
+        }
+
+        if (overallTimeout != null) {
+            combined.completeOnTimeout(overallTimeoutResult, overallTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        // Cancel the checks before callers waiting on the returned future are woken
+        CompletableFuture<ValidationResult> completed = new CompletableFuture<>();
+        combined.whenComplete((result, throwable) -> {
+            checks.forEach(check -> check.cancel(true));
+            if (throwable != null) {
+                completed.completeExceptionally(throwable);
+            } else {
+                completed.complete(result);
+            }
+        });
+        completed.whenComplete((result, throwable) -> combined.cancel(true));
+        return completed;
+    }
+
+    /**
+     * Applies the per-validator timeout to a copy of the check, so cancelling the copy on timeout does not depend on
+     * the validator, and turns a timeout into a validation error.
+     */
+    private CompletableFuture<ValidationResult> bounded(CompletableFuture<ValidationResult> check, int position) {
+        if (perValidatorTimeout == null) {
+            return check;
+        }
+        return check.copy()
+            .orTimeout(perValidatorTimeout.toMillis(), TimeUnit.MILLISECONDS)
+            .handle((result, throwable) -> {
+                if (throwable == null) {
+                    return result;
+                }
+                Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                if (cause instanceof TimeoutException) {
+                    check.cancel(true);
+                    return timeoutResult(String.format("Validator %d timed out", position), perValidatorTimeout,
+                                         Map.of("validatorIndex", position));
+                }
+                throw throwable instanceof CompletionException ?
+                    (CompletionException) throwable : new CompletionException(throwable);
+            });
+    }
+
+    private static ValidationResult combine(ValidationResult[] results) {
+        List<ValidationError> errors = null;
+        for (ValidationResult result : results) {
+            if (result.isInvalid()) {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.addAll(result.getErrors());
+            }
+        }
+        return errors == null ? ValidationResult.valid() : ValidationResult.invalid(errors);
+    }
+
+    private static ValidationResult timeoutResult(String message, Duration timeout, Map<String, Object> metadata) {
+        Map<String, Object> errorMetadata = new HashMap<>(metadata);
+        errorMetadata.put("timeoutMillis", timeout.toMillis());
+        return ValidationResult.invalid(new DefaultValidationError(
+            ErrorCode.VALIDATION_ERROR,
+            String.format("%s after %d ms", message, timeout.toMillis()),
+            errorMetadata));
+    }
+
+    /**
+     * Builder for {@link ConcurrentAsyncValidator}.
+     *
+     * @param <T> The type of object to be validated
+     */
+    public static final class Builder<T> {
+
+        private final ValidationType validationType;
+
+        private final List<AsyncValidator<T>> validators = new ArrayList<>();
+
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Duration perValidatorTimeout;
+
+        private Duration overallTimeout;
+
+        private Builder(ValidationType validationType) {
+            this.validationType = Objects.requireNonNull(validationType, "validationType must not be null");
+        }
+
+        /**
+         * Sets the executor used to run synchronous validators added afterwards. Blocking checks should use a
+         * dedicated executor rather than the default common pool.
+         *
+         * @param executor the executor
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor must not be null");
+            return this;
+        }
+
+        /**
+         * Adds an asynchronous validator.
+         *
+         * @param validator the validator to add
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> addValidator(AsyncValidator<T> validator) {
+            validators.add(Objects.requireNonNull(validator, "validator must not be null"));
+            return this;
+        }
+
+        /**
+         * Adds a synchronous validator, run on the configured executor.
+         *
+         * @param validator the validator to add
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> addSyncValidator(Validator<T> validator) {
+            validators.add(AsyncValidator.of(validator, executor));
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a single validator may take.
+         *
+         * @param timeout the per-validator timeout
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> perValidatorTimeout(Duration timeout) {
+            this.perValidatorTimeout = requirePositive(timeout);
+            return this;
+        }
+
+        /**
+         * Sets the maximum time the whole validation may take.
+         *
+         * @param timeout the overall timeout
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> overallTimeout(Duration timeout) {
+            this.overallTimeout = requirePositive(timeout);
+            return this;
+        }
+
+        public ConcurrentAsyncValidator<T> build() {
+            return new ConcurrentAsyncValidator<>(this);
+        }
+
+        private static Duration requirePositive(Duration timeout) {
+            Objects.requireNonNull(timeout, "timeout must not be null");
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("Timeout must be positive");
+            }
+            return timeout;
+        }
+    }
+}
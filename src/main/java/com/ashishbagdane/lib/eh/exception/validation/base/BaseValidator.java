@@ -5,6 +5,8 @@ import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
 import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Base implementation of the Validator interface providing common functionality for concrete validators.
@@ -13,6 +15,15 @@ import java.util.Map;
  */
 public abstract class BaseValidator<T> implements Validator<T> {
 
+    /**
+     * Maximum number of distinct errors kept by {@link #internError(ErrorCode, String)}.
+     */
+    public static final int MAX_INTERNED_ERRORS = 4_096;
+
+    private static final Map<ErrorCode, Map<String, ValidationError>> INTERNED_ERRORS = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger INTERNED_COUNT = new AtomicInteger();
+
     /**
      * Creates a validation error with the specified error code using its default message.
      *
@@ -45,4 +56,37 @@ public abstract class BaseValidator<T> implements Validator<T> {
     protected ValidationError createError(ErrorCode errorCode, String message, Map<String, Object> metadata) {
         return new DefaultValidationError(errorCode, message, metadata);
     }
+
+    /**
+     * Returns a shared error instance for a constant error code and message. Validation errors are immutable, so
+     * validators can create their errors once at construction and return the same instance on every failure, and
+     * validators with identical errors share one instance.
+     *
+     * <p>Intended for messages that depend only on validator configuration, such as the field name. Once
+     * {@link #MAX_INTERNED_ERRORS} distinct errors are held, further errors are created without being retained.</p>
+     *
+     * @param errorCode the error code
+     * @param message   the error message
+     * @return A shared {@link ValidationError}
+     * @since 1.1
+     */
+    protected static ValidationError internError(ErrorCode errorCode, String message) {
+        // Two-level lookup keyed by the caller's own objects, so a hit allocates nothing
+        Map<String, ValidationError> byMessage =
+            INTERNED_ERRORS.computeIfAbsent(errorCode, code -> new ConcurrentHashMap<>());
+        ValidationError error = byMessage.get(message);
+        if (error != null) {
+            return error;
+        }
+        error = new DefaultValidationError(errorCode, message);
+        if (INTERNED_COUNT.get() >= MAX_INTERNED_ERRORS) {
+            return error;
+        }
+        ValidationError existing = byMessage.putIfAbsent(message, error);
+        if (existing != null) {
+            return existing;
+        }
+        INTERNED_COUNT.incrementAndGet();
+        return error;
+    }
 }
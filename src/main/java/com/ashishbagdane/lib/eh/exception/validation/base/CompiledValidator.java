@@ -0,0 +1,110 @@
+package com.ashishbagdane.lib.eh.exception.validation.base;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable validator that runs a fixed set of validators stored in an array. Unlike {@link CompositeValidator} it
+ * does not use streams: validators are invoked in a plain loop, a lone failure is returned as is and an error list is
+ * only created once a second validator fails, so a fully valid input allocates nothing beyond what the delegates
+ * themselves allocate.
+ *
+ * <p>Instances are normally obtained from
+ * {@link com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder#build()}.</p>
+ *
+ * @param <T> The type of object to be validated
+ * @since 1.1
+ */
+public final class CompiledValidator<T> extends BaseValidator<T> {
+
+    private final Validator<T>[] validators;
+
+    private final int maxErrors;
+
+    /**
+     * Creates a compiled validator from the given validators, preserving their order.
+     *
+     * @param validators the validators to run
+     * @throws NullPointerException if the list or any of its elements is null
+     */
+    public CompiledValidator(List<? extends Validator<T>> validators) {
+        this(validators, ErrorBudget.UNLIMITED);
+    }
+
+    /**
+     * Creates a compiled validator that stops collecting errors once {@code maxErrors} errors were found.
+     *
+     * @param validators the validators to run
+     * @param maxErrors  the maximum number of errors, or {@link ErrorBudget#UNLIMITED}
+     * @throws NullPointerException     if the list or any of its elements is null
+     * @throws IllegalArgumentException if maxErrors is not positive
+     * @since 1.1
+     */
+    @SuppressWarnings("unchecked")
+    public CompiledValidator(List<? extends Validator<T>> validators, int maxErrors) {
+        Objects.requireNonNull(validators, "validators must not be null");
+        this.maxErrors = ErrorBudget.requireValidLimit(maxErrors);
+        this.validators = validators.toArray(new Validator[0]);
+        for (Validator<T> validator : this.validators) {
+            Objects.requireNonNull(validator, "validator must not be null");
+        }
+    }
+
+    @Override
+    public ValidationResult validate(T input) {
+        if (maxErrors != ErrorBudget.UNLIMITED || ErrorBudget.isActive()) {
+            return ErrorBudget.validateAll(Arrays.asList(validators), input, maxErrors);
+        }
+
+        ValidationResult firstFailure = null;
+        List<ValidationError> errors = null;
+
+        for (Validator<T> validator : validators) {
+            ValidationResult result = validator.validate(input);
+
+            if (result.isInvalid()) {
+                if (firstFailure == null) {
+                    firstFailure = result;
+                } else {
+                    errors = CompositeValidator.merge(errors, firstFailure, result);
+                }
+            }
+        }
+
+        return CompositeValidator.completeResult(firstFailure, errors);
+    }
+
+    /**
+     * Returns the validators in execution order.
+     *
+     * @return unmodifiable list of validators
+     */
+    public List<Validator<T>> getValidators() {
+        return Collections.unmodifiableList(Arrays.asList(validators));
+    }
+
+    /**
+     * Returns the maximum number of errors collected by this validator.
+     *
+     * @return the error limit, or {@link ErrorBudget#UNLIMITED}
+     * @since 1.1
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * Returns the number of validators in this validator.
+     *
+     * @return validator count
+     */
+    public int size() {
+        return validators.length;
+    }
+}
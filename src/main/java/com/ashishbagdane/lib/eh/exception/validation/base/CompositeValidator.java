@@ -6,12 +6,16 @@ import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Composite validator that can combine multiple validators into a single validation chain. Supports adding multiple
  * validators and executing them in sequence.
  *
+ * <p>Validation runs in a plain loop; the shared valid result is returned when all validators pass and an error list
+ * is only allocated once a second validator fails.</p>
+ *
+ * <p>A maximum error count bounds the collected errors; see {@link ErrorBudget}.</p>
+ *
  * @param <T> The type of object to be validated
  * @since 1.0
  */
@@ -19,19 +23,88 @@ public abstract class CompositeValidator<T> extends BaseValidator<T> {
 
     protected final List<Validator<T>> validators = new ArrayList<>();
 
+    private int maxErrors = ErrorBudget.UNLIMITED;
+
     protected void addValidator(Validator<T> validator) {
         validators.add(validator);
     }
 
+    /**
+     * Sets the maximum number of errors collected. Validation stops and the result is marked truncated once the limit
+     * is reached.
+     *
+     * @param maxErrors the maximum number of errors, or {@link ErrorBudget#UNLIMITED}
+     * @throws IllegalArgumentException if maxErrors is not positive
+     * @since 1.1
+     */
+    protected void setMaxErrors(int maxErrors) {
+        this.maxErrors = ErrorBudget.requireValidLimit(maxErrors);
+    }
+
+    /**
+     * Returns the maximum number of errors collected by this validator.
+     *
+     * @return the error limit, or {@link ErrorBudget#UNLIMITED}
+     * @since 1.1
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
     @Override
     public ValidationResult validate(T input) {
-        List<ValidationError> errors = validators.stream()
-            .map(validator -> validator.validate(input))
-            .filter(result -> result.isInvalid())
-            .flatMap(result -> result.getErrors().stream())
-            .collect(Collectors.toList());
-
-        return errors.isEmpty() ? ValidationResult.valid() :
-            ValidationResult.invalid(errors);
+        if (maxErrors != ErrorBudget.UNLIMITED || ErrorBudget.isActive()) {
+            return ErrorBudget.validateAll(validators, input, maxErrors);
+        }
+
+        ValidationResult firstFailure = null;
+        List<ValidationError> errors = null;
+
+        for (int i = 0; i < validators.size(); i++) {
+            ValidationResult result = validators.get(i).validate(input);
+
+            if (result.isInvalid()) {
+                if (firstFailure == null) {
+                    firstFailure = result;
+                } else {
+                    errors = merge(errors, firstFailure, result);
+                }
+            }
+        }
+
+        return completeResult(firstFailure, errors);
+    }
+
+    /**
+     * Adds the errors of a further failed result to the accumulated error list, creating the list from the first
+     * failure when needed.
+     *
+     * @param errors       the accumulated errors, or null if only one result has failed so far
+     * @param firstFailure the first failed result
+     * @param result       the failed result to add
+     * @return the accumulated error list
+     */
+    protected static List<ValidationError> merge(List<ValidationError> errors, ValidationResult firstFailure,
+                                                 ValidationResult result) {
+        if (errors == null) {
+            errors = new ArrayList<>(firstFailure.getErrors());
+        }
+        errors.addAll(result.getErrors());
+        return errors;
+    }
+
+    /**
+     * Produces the final result: the shared valid result if nothing failed, the first failed result unchanged if it
+     * was the only failure, and a new result over the accumulated errors otherwise.
+     *
+     * @param firstFailure the first failed result, or null if all validators passed
+     * @param errors       the accumulated errors, or null if at most one result failed
+     * @return the combined {@link ValidationResult}
+     */
+    protected static ValidationResult completeResult(ValidationResult firstFailure, List<ValidationError> errors) {
+        if (errors != null) {
+            return ValidationResult.invalid(errors);
+        }
+        return firstFailure != null ? firstFailure : ValidationResult.valid();
     }
 }
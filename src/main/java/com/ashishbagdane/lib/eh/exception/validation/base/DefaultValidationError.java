@@ -3,7 +3,6 @@ package com.ashishbagdane.lib.eh.exception.validation.base;
 import com.ashishbagdane.lib.base.eh.core.ErrorCode;
 import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 
@@ -24,7 +23,7 @@ public class DefaultValidationError implements ValidationError {
      * @param errorCode the error code
      */
     public DefaultValidationError(ErrorCode errorCode) {
-        this(errorCode, errorCode.getDefaultMessage(), Collections.emptyMap());
+        this(errorCode, errorCode.getDefaultMessage(), Map.of());
     }
 
     /**
@@ -34,7 +33,7 @@ public class DefaultValidationError implements ValidationError {
      * @param message   custom error message
      */
     public DefaultValidationError(ErrorCode errorCode, String message) {
-        this(errorCode, message, Collections.emptyMap());
+        this(errorCode, message, Map.of());
     }
 
     /**
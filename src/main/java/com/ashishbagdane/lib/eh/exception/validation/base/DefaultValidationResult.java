@@ -15,16 +15,26 @@ import java.util.Objects;
  * and failure results (containing validation errors). It provides static factory methods for convenient creation of
  * common validation results.</p>
  *
+ * <p>Successful results are represented by the shared {@link #VALID} instance and single-error failures wrap their
+ * error without copying, so the common validation paths do not allocate intermediate collections.</p>
+ *
  * @see ValidationResult
  * @see ValidationError
  * @since 1.0
  */
 public class DefaultValidationResult implements ValidationResult {
 
+    /**
+     * Shared immutable successful validation result.
+     */
+    public static final ValidationResult VALID = new DefaultValidationResult(Collections.emptyList());
+
     private final boolean valid;
 
     private final List<ValidationError> errors;
 
+    private final boolean truncated;
+
     /**
      * Creates a new validation result with the specified status and errors.
      *
@@ -35,15 +45,39 @@ public class DefaultValidationResult implements ValidationResult {
     public DefaultValidationResult(boolean valid, List<ValidationError> errors) {
         this.valid = valid;
         this.errors = Collections.unmodifiableList(Objects.requireNonNull(errors, "errors must not be null"));
+        this.truncated = false;
+    }
+
+    /**
+     * Creates a result from an already immutable error list; the result is valid if the list is empty.
+     *
+     * @param errors immutable list of validation errors
+     */
+    private DefaultValidationResult(List<ValidationError> errors) {
+        this.valid = errors.isEmpty();
+        this.errors = errors;
+        this.truncated = false;
+    }
+
+    /**
+     * Creates a failed result whose errors are incomplete.
+     *
+     * @param errors    immutable list of the collected validation errors
+     * @param truncated always true; distinguishes this constructor
+     */
+    private DefaultValidationResult(List<ValidationError> errors, boolean truncated) {
+        this.valid = false;
+        this.errors = errors;
+        this.truncated = truncated;
     }
 
     /**
-     * Creates a successful validation result with no errors.
+     * Returns the shared successful validation result with no errors.
      *
-     * @return a valid {@link ValidationResult}
+     * @return the {@link #VALID} result
      */
     public static ValidationResult valid() {
-        return new DefaultValidationResult(true, Collections.emptyList());
+        return VALID;
     }
 
     /**
@@ -57,6 +91,32 @@ public class DefaultValidationResult implements ValidationResult {
         return new DefaultValidationResult(false, errors);
     }
 
+    /**
+     * Creates a failed validation result containing a single error.
+     *
+     * @param error the validation error
+     * @return an invalid {@link ValidationResult} containing only the specified error
+     * @throws NullPointerException if error is null
+     */
+    public static ValidationResult invalid(ValidationError error) {
+        return new DefaultValidationResult(
+            Collections.singletonList(Objects.requireNonNull(error, "error must not be null")));
+    }
+
+    /**
+     * Creates a failed validation result whose errors are incomplete because an error limit was reached. The result
+     * is invalid even if no error was collected.
+     *
+     * @param errors the errors collected before validation stopped
+     * @return an invalid, truncated {@link ValidationResult}
+     * @throws NullPointerException if errors list is null
+     * @since 1.1
+     */
+    public static ValidationResult truncated(List<ValidationError> errors) {
+        return new DefaultValidationResult(
+            Collections.unmodifiableList(Objects.requireNonNull(errors, "errors must not be null")), true);
+    }
+
     @Override
     public boolean isValid() {
         return valid;
@@ -67,9 +127,16 @@ public class DefaultValidationResult implements ValidationResult {
         return errors;
     }
 
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
     @Override
     public String toString() {
-        return String.format("ValidationResult{valid=%s, errors=%s}", valid, errors);
+        return truncated ?
+            String.format("ValidationResult{valid=%s, errors=%s, truncated=true}", valid, errors) :
+            String.format("ValidationResult{valid=%s, errors=%s}", valid, errors);
     }
 
     @Override
@@ -80,11 +147,11 @@ public class DefaultValidationResult implements ValidationResult {
         if (!(o instanceof DefaultValidationResult that)) {
             return false;
         }
-        return valid == that.valid && Objects.equals(errors, that.errors);
+        return valid == that.valid && truncated == that.truncated && Objects.equals(errors, that.errors);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(valid, errors);
+        return Objects.hash(valid, errors, truncated);
     }
 }
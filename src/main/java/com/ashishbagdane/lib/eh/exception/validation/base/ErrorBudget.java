@@ -0,0 +1,155 @@
+package com.ashishbagdane.lib.eh.exception.validation.base;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Limits the number of errors collected by collect-all validation, so that an input with thousands of invalid
+ * entries produces a bounded error list.
+ *
+ * <p>A composite validator configured with a maximum error count opens a budget for the current thread while it
+ * runs. Nested composites share that budget, optionally narrowed by their own limit, and stop running their
+ * validators once it is spent. Every error is charged once, by the innermost composite that collects it, so the total
+ * number of errors in the top-level result never exceeds the limit. A result that stopped early is
+ * {@link ValidationResult#isTruncated() truncated}.</p>
+ *
+ * <p>Validators without a limit that run outside any budget take the unbudgeted path and pay a single volatile read
+ * for the check.</p>
+ *
+ * @since 1.1
+ */
+public final class ErrorBudget {
+
+    /**
+     * Maximum error count meaning no limit.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final ThreadLocal<ErrorBudget> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean used;
+
+    private final ErrorBudget parent;
+
+    private int remaining;
+
+    private int charged;
+
+    private ErrorBudget(ErrorBudget parent, int remaining) {
+        this.parent = parent;
+        this.remaining = remaining;
+    }
+
+    /**
+     * Indicates whether validation of the current thread runs under an error budget.
+     *
+     * @return true if a budget is active
+     */
+    public static boolean isActive() {
+        return used && CURRENT.get() != null;
+    }
+
+    /**
+     * Validates a maximum error count.
+     *
+     * @param maxErrors the maximum number of errors, or {@link #UNLIMITED}
+     * @return the validated count
+     * @throws IllegalArgumentException if maxErrors is not positive
+     */
+    public static int requireValidLimit(int maxErrors) {
+        if (maxErrors <= 0) {
+            throw new IllegalArgumentException("Max errors must be positive");
+        }
+        return maxErrors;
+    }
+
+    /**
+     * Runs the validators in order and collects their errors within the current budget and the given limit.
+     *
+     * @param validators the validators to run
+     * @param input      the object to validate
+     * @param maxErrors  the limit of this composite, or {@link #UNLIMITED} to only honour an enclosing budget
+     * @param <T>        the type of object to be validated
+     * @return the combined result, truncated if validation stopped early
+     */
+    static <T> ValidationResult validateAll(List<? extends Validator<T>> validators, T input, int maxErrors) {
+        ErrorBudget outer = CURRENT.get();
+        ErrorBudget budget = outer;
+        if (outer == null) {
+            used = true;
+            budget = new ErrorBudget(null, maxErrors);
+        } else if (maxErrors < outer.remaining) {
+            budget = new ErrorBudget(outer, maxErrors);
+        }
+
+        CURRENT.set(budget);
+        try {
+            return budget.collect(validators, input);
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    private <T> ValidationResult collect(List<? extends Validator<T>> validators, T input) {
+        ValidationResult firstFailure = null;
+        List<ValidationError> errors = null;
+        boolean truncated = false;
+
+        for (int i = 0; i < validators.size(); i++) {
+            if (remaining == 0) {
+                truncated = true;
+                break;
+            }
+
+            int chargedBefore = charged;
+            ValidationResult result = validators.get(i).validate(input);
+            if (result.isValid()) {
+                continue;
+            }
+
+            // Errors collected by a nested composite were charged while it ran
+            List<ValidationError> resultErrors = result.getErrors();
+            int alreadyCharged = Math.min(charged - chargedBefore, resultErrors.size());
+            int keep = alreadyCharged + charge(resultErrors.size() - alreadyCharged);
+            boolean trimmed = keep < resultErrors.size();
+            truncated |= trimmed || result.isTruncated();
+
+            if (!trimmed && firstFailure == null && errors == null) {
+                firstFailure = result;
+            } else {
+                if (errors == null) {
+                    errors = firstFailure == null ? new ArrayList<>() : new ArrayList<>(firstFailure.getErrors());
+                }
+                errors.addAll(trimmed ? resultErrors.subList(0, keep) : resultErrors);
+            }
+        }
+
+        if (truncated) {
+            return ValidationResult.truncated(
+                errors != null ? errors : firstFailure != null ? firstFailure.getErrors() : List.of());
+        }
+        return CompositeValidator.completeResult(firstFailure, errors);
+    }
+
+    /**
+     * Charges up to {@code count} errors to this budget and its parents.
+     *
+     * @return the number of errors that fit into the budget
+     */
+    private int charge(int count) {
+        int accepted = Math.min(count, remaining);
+        for (ErrorBudget budget = this; budget != null; budget = budget.parent) {
+            budget.remaining -= Math.min(accepted, budget.remaining);
+            budget.charged += accepted;
+        }
+        return accepted;
+    }
+}
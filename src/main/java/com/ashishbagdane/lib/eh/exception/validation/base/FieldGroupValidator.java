@@ -0,0 +1,54 @@
+package com.ashishbagdane.lib.eh.exception.validation.base;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Field validator that extracts a field once and runs a validator over the extracted value. Used to group several
+ * rules on the same field, or all rules on a nested object, so that computed getters and deep paths are evaluated
+ * once per validation.
+ *
+ * @param <T> The type of object containing the field to validate
+ * @param <F> The type of the field to validate
+ * @since 1.1
+ */
+public final class FieldGroupValidator<T, F> extends FieldValidator<T, F> {
+
+    private final Validator<F> fieldValidator;
+
+    private final boolean skipNull;
+
+    /**
+     * Creates a field group validator.
+     *
+     * @param fieldExtractor Function to extract the field value from the object
+     * @param fieldName      Name of the field or path
+     * @param fieldValidator Validator applied to the extracted value
+     * @param skipNull       Whether a null value is considered valid without invoking the validator
+     */
+    public FieldGroupValidator(Function<T, F> fieldExtractor, String fieldName, Validator<F> fieldValidator,
+                               boolean skipNull) {
+        super(Objects.requireNonNull(fieldExtractor, "fieldExtractor must not be null"), fieldName);
+        this.fieldValidator = Objects.requireNonNull(fieldValidator, "fieldValidator must not be null");
+        this.skipNull = skipNull;
+    }
+
+    @Override
+    protected ValidationResult validateField(F field) {
+        if (field == null && skipNull) {
+            return ValidationResult.valid();
+        }
+        return fieldValidator.validate(field);
+    }
+
+    Validator<F> getFieldValidator() {
+        return fieldValidator;
+    }
+
+    boolean isSkipNull() {
+        return skipNull;
+    }
+}
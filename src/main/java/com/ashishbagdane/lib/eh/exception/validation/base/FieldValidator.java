@@ -33,4 +33,8 @@ public abstract class FieldValidator<T, F> extends BaseValidator<T> {
     protected String getFieldName() {
         return fieldName;
     }
+
+    Function<T, F> getFieldExtractor() {
+        return fieldExtractor;
+    }
 }
@@ -0,0 +1,471 @@
+package com.ashishbagdane.lib.eh.exception.validation.base;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Compiles a validator definition into a hidden class with one straight-line {@code validate} method.
+ *
+ * <p>A {@link CompiledValidator} calls its delegates from a single loop, so the JIT sees one megamorphic call site for
+ * {@link Validator#validate} and, inside every field validator, one for {@link Function#apply}. The generated class
+ * instead holds every delegate and field extractor in its own static final field and invokes each from its own call
+ * site: a {@link FieldValidator}, such as those added by {@code validateRequired} or {@code validateEmail}, is split
+ * into a call of its extractor and a call of its field check. Every call site sees a single receiver class, which
+ * the JIT can inline, and the constant fields let it skip the loads altogether. Field validators that override
+ * {@code validate} are called as a whole.</p>
+ *
+ * <p>Nested {@link CompiledValidator}s without an error limit are flattened into the enclosing method and each
+ * {@link FieldGroupValidator} extracts its field once into a local variable that its rules read, so a definition
+ * built with {@link com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder#validateField} and
+ * {@link com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder#validateNested} runs without any
+ * intermediate validator objects. Errors are collected and combined exactly as by {@link CompiledValidator}.</p>
+ *
+ * <p>Hidden classes are not strongly linked to their defining loader, so a compiled validator that is discarded, for
+ * example after reloading rule configuration, can be unloaded. HotSpot does not JIT-compile methods above 8,000 bytes
+ * of bytecode, so the checks are generated into methods of at most {@value #CHECKS_PER_METHOD} checks, which
+ * {@code validate} calls in order; a field group with more checks gets a method of its own. Definitions for which
+ * a generated method would still exceed {@value #MAX_METHOD_SIZE} bytes, or that reference more than
+ * {@value #MAX_CONSTANTS} validators and extractors, are returned as a {@link CompiledValidator} instead. The generated
+ * methods do not consult an {@link ErrorBudget}; validators that
+ * need an error limit are not compiled.</p>
+ *
+ * @since 1.1
+ */
+public final class HiddenClassValidatorCompiler {
+
+    /**
+     * Maximum number of checks generated into one method.
+     */
+    public static final int CHECKS_PER_METHOD = 100;
+
+    /**
+     * Maximum bytecode size of a generated method.
+     */
+    public static final int MAX_METHOD_SIZE = 5_000;
+
+    /**
+     * Maximum number of validators and field extractors referenced by one generated class. Each is loaded by the static
+     * initializer, which must stay below the 64 KB limit of a method.
+     */
+    public static final int MAX_CONSTANTS = 2_500;
+
+    private static final String CLASS_NAME =
+        Type.getInternalName(HiddenClassValidatorCompiler.class).replace("HiddenClassValidatorCompiler",
+                                                                        "GeneratedValidator");
+
+    private static final String OBJECT = Type.getInternalName(Object.class);
+
+    private static final String VALIDATOR = Type.getInternalName(Validator.class);
+
+    private static final String VALIDATOR_DESCRIPTOR = Type.getDescriptor(Validator.class);
+
+    private static final String FUNCTION = Type.getInternalName(Function.class);
+
+    private static final String FUNCTION_DESCRIPTOR = Type.getDescriptor(Function.class);
+
+    private static final String FIELD_VALIDATOR = Type.getInternalName(FieldValidator.class);
+
+    private static final String FIELD_VALIDATOR_DESCRIPTOR = Type.getDescriptor(FieldValidator.class);
+
+    private static final String VALIDATION_RESULT = Type.getInternalName(ValidationResult.class);
+
+    private static final String VALIDATION_RESULT_DESCRIPTOR = Type.getDescriptor(ValidationResult.class);
+
+    private static final String VALIDATE_DESCRIPTOR = "(Ljava/lang/Object;)" + VALIDATION_RESULT_DESCRIPTOR;
+
+    private static final String LIST_DESCRIPTOR = Type.getDescriptor(List.class);
+
+    private static final int INPUT = 1;
+
+    private static final int FIRST_FAILURE = 2;
+
+    private static final int ERRORS = 3;
+
+    private static final int RESULT = 4;
+
+    private static final int FIRST_FIELD = 5;
+
+    private HiddenClassValidatorCompiler() {
+    }
+
+    /**
+     * Compiles the given validators, run in order with all errors collected, into a single generated validator.
+     *
+     * @param validators the validators to run
+     * @param <T>        the type of object to be validated
+     * @return a validator equivalent to {@code new CompiledValidator<>(validators)}
+     * @throws NullPointerException  if the list or any of its elements is null
+     * @throws IllegalStateException if the class cannot be defined
+     */
+    public static <T> Validator<T> compile(List<? extends Validator<T>> validators) {
+        CompiledValidator<T> definition = new CompiledValidator<>(validators);
+        Generator generator = new Generator();
+        byte[] bytes = generator.generate(definition);
+        if (bytes == null) {
+            return definition;
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup()
+                .defineHiddenClassWithClassData(bytes, List.copyOf(generator.constants), true);
+            @SuppressWarnings("unchecked")
+            Validator<T> validator = (Validator<T>) lookup
+                .findConstructor(lookup.lookupClass(), MethodType.methodType(void.class))
+                .invoke();
+            return validator;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to define compiled validator", e);
+        }
+    }
+
+    private static int countChecks(Validator<?> validator) {
+        if (validator instanceof CompiledValidator<?> compiled && compiled.getMaxErrors() == ErrorBudget.UNLIMITED) {
+            int count = 0;
+            for (Validator<?> child : compiled.getValidators()) {
+                count += countChecks(child);
+            }
+            return count;
+        }
+        if (validator instanceof FieldGroupValidator<?, ?> group) {
+            return 1 + countChecks(group.getFieldValidator());
+        }
+        return 1;
+    }
+
+    /**
+     * Returns the number of checks the validator adds to the enclosing method. A field group too large for one method
+     * only adds its extraction and the call of its own method.
+     */
+    private static int inlinedChecks(Validator<?> validator) {
+        int checks = countChecks(validator);
+        return checks > CHECKS_PER_METHOD && validator instanceof FieldGroupValidator<?, ?> ? 2 : checks;
+    }
+
+    /**
+     * Collects the validators that {@code validate} runs, with nested {@link CompiledValidator}s without an error
+     * limit replaced by their children.
+     */
+    private static List<Validator<?>> flatten(Validator<?> validator, List<Validator<?>> units) {
+        if (validator instanceof CompiledValidator<?> compiled && compiled.getMaxErrors() == ErrorBudget.UNLIMITED) {
+            for (Validator<?> child : compiled.getValidators()) {
+                flatten(child, units);
+            }
+        } else {
+            units.add(validator);
+        }
+        return units;
+    }
+
+    /**
+     * Splits the validators into consecutive chunks of at most {@value #CHECKS_PER_METHOD} checks. A single validator
+     * with more checks forms a chunk of its own.
+     */
+    private static List<List<Validator<?>>> chunk(List<Validator<?>> units) {
+        List<List<Validator<?>>> chunks = new ArrayList<>();
+        List<Validator<?>> chunk = new ArrayList<>();
+        int checks = 0;
+        for (Validator<?> unit : units) {
+            int unitChecks = inlinedChecks(unit);
+            if (!chunk.isEmpty() && checks + unitChecks > CHECKS_PER_METHOD) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                checks = 0;
+            }
+            chunk.add(unit);
+            checks += unitChecks;
+        }
+        chunks.add(chunk);
+        return chunks;
+    }
+
+    /**
+     * Returns whether the field validator runs {@link FieldValidator#validate}, so its extractor and field check can
+     * be called separately.
+     */
+    private static boolean isSplittable(FieldValidator<?, ?> validator) {
+        if (validator.getFieldExtractor() == null) {
+            return false;
+        }
+        try {
+            return validator.getClass().getMethod("validate", Object.class).getDeclaringClass()
+                == FieldValidator.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String constantName(int index) {
+        return "c" + index;
+    }
+
+    /**
+     * Generates the class of one compiled validator and collects the constants its static fields are loaded from.
+     */
+    private static final class Generator {
+
+        private final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // Locals only hold interface types, which the verifier treats as Object anyway
+                return OBJECT;
+            }
+        };
+
+        private final List<Object> constants = new ArrayList<>();
+
+        private final List<String> constantTypes = new ArrayList<>();
+
+        private int methodCount;
+
+        private boolean tooLarge;
+
+        /**
+         * Returns the class file, or null if a generated method or the number of constants exceeds its limit.
+         */
+        byte[] generate(CompiledValidator<?> definition) {
+            writer.visit(Opcodes.V11, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, CLASS_NAME, null,
+                         OBJECT, new String[]{VALIDATOR});
+
+            MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+            constructor.visitCode();
+            constructor.visitVarInsn(Opcodes.ALOAD, 0);
+            constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+            constructor.visitInsn(Opcodes.RETURN);
+            constructor.visitMaxs(0, 0);
+            constructor.visitEnd();
+
+            define("validate", Opcodes.ACC_PUBLIC, flatten(definition, new ArrayList<>()));
+            if (tooLarge || constants.size() > MAX_CONSTANTS) {
+                return null;
+            }
+
+            writeStaticInitializer();
+            writer.visitEnd();
+            return writer.toByteArray();
+        }
+
+        /**
+         * Writes a method with the signature of {@code validate} that runs the validators, collecting and combining
+         * errors exactly as {@link CompiledValidator#validate}. Validators exceeding one method are moved into chunk
+         * methods whose results are combined the same way.
+         */
+        void define(String name, int access, List<Validator<?>> units) {
+            List<List<Validator<?>>> chunks = chunk(units);
+            MethodEmitter emitter = new MethodEmitter(this, writer.visitMethod(access, name, VALIDATE_DESCRIPTOR,
+                                                                               null, null));
+            emitter.begin();
+            if (chunks.size() == 1) {
+                for (Validator<?> unit : chunks.get(0)) {
+                    emitter.emit(unit, INPUT);
+                }
+            } else {
+                for (List<Validator<?>> chunk : chunks) {
+                    String chunkName = nextMethodName();
+                    define(chunkName, Opcodes.ACC_PRIVATE, chunk);
+                    emitter.emitCall(chunkName, INPUT);
+                }
+            }
+            tooLarge |= emitter.end() > MAX_METHOD_SIZE;
+        }
+
+        String nextMethodName() {
+            return "checks" + methodCount++;
+        }
+
+        /**
+         * Loads every constant from the class data into its static final field.
+         */
+        private void writeStaticInitializer() {
+            MethodVisitor initializer = writer.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+            initializer.visitCode();
+            for (int i = 0; i < constantTypes.size(); i++) {
+                String descriptor = constantTypes.get(i);
+                initializer.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(MethodHandles.class),
+                                            "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+                initializer.visitLdcInsn("_");
+                initializer.visitLdcInsn(Type.getType(Object.class));
+                initializer.visitLdcInsn(i);
+                initializer.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(MethodHandles.class),
+                                            "classDataAt",
+                                            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;"
+                                                + "Ljava/lang/Class;I)Ljava/lang/Object;", false);
+                initializer.visitTypeInsn(Opcodes.CHECKCAST, Type.getType(descriptor).getInternalName());
+                initializer.visitFieldInsn(Opcodes.PUTSTATIC, CLASS_NAME, constantName(i), descriptor);
+            }
+            initializer.visitInsn(Opcodes.RETURN);
+            initializer.visitMaxs(0, 0);
+            initializer.visitEnd();
+        }
+    }
+
+    /**
+     * Emits the straight-line body of one generated method, declaring one static final field per constant it
+     * references.
+     */
+    private static final class MethodEmitter {
+
+        private final Generator generator;
+
+        private final MethodVisitor method;
+
+        private int nextLocal = FIRST_FIELD;
+
+        MethodEmitter(Generator generator, MethodVisitor method) {
+            this.generator = generator;
+            this.method = method;
+        }
+
+        void begin() {
+            method.visitCode();
+            method.visitInsn(Opcodes.ACONST_NULL);
+            method.visitVarInsn(Opcodes.ASTORE, FIRST_FAILURE);
+            method.visitInsn(Opcodes.ACONST_NULL);
+            method.visitVarInsn(Opcodes.ASTORE, ERRORS);
+        }
+
+        /**
+         * Emits the combination of the collected results and returns the bytecode size of the method up to it.
+         */
+        int end() {
+            Label end = new Label();
+            method.visitLabel(end);
+            method.visitVarInsn(Opcodes.ALOAD, FIRST_FAILURE);
+            method.visitVarInsn(Opcodes.ALOAD, ERRORS);
+            method.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(CompositeValidator.class),
+                                   "completeResult",
+                                   "(" + VALIDATION_RESULT_DESCRIPTOR + LIST_DESCRIPTOR + ")"
+                                       + VALIDATION_RESULT_DESCRIPTOR, false);
+            method.visitInsn(Opcodes.ARETURN);
+            method.visitMaxs(0, 0);
+            method.visitEnd();
+            return end.getOffset();
+        }
+
+        void emit(Validator<?> validator, int inputLocal) {
+            if (validator instanceof CompiledValidator<?> compiled
+                && compiled.getMaxErrors() == ErrorBudget.UNLIMITED) {
+                for (Validator<?> child : compiled.getValidators()) {
+                    emit(child, inputLocal);
+                }
+            } else if (validator instanceof FieldGroupValidator<?, ?> group) {
+                emitFieldGroup(group, inputLocal);
+            } else if (validator instanceof FieldValidator<?, ?> field && isSplittable(field)) {
+                emitField(field, inputLocal);
+            } else {
+                emitCheck(validator, inputLocal);
+            }
+        }
+
+        private void emitFieldGroup(FieldGroupValidator<?, ?> group, int inputLocal) {
+            int fieldLocal = nextLocal++;
+            loadConstant(group.getFieldExtractor(), FUNCTION_DESCRIPTOR);
+            method.visitVarInsn(Opcodes.ALOAD, inputLocal);
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, FUNCTION, "apply",
+                                   "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+            method.visitVarInsn(Opcodes.ASTORE, fieldLocal);
+
+            Label skip = new Label();
+            if (group.isSkipNull()) {
+                method.visitVarInsn(Opcodes.ALOAD, fieldLocal);
+                method.visitJumpInsn(Opcodes.IFNULL, skip);
+            }
+            if (countChecks(group.getFieldValidator()) > CHECKS_PER_METHOD) {
+                String name = generator.nextMethodName();
+                generator.define(name, Opcodes.ACC_PRIVATE, flatten(group.getFieldValidator(), new ArrayList<>()));
+                emitCall(name, fieldLocal);
+            } else {
+                emit(group.getFieldValidator(), fieldLocal);
+            }
+            if (group.isSkipNull()) {
+                method.visitLabel(skip);
+            }
+        }
+
+        /**
+         * Emits {@code result = validator.validateField(extractor.apply(input))} followed by the accumulation of the
+         * result, giving the extractor a call site of its own.
+         */
+        private void emitField(FieldValidator<?, ?> validator, int inputLocal) {
+            loadConstant(validator, FIELD_VALIDATOR_DESCRIPTOR);
+            loadConstant(validator.getFieldExtractor(), FUNCTION_DESCRIPTOR);
+            method.visitVarInsn(Opcodes.ALOAD, inputLocal);
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, FUNCTION, "apply",
+                                   "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+            method.visitMethodInsn(Opcodes.INVOKEVIRTUAL, FIELD_VALIDATOR, "validateField", VALIDATE_DESCRIPTOR,
+                                   false);
+            emitAccumulate();
+        }
+
+        /**
+         * Emits {@code result = validator.validate(input)} followed by the same accumulation as
+         * {@link CompiledValidator#validate}.
+         */
+        private void emitCheck(Validator<?> validator, int inputLocal) {
+            loadConstant(validator, VALIDATOR_DESCRIPTOR);
+            method.visitVarInsn(Opcodes.ALOAD, inputLocal);
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, VALIDATOR, "validate", VALIDATE_DESCRIPTOR, true);
+            emitAccumulate();
+        }
+
+        /**
+         * Emits {@code result = this.name(input)} for a generated method followed by the accumulation of its result.
+         */
+        void emitCall(String name, int inputLocal) {
+            method.visitVarInsn(Opcodes.ALOAD, 0);
+            method.visitVarInsn(Opcodes.ALOAD, inputLocal);
+            method.visitMethodInsn(Opcodes.INVOKESPECIAL, CLASS_NAME, name, VALIDATE_DESCRIPTOR, false);
+            emitAccumulate();
+        }
+
+        /**
+         * Emits the accumulation of the result on the stack, as done by {@link CompiledValidator#validate}.
+         */
+        private void emitAccumulate() {
+            method.visitVarInsn(Opcodes.ASTORE, RESULT);
+
+            Label done = new Label();
+            Label merge = new Label();
+            method.visitVarInsn(Opcodes.ALOAD, RESULT);
+            method.visitMethodInsn(Opcodes.INVOKEINTERFACE, VALIDATION_RESULT, "isInvalid", "()Z", true);
+            method.visitJumpInsn(Opcodes.IFEQ, done);
+            method.visitVarInsn(Opcodes.ALOAD, FIRST_FAILURE);
+            method.visitJumpInsn(Opcodes.IFNONNULL, merge);
+            method.visitVarInsn(Opcodes.ALOAD, RESULT);
+            method.visitVarInsn(Opcodes.ASTORE, FIRST_FAILURE);
+            method.visitJumpInsn(Opcodes.GOTO, done);
+
+            method.visitLabel(merge);
+            method.visitVarInsn(Opcodes.ALOAD, ERRORS);
+            method.visitVarInsn(Opcodes.ALOAD, FIRST_FAILURE);
+            method.visitVarInsn(Opcodes.ALOAD, RESULT);
+            method.visitMethodInsn(Opcodes.INVOKESTATIC, Type.getInternalName(CompositeValidator.class), "merge",
+                                   "(" + LIST_DESCRIPTOR + VALIDATION_RESULT_DESCRIPTOR + VALIDATION_RESULT_DESCRIPTOR
+                                       + ")" + LIST_DESCRIPTOR, false);
+            method.visitVarInsn(Opcodes.ASTORE, ERRORS);
+            method.visitLabel(done);
+        }
+
+        private void loadConstant(Object constant, String descriptor) {
+            String name = constantName(generator.constants.size());
+            generator.constants.add(Objects.requireNonNull(constant));
+            generator.constantTypes.add(descriptor);
+            generator.writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, name, descriptor,
+                                        null, null).visitEnd();
+            method.visitFieldInsn(Opcodes.GETSTATIC, CLASS_NAME, name, descriptor);
+        }
+    }
+}
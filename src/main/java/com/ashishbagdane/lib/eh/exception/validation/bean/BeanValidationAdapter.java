@@ -0,0 +1,247 @@
+package com.ashishbagdane.lib.eh.exception.validation.bean;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.constraints.AssertFalse;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.NegativeOrZero;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Null;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Adapts a Jakarta Bean Validation {@link jakarta.validation.Validator} to the {@link Validator} model of this
+ * module, so annotated beans and programmatic validators report errors the same way.
+ *
+ * <p>Each {@link ConstraintViolation} becomes a {@link DefaultValidationError} whose error code is looked up by the
+ * constraint annotation type in a table built once by the {@link Builder}. Constraints missing from the table, such
+ * as custom constraints, use the default error code. The error metadata contains the property path under
+ * {@value #FIELD_METADATA} and the simple name of the constraint annotation under {@value #CONSTRAINT_METADATA}.
+ * Errors are ordered by property path and constraint name, as the delegate reports violations in no defined
+ * order.</p>
+ *
+ * <p>Whether a bean class declares any constraints is looked up once per class; instances of classes without
+ * constraints are reported valid without calling the delegate.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Validator<Order> validator = BeanValidationAdapter.<Order>builder(jakartaValidator)
+ *     .mapConstraint(Iban.class, ErrorCode.VALIDATION_INVALID_FORMAT)
+ *     .groups(OnCreate.class)
+ *     .build();
+ * }</pre></p>
+ *
+ * @param <T> The type of object to be validated
+ * @since 1.1
+ */
+public final class BeanValidationAdapter<T> implements Validator<T> {
+
+    /**
+     * Metadata key of the property path of the violation.
+     */
+    public static final String FIELD_METADATA = "field";
+
+    /**
+     * Metadata key of the simple name of the violated constraint.
+     */
+    public static final String CONSTRAINT_METADATA = "constraint";
+
+    private static final Map<Class<? extends Annotation>, ErrorCode> DEFAULT_ERROR_CODES = defaultErrorCodes();
+
+    private static final Comparator<ValidationError> ERROR_ORDER = Comparator
+        .comparing((ValidationError error) -> (String) error.getMetadata().get(FIELD_METADATA))
+        .thenComparing(error -> (String) error.getMetadata().get(CONSTRAINT_METADATA));
+
+    private final jakarta.validation.Validator delegate;
+
+    private final Class<?>[] groups;
+
+    private final Map<Class<? extends Annotation>, ErrorCode> errorCodes;
+
+    private final ErrorCode defaultErrorCode;
+
+    private final ClassValue<Boolean> constrainedTypes = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return delegate.getConstraintsForClass(type).isBeanConstrained();
+        }
+    };
+
+    private BeanValidationAdapter(Builder<T> builder) {
+        this.delegate = builder.delegate;
+        this.groups = builder.groups;
+        this.errorCodes = Map.copyOf(builder.errorCodes);
+        this.defaultErrorCode = builder.defaultErrorCode;
+    }
+
+    /**
+     * Creates an adapter with the default constraint table.
+     *
+     * @param delegate the Bean Validation validator
+     * @param <T>      the type of object to be validated
+     * @return a new {@link BeanValidationAdapter}
+     */
+    public static <T> BeanValidationAdapter<T> of(jakarta.validation.Validator delegate) {
+        return BeanValidationAdapter.<T>builder(delegate).build();
+    }
+
+    /**
+     * Creates a builder for a Bean Validation adapter.
+     *
+     * @param delegate the Bean Validation validator
+     * @param <T>      the type of object to be validated
+     * @return a new {@link Builder}
+     */
+    public static <T> Builder<T> builder(jakarta.validation.Validator delegate) {
+        return new Builder<>(delegate);
+    }
+
+    @Override
+    public ValidationResult validate(T input) {
+        Objects.requireNonNull(input, "input must not be null");
+        if (!constrainedTypes.get(input.getClass())) {
+            return ValidationResult.valid();
+        }
+
+        Set<ConstraintViolation<T>> violations = delegate.validate(input, groups);
+        if (violations.isEmpty()) {
+            return ValidationResult.valid();
+        }
+        if (violations.size() == 1) {
+            return ValidationResult.invalid(toError(violations.iterator().next()));
+        }
+
+        List<ValidationError> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<T> violation : violations) {
+            errors.add(toError(violation));
+        }
+        errors.sort(ERROR_ORDER);
+        return ValidationResult.invalid(errors);
+    }
+
+    private ValidationError toError(ConstraintViolation<T> violation) {
+        Class<? extends Annotation> constraint = violation.getConstraintDescriptor().getAnnotation().annotationType();
+        ErrorCode errorCode = errorCodes.getOrDefault(constraint, defaultErrorCode);
+        return new DefaultValidationError(errorCode, violation.getMessage(), Map.of(
+            FIELD_METADATA, violation.getPropertyPath().toString(),
+            CONSTRAINT_METADATA, constraint.getSimpleName()));
+    }
+
+    private static Map<Class<? extends Annotation>, ErrorCode> defaultErrorCodes() {
+        Map<Class<? extends Annotation>, ErrorCode> codes = new HashMap<>();
+        codes.put(NotNull.class, ErrorCode.VALIDATION_MISSING_FIELD);
+        codes.put(NotBlank.class, ErrorCode.VALIDATION_MISSING_FIELD);
+        codes.put(NotEmpty.class, ErrorCode.VALIDATION_MISSING_FIELD);
+        codes.put(Email.class, ErrorCode.VALIDATION_INVALID_EMAIL);
+        codes.put(Pattern.class, ErrorCode.VALIDATION_INVALID_FORMAT);
+        codes.put(Digits.class, ErrorCode.VALIDATION_INVALID_FORMAT);
+        codes.put(Null.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(AssertTrue.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(AssertFalse.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(Size.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(Min.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(Max.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(DecimalMin.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(DecimalMax.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(Positive.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(PositiveOrZero.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(Negative.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(NegativeOrZero.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(Past.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(PastOrPresent.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(Future.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        codes.put(FutureOrPresent.class, ErrorCode.VALIDATION_INVALID_PARAMETER);
+        return Map.copyOf(codes);
+    }
+
+    /**
+     * Builder for {@link BeanValidationAdapter}.
+     *
+     * @param <T> The type of object to be validated
+     */
+    public static final class Builder<T> {
+
+        private final jakarta.validation.Validator delegate;
+
+        private final Map<Class<? extends Annotation>, ErrorCode> errorCodes = new HashMap<>(DEFAULT_ERROR_CODES);
+
+        private ErrorCode defaultErrorCode = ErrorCode.VALIDATION_ERROR;
+
+        private Class<?>[] groups = new Class<?>[0];
+
+        private Builder(jakarta.validation.Validator delegate) {
+            this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        }
+
+        /**
+         * Maps a constraint annotation to an error code, replacing the default mapping if there is one.
+         *
+         * @param constraint the constraint annotation type
+         * @param errorCode  the error code of its violations
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> mapConstraint(Class<? extends Annotation> constraint, ErrorCode errorCode) {
+            errorCodes.put(Objects.requireNonNull(constraint, "constraint must not be null"),
+                           Objects.requireNonNull(errorCode, "errorCode must not be null"));
+            return this;
+        }
+
+        /**
+         * Sets the error code of constraints without a mapping. Defaults to {@link ErrorCode#VALIDATION_ERROR}.
+         *
+         * @param errorCode the fallback error code
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> defaultErrorCode(ErrorCode errorCode) {
+            this.defaultErrorCode = Objects.requireNonNull(errorCode, "errorCode must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the validation groups passed to the delegate. Without groups the default group is validated.
+         *
+         * @param groups the validation groups
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> groups(Class<?>... groups) {
+            for (Class<?> group : groups) {
+                Objects.requireNonNull(group, "group must not be null");
+            }
+            this.groups = groups.clone();
+            return this;
+        }
+
+        public BeanValidationAdapter<T> build() {
+            return new BeanValidationAdapter<>(this);
+        }
+    }
+}
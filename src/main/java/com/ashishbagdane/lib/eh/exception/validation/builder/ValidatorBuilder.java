@@ -1,17 +1,41 @@
 package com.ashishbagdane.lib.eh.exception.validation.builder;
 
 import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
-import com.ashishbagdane.lib.eh.exception.validation.base.CompositeValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.CompiledValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.ErrorBudget;
+import com.ashishbagdane.lib.eh.exception.validation.base.FieldGroupValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.HiddenClassValidatorCompiler;
+import com.ashishbagdane.lib.eh.exception.validation.validators.DoubleFieldValidator;
 import com.ashishbagdane.lib.eh.exception.validation.validators.EmailFieldValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.InstrumentedValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.IntFieldValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.LongFieldValidator;
 import com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Builder for creating validator chains with a fluent API. Provides convenience methods for adding common validators.
  *
+ * <p>Rules added with {@link #validateRequired} and {@link #validateEmail} extract their field independently. To
+ * extract a field once for several rules use {@link #validateField}, and use {@link #validateNested} to evaluate a
+ * path such as {@code order.getCustomer()} once for all rules on the nested object:
+ * <pre>{@code
+ * Validator<Order> validator = new ValidatorBuilder<Order>()
+ *     .validateField(Order::getContactEmail, "contactEmail", rules -> rules.required().email())
+ *     .validateNested(Order::getCustomer, "customer", customer -> customer
+ *         .validateField(Customer::getName, "customer.name", rules -> rules.required()))
+ *     .build();
+ * }</pre></p>
+ *
  * @param <T> The type of object to be validated
  * @since 1.0
  */
@@ -19,6 +43,61 @@ public class ValidatorBuilder<T> {
 
     private final List<Validator<T>> validators = new ArrayList<>();
 
+    private int maxErrors = ErrorBudget.UNLIMITED;
+
+    private MeterRegistry meterRegistry;
+
+    private String metricName;
+
+    private int sampleEvery = InstrumentedValidator.DEFAULT_SAMPLE_EVERY;
+
+    /**
+     * Limits the number of errors the built validator collects. Validation stops once the limit is reached and the
+     * result is marked {@link com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult#isTruncated()
+     * truncated}. The limit also applies to nested validators built with {@link #validateField} and
+     * {@link #validateNested}.
+     *
+     * @param maxErrors the maximum number of errors
+     * @return This builder instance for method chaining
+     * @throws IllegalArgumentException if maxErrors is not positive
+     */
+    public ValidatorBuilder<T> maxErrors(int maxErrors) {
+        this.maxErrors = ErrorBudget.requireValidLimit(maxErrors);
+        return this;
+    }
+
+    /**
+     * Records pass/fail counts and sampled latencies of the built validator in the given registry, as described in
+     * {@link InstrumentedValidator}. One call in {@value InstrumentedValidator#DEFAULT_SAMPLE_EVERY} is timed.
+     *
+     * @param registry the registry the meters are registered with
+     * @param name     the validator name, used as the {@code validator} tag
+     * @return This builder instance for method chaining
+     */
+    public ValidatorBuilder<T> instrument(MeterRegistry registry, String name) {
+        return instrument(registry, name, InstrumentedValidator.DEFAULT_SAMPLE_EVERY);
+    }
+
+    /**
+     * Records pass/fail counts and sampled latencies of the built validator in the given registry, timing about one
+     * call in {@code sampleEvery}.
+     *
+     * @param registry    the registry the meters are registered with
+     * @param name        the validator name, used as the {@code validator} tag
+     * @param sampleEvery the latency sampling interval
+     * @return This builder instance for method chaining
+     * @see InstrumentedValidator.Builder#sampleEvery(int)
+     */
+    public ValidatorBuilder<T> instrument(MeterRegistry registry, String name, int sampleEvery) {
+        this.meterRegistry = Objects.requireNonNull(registry, "registry must not be null");
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Validator name cannot be null or empty");
+        }
+        this.metricName = name;
+        this.sampleEvery = sampleEvery;
+        return this;
+    }
+
     /**
      * Adds a custom validator to the chain.
      *
@@ -54,11 +133,192 @@ public class ValidatorBuilder<T> {
         return this;
     }
 
+    /**
+     * Adds a group of rules on one field. The field is extracted once per validation and every rule is applied to the
+     * extracted value, in the order the rules were added.
+     *
+     * @param fieldExtractor Function to extract the field
+     * @param fieldName      Name of the field for error messages
+     * @param rules          Callback adding the rules for the field
+     * @param <F>            The type of the field
+     * @return This builder instance for method chaining
+     */
+    public <F> ValidatorBuilder<T> validateField(Function<T, F> fieldExtractor, String fieldName,
+                                                 Consumer<FieldRules<F>> rules) {
+        FieldRules<F> fieldRules = new FieldRules<>(fieldName);
+        rules.accept(fieldRules);
+        if (!fieldRules.validators.isEmpty()) {
+            validators.add(new FieldGroupValidator<>(fieldExtractor, fieldName,
+                                                     new CompiledValidator<>(fieldRules.validators), false));
+        }
+        return this;
+    }
+
+    /**
+     * Adds checks on an {@code int} field. The field is read without boxing.
+     *
+     * @param fieldExtractor Function to extract the field
+     * @param fieldName      Name of the field for error messages
+     * @param rules          Callback configuring the checks, e.g. {@code rules -> rules.positive().max(100)}
+     * @return This builder instance for method chaining
+     */
+    public ValidatorBuilder<T> validateInt(ToIntFunction<T> fieldExtractor, String fieldName,
+                                           Consumer<IntFieldValidator.Builder<T>> rules) {
+        IntFieldValidator.Builder<T> builder = IntFieldValidator.builder(fieldExtractor, fieldName);
+        rules.accept(builder);
+        validators.add(builder.build());
+        return this;
+    }
+
+    /**
+     * Adds checks on a {@code long} field. The field is read without boxing.
+     *
+     * @param fieldExtractor Function to extract the field
+     * @param fieldName      Name of the field for error messages
+     * @param rules          Callback configuring the checks
+     * @return This builder instance for method chaining
+     */
+    public ValidatorBuilder<T> validateLong(ToLongFunction<T> fieldExtractor, String fieldName,
+                                            Consumer<LongFieldValidator.Builder<T>> rules) {
+        LongFieldValidator.Builder<T> builder = LongFieldValidator.builder(fieldExtractor, fieldName);
+        rules.accept(builder);
+        validators.add(builder.build());
+        return this;
+    }
+
+    /**
+     * Adds checks on a {@code double} field. The field is read without boxing.
+     *
+     * @param fieldExtractor Function to extract the field
+     * @param fieldName      Name of the field for error messages
+     * @param rules          Callback configuring the checks, e.g. {@code rules -> rules.positive().multipleOf(0.01)}
+     * @return This builder instance for method chaining
+     */
+    public ValidatorBuilder<T> validateDouble(ToDoubleFunction<T> fieldExtractor, String fieldName,
+                                              Consumer<DoubleFieldValidator.Builder<T>> rules) {
+        DoubleFieldValidator.Builder<T> builder = DoubleFieldValidator.builder(fieldExtractor, fieldName);
+        rules.accept(builder);
+        validators.add(builder.build());
+        return this;
+    }
+
+    /**
+     * Adds validation of a nested object. The nested object is extracted once per validation and shared by all rules
+     * configured on the nested builder. A null nested object is not validated; combine with
+     * {@link #validateRequired} if it must be present.
+     *
+     * @param pathExtractor Function to extract the nested object
+     * @param pathName      Name of the nested object
+     * @param nestedRules   Callback configuring the validators of the nested object
+     * @param <P>           The type of the nested object
+     * @return This builder instance for method chaining
+     */
+    public <P> ValidatorBuilder<T> validateNested(Function<T, P> pathExtractor, String pathName,
+                                                  Consumer<ValidatorBuilder<P>> nestedRules) {
+        ValidatorBuilder<P> nestedBuilder = new ValidatorBuilder<>();
+        nestedRules.accept(nestedBuilder);
+        if (!nestedBuilder.validators.isEmpty()) {
+            validators.add(new FieldGroupValidator<>(pathExtractor, pathName, nestedBuilder.build(), true));
+        }
+        return this;
+    }
+
+    /**
+     * Builds an immutable validator running all added validators in order. Later changes to this builder do not
+     * affect validators that have already been built.
+     *
+     * @return A {@link CompiledValidator} containing the configured validators, wrapped in an
+     * {@link InstrumentedValidator} if {@link #instrument} was called
+     */
     public Validator<T> build() {
-        return new CompositeValidator<T>() {
-            {
-                validators.forEach(this::addValidator);
-            }
-        };
+        return instrumented(new CompiledValidator<>(validators, maxErrors));
+    }
+
+    /**
+     * Builds a validator like {@link #build()} and compiles it into a generated class that invokes every rule from
+     * its own call site. Compilation costs a class definition, so this suits validators that are built once, such as
+     * rules loaded from configuration at startup, and then run on many inputs.
+     *
+     * <p>Generated validators do not support an error limit; if {@link #maxErrors} was set this returns the same
+     * validator as {@link #build()}.</p>
+     *
+     * @return A validator generated by {@link HiddenClassValidatorCompiler}
+     */
+    public Validator<T> compile() {
+        if (maxErrors != ErrorBudget.UNLIMITED) {
+            return build();
+        }
+        return instrumented(HiddenClassValidatorCompiler.compile(validators));
+    }
+
+    private Validator<T> instrumented(Validator<T> validator) {
+        if (meterRegistry == null) {
+            return validator;
+        }
+        return InstrumentedValidator.builder(validator, meterRegistry, metricName)
+            .sampleEvery(sampleEvery)
+            .build();
+    }
+
+    /**
+     * Rules applied to a single extracted field value.
+     *
+     * @param <F> The type of the field
+     */
+    public static final class FieldRules<F> {
+
+        private final String fieldName;
+
+        private final List<Validator<F>> validators = new ArrayList<>();
+
+        private FieldRules(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        /**
+         * Requires the field to be present and not empty.
+         *
+         * @return These rules for method chaining
+         */
+        public FieldRules<F> required() {
+            validators.add(new RequiredFieldValidator<>(Function.identity(), fieldName));
+            return this;
+        }
+
+        /**
+         * Requires the field to be a well-formed email address. Values that are not character sequences are invalid.
+         *
+         * @return These rules for method chaining
+         */
+        public FieldRules<F> email() {
+            validators.add(new EmailFieldValidator<>(FieldRules::asString, fieldName));
+            return this;
+        }
+
+        /**
+         * Requires the field to be a well-formed email address no longer than the given length.
+         *
+         * @param maxLength Maximum accepted length of the address
+         * @return These rules for method chaining
+         */
+        public FieldRules<F> email(int maxLength) {
+            validators.add(new EmailFieldValidator<>(FieldRules::asString, fieldName, maxLength));
+            return this;
+        }
+
+        /**
+         * Adds a custom validator for the field value.
+         *
+         * @param validator The validator applied to the extracted value
+         * @return These rules for method chaining
+         */
+        public FieldRules<F> rule(Validator<F> validator) {
+            validators.add(Objects.requireNonNull(validator, "validator must not be null"));
+            return this;
+        }
+
+        private static String asString(Object value) {
+            return value instanceof CharSequence ? value.toString() : null;
+        }
     }
 }
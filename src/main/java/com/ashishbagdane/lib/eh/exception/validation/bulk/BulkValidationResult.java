@@ -0,0 +1,119 @@
+package com.ashishbagdane.lib.eh.exception.validation.bulk;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Result of validating a collection of items. Per-item outcome is kept as a bitmap of failed indices, while the
+ * collected errors are capped and tagged with their item index.
+ *
+ * <p>All errors returned by {@link #getErrors()} are {@link IndexedValidationError} instances.</p>
+ *
+ * @see BulkValidator
+ * @since 1.1
+ */
+public final class BulkValidationResult implements ValidationResult {
+
+    private final int totalCount;
+
+    private final BitSet invalidItems;
+
+    private final int invalidCount;
+
+    private final List<ValidationError> errors;
+
+    private final boolean truncated;
+
+    BulkValidationResult(int totalCount, BitSet invalidItems, List<ValidationError> errors, boolean truncated) {
+        this.totalCount = totalCount;
+        this.invalidItems = Objects.requireNonNull(invalidItems, "invalidItems must not be null");
+        this.invalidCount = invalidItems.cardinality();
+        this.errors = Collections.unmodifiableList(Objects.requireNonNull(errors, "errors must not be null"));
+        this.truncated = truncated;
+    }
+
+    @Override
+    public boolean isValid() {
+        return invalidCount == 0;
+    }
+
+    /**
+     * Returns the collected errors, ordered by item index. When {@link #isTruncated()} is true this is only a subset
+     * of the errors produced.
+     *
+     * @return List of {@link IndexedValidationError}
+     */
+    @Override
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Checks whether the item at the given index passed validation.
+     *
+     * @param index zero-based item index
+     * @return true if the item is valid
+     * @throws IndexOutOfBoundsException if index is outside the validated input
+     */
+    public boolean isItemValid(int index) {
+        Objects.checkIndex(index, totalCount);
+        return !invalidItems.get(index);
+    }
+
+    /**
+     * Returns the indices of all failed items, regardless of error truncation.
+     *
+     * @return a copy of the failed item bitmap
+     */
+    public BitSet getInvalidItems() {
+        return (BitSet) invalidItems.clone();
+    }
+
+    /**
+     * Gets the number of validated items.
+     *
+     * @return total item count
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the number of items that failed validation.
+     *
+     * @return failed item count
+     */
+    public int getInvalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * Gets the number of items that passed validation.
+     *
+     * @return valid item count
+     */
+    public int getValidCount() {
+        return totalCount - invalidCount;
+    }
+
+    /**
+     * Indicates whether errors were dropped because the error limit was reached.
+     *
+     * @return true if {@link #getErrors()} does not contain every error
+     */
+    @Override
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkValidationResult{total=%d, invalid=%d, errors=%d, truncated=%s}",
+                             totalCount, invalidCount, errors.size(), truncated);
+    }
+}
@@ -0,0 +1,288 @@
+package com.ashishbagdane.lib.eh.exception.validation.bulk;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Validates large collections of items with a single item {@link Validator}. Inputs smaller than the parallel
+ * threshold are validated in the calling thread; larger inputs are split into chunks and validated on a
+ * {@link ForkJoinPool}.
+ *
+ * <p>The number of collected errors is capped by {@code maxErrors}. The failed item bitmap of the result is always
+ * complete, but once the cap is reached further errors are dropped and the result is marked as truncated. With
+ * parallel execution the retained errors are not necessarily those of the lowest indices.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * BulkValidator<Row> bulkValidator = BulkValidator.builder(rowValidator)
+ *     .parallelThreshold(50_000)
+ *     .maxErrors(500)
+ *     .build();
+ * BulkValidationResult result = bulkValidator.validateAll(rows);
+ * }</pre></p>
+ *
+ * @param <T> The type of the items to be validated
+ * @since 1.1
+ */
+public final class BulkValidator<T> {
+
+    /**
+     * Default input size from which validation runs in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    /**
+     * Default number of items validated by a single task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 2_048;
+
+    /**
+     * Default maximum number of collected errors.
+     */
+    public static final int DEFAULT_MAX_ERRORS = 1_000;
+
+    private final Validator<? super T> validator;
+
+    private final int parallelThreshold;
+
+    private final int chunkSize;
+
+    private final int maxErrors;
+
+    private final ForkJoinPool pool;
+
+    private BulkValidator(Builder<T> builder) {
+        this.validator = builder.validator;
+        this.parallelThreshold = builder.parallelThreshold;
+        // Chunks are aligned to 64 items so that every task owns whole words of the failure bitmap
+        this.chunkSize = Math.max(Long.SIZE, (builder.chunkSize + Long.SIZE - 1) & -Long.SIZE);
+        this.maxErrors = builder.maxErrors;
+        this.pool = builder.pool;
+    }
+
+    /**
+     * Creates a bulk validator with default settings.
+     *
+     * @param validator the validator applied to each item
+     * @param <T>       the item type
+     * @return a new {@link BulkValidator}
+     */
+    public static <T> BulkValidator<T> of(Validator<? super T> validator) {
+        return BulkValidator.<T>builder(validator).build();
+    }
+
+    /**
+     * Creates a builder for a bulk validator.
+     *
+     * @param validator the validator applied to each item
+     * @param <T>       the item type
+     * @return a new {@link Builder}
+     */
+    public static <T> Builder<T> builder(Validator<? super T> validator) {
+        return new Builder<>(validator);
+    }
+
+    /**
+     * Validates all items of the given list.
+     *
+     * @param items the items to validate
+     * @return a {@link BulkValidationResult} with the failed item indices and indexed errors
+     * @throws NullPointerException if items is null
+     */
+    public BulkValidationResult validateAll(List<? extends T> items) {
+        Objects.requireNonNull(items, "items must not be null");
+        List<? extends T> source = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        int size = source.size();
+
+        long[] invalidWords = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        ErrorBudget budget = new ErrorBudget(maxErrors);
+        boolean parallel = size >= parallelThreshold;
+        ChunkTask task = new ChunkTask(source, 0, size, invalidWords, budget, parallel);
+
+        List<ValidationError> errors = parallel ? pool.invoke(task) : task.compute();
+
+        return new BulkValidationResult(size, BitSet.valueOf(invalidWords), errors, budget.isExhausted());
+    }
+
+    /**
+     * Shared cap on the number of collected errors.
+     */
+    private static final class ErrorBudget {
+
+        private final AtomicInteger remaining;
+
+        private volatile boolean exhausted;
+
+        ErrorBudget(int maxErrors) {
+            this.remaining = new AtomicInteger(maxErrors);
+        }
+
+        boolean tryAcquire() {
+            if (!exhausted && remaining.getAndDecrement() > 0) {
+                return true;
+            }
+            exhausted = true;
+            return false;
+        }
+
+        boolean isExhausted() {
+            return exhausted;
+        }
+    }
+
+    /**
+     * Validates a range of items, splitting it in halves until it fits in a chunk.
+     */
+    private final class ChunkTask extends RecursiveTask<List<ValidationError>> {
+
+        private final List<? extends T> items;
+
+        private final int from;
+
+        private final int to;
+
+        private final long[] invalidWords;
+
+        private final ErrorBudget budget;
+
+        private final boolean parallel;
+
+        ChunkTask(List<? extends T> items, int from, int to, long[] invalidWords, ErrorBudget budget,
+                  boolean parallel) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.invalidWords = invalidWords;
+            this.budget = budget;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected List<ValidationError> compute() {
+            int middle = ((from + to) >>> 1) & -Long.SIZE;
+            if (!parallel || to - from <= chunkSize || middle <= from) {
+                return validateRange();
+            }
+
+            ChunkTask right = new ChunkTask(items, middle, to, invalidWords, budget, true);
+            right.fork();
+            List<ValidationError> errors = new ChunkTask(items, from, middle, invalidWords, budget, true).compute();
+            List<ValidationError> rightErrors = right.join();
+
+            if (errors.isEmpty()) {
+                return rightErrors;
+            }
+            errors.addAll(rightErrors);
+            return errors;
+        }
+
+        private List<ValidationError> validateRange() {
+            List<ValidationError> errors = new ArrayList<>();
+
+            for (int i = from; i < to; i++) {
+                ValidationResult result = validator.validate(items.get(i));
+
+                if (result.isInvalid()) {
+                    invalidWords[i >>> 6] |= 1L << i;
+                    for (ValidationError error : result.getErrors()) {
+                        if (!budget.tryAcquire()) {
+                            break;
+                        }
+                        errors.add(new IndexedValidationError(i, error));
+                    }
+                }
+            }
+
+            return errors;
+        }
+    }
+
+    /**
+     * Builder for {@link BulkValidator}.
+     *
+     * @param <T> The type of the items to be validated
+     */
+    public static final class Builder<T> {
+
+        private final Validator<? super T> validator;
+
+        private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+        private int maxErrors = DEFAULT_MAX_ERRORS;
+
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        private Builder(Validator<? super T> validator) {
+            this.validator = Objects.requireNonNull(validator, "validator must not be null");
+        }
+
+        /**
+         * Sets the input size from which validation runs in parallel.
+         *
+         * @param parallelThreshold minimum number of items for parallel validation
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> parallelThreshold(int parallelThreshold) {
+            if (parallelThreshold < 0) {
+                throw new IllegalArgumentException("Parallel threshold cannot be negative");
+            }
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of items validated by a single task; rounded up to a multiple of 64.
+         *
+         * @param chunkSize items per task
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("Chunk size must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of errors collected across all items.
+         *
+         * @param maxErrors error limit
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> maxErrors(int maxErrors) {
+            if (maxErrors < 0) {
+                throw new IllegalArgumentException("Max errors cannot be negative");
+            }
+            this.maxErrors = maxErrors;
+            return this;
+        }
+
+        /**
+         * Sets the pool used for parallel validation. Defaults to the common pool.
+         *
+         * @param pool the fork-join pool
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> pool(ForkJoinPool pool) {
+            this.pool = Objects.requireNonNull(pool, "pool must not be null");
+            return this;
+        }
+
+        public BulkValidator<T> build() {
+            return new BulkValidator<>(this);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ashishbagdane.lib.eh.exception.validation.bulk;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Validation error tagged with the position of the item that produced it within a bulk input.
+ *
+ * @since 1.1
+ */
+public final class IndexedValidationError implements ValidationError {
+
+    private final long index;
+
+    private final ValidationError error;
+
+    /**
+     * Creates an indexed error.
+     *
+     * @param index position of the failing item in the input
+     * @param error the underlying validation error
+     */
+    public IndexedValidationError(long index, ValidationError error) {
+        this.index = index;
+        this.error = Objects.requireNonNull(error, "error must not be null");
+    }
+
+    /**
+     * Gets the position of the failing item in the input.
+     *
+     * @return zero-based item index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the error reported by the item validator.
+     *
+     * @return the underlying {@link ValidationError}
+     */
+    public ValidationError getError() {
+        return error;
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return error.getErrorCode();
+    }
+
+    @Override
+    public String getMessage() {
+        return error.getMessage();
+    }
+
+    @Override
+    public Map<String, Object> getMetadata() {
+        return error.getMetadata();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IndexedValidationError{index=%d, error=%s}", index, error);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IndexedValidationError that)) {
+            return false;
+        }
+        return index == that.index && error.equals(that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, error);
+    }
+}
@@ -0,0 +1,318 @@
+package com.ashishbagdane.lib.eh.exception.validation.graph;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs named validation rules that depend on other rules, replacing nested {@code ChainedValidator}s for cross-field
+ * checks.
+ *
+ * <p>Each rule declares the rules it requires. Rules run in topological order, ties broken by declaration order, and
+ * a rule is skipped when any of its prerequisites failed or was skipped itself, so a date range check never reports
+ * errors for dates that are missing. Skipped rules contribute no errors. The errors of the result are ordered by the
+ * execution order of the rules.</p>
+ *
+ * <p>Without an executor all rules run in the calling thread. With an executor, rules whose prerequisites are
+ * complete run concurrently, so independent branches of the graph proceed in parallel; {@link #validate(Object)}
+ * still blocks until every rule has finished. Rules must then be safe to call from any thread.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * ValidatorGraph<Booking> validator = ValidatorGraph.<Booking>builder()
+ *     .rule("checkIn", new RequiredFieldValidator<>(Booking::getCheckIn, "checkIn"))
+ *     .rule("checkOut", new RequiredFieldValidator<>(Booking::getCheckOut, "checkOut"))
+ *     .rule("stay", stayLengthValidator, "checkIn", "checkOut")
+ *     .build();
+ * }</pre></p>
+ *
+ * @param <T> The type of object to be validated
+ * @since 1.1
+ */
+public final class ValidatorGraph<T> implements Validator<T> {
+
+    private final List<String> names;
+
+    private final List<Validator<T>> validators;
+
+    /**
+     * Prerequisites of each rule, as positions in the execution order.
+     */
+    private final int[][] prerequisites;
+
+    private final Executor executor;
+
+    private ValidatorGraph(List<String> names, List<Validator<T>> validators, int[][] prerequisites,
+                           Executor executor) {
+        this.names = names;
+        this.validators = validators;
+        this.prerequisites = prerequisites;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a builder for a validator graph.
+     *
+     * @param <T> the type of object to be validated
+     * @return a new {@link Builder}
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the rule names in execution order.
+     *
+     * @return an unmodifiable list of rule names
+     */
+    public List<String> getExecutionOrder() {
+        return names;
+    }
+
+    @Override
+    public ValidationResult validate(T input) {
+        Objects.requireNonNull(input, "input must not be null");
+        ValidationResult[] results = executor == null ? validateSequentially(input) : validateConcurrently(input);
+        return combine(results);
+    }
+
+    /**
+     * Runs the rules in execution order. A null entry marks a skipped rule.
+     */
+    private ValidationResult[] validateSequentially(T input) {
+        ValidationResult[] results = new ValidationResult[validators.size()];
+        for (int i = 0; i < results.length; i++) {
+            if (prerequisitesPassed(results, i)) {
+                results[i] = validators.get(i).validate(input);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Starts every rule once its prerequisites have completed. A rule whose prerequisites failed completes with null
+     * without being submitted to the executor.
+     */
+    private ValidationResult[] validateConcurrently(T input) {
+        int count = validators.size();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<ValidationResult>[] futures = new CompletableFuture[count];
+
+        for (int i = 0; i < count; i++) {
+            int position = i;
+            int[] required = prerequisites[i];
+            if (required.length == 0) {
+                futures[i] = CompletableFuture.supplyAsync(() -> validators.get(position).validate(input), executor);
+                continue;
+            }
+            CompletableFuture<?>[] dependencies = new CompletableFuture[required.length];
+            for (int j = 0; j < required.length; j++) {
+                dependencies[j] = futures[required[j]];
+            }
+            futures[i] = CompletableFuture.allOf(dependencies).thenCompose(ignored -> {
+                for (int prerequisite : required) {
+                    ValidationResult result = futures[prerequisite].join();
+                    if (result == null || result.isInvalid()) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                }
+                return CompletableFuture.supplyAsync(() -> validators.get(position).validate(input), executor);
+            });
+        }
+
+        ValidationResult[] results = new ValidationResult[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                results[i] = futures[i].join();
+            }
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        return results;
+    }
+
+    private boolean prerequisitesPassed(ValidationResult[] results, int position) {
+        for (int prerequisite : prerequisites[position]) {
+            ValidationResult result = results[prerequisite];
+            if (result == null || result.isInvalid()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ValidationResult combine(ValidationResult[] results) {
+        ValidationResult firstFailure = null;
+        List<ValidationError> errors = null;
+        for (ValidationResult result : results) {
+            if (result == null || result.isValid()) {
+                continue;
+            }
+            if (firstFailure == null) {
+                firstFailure = result;
+            } else {
+                if (errors == null) {
+                    errors = new ArrayList<>(firstFailure.getErrors());
+                }
+                errors.addAll(result.getErrors());
+            }
+        }
+        if (errors != null) {
+            return ValidationResult.invalid(errors);
+        }
+        return firstFailure != null ? firstFailure : ValidationResult.valid();
+    }
+
+    /**
+     * Builder for {@link ValidatorGraph}.
+     *
+     * @param <T> The type of object to be validated
+     */
+    public static final class Builder<T> {
+
+        private final Map<String, Validator<T>> validators = new LinkedHashMap<>();
+
+        private final Map<String, List<String>> dependencies = new HashMap<>();
+
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a rule that runs only if all the named rules passed. Prerequisites may be declared after the rule.
+         *
+         * @param name          unique name of the rule, such as the validated field
+         * @param validator     the validator of the rule
+         * @param prerequisites names of the rules that must pass first
+         * @return This builder instance for method chaining
+         * @throws IllegalArgumentException if the name is empty or already used
+         */
+        public Builder<T> rule(String name, Validator<T> validator, String... prerequisites) {
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("Rule name cannot be null or empty");
+            }
+            if (validators.containsKey(name)) {
+                throw new IllegalArgumentException("Duplicate rule: " + name);
+            }
+            validators.put(name, Objects.requireNonNull(validator, "validator must not be null"));
+            List<String> required = new ArrayList<>(prerequisites.length);
+            for (String prerequisite : prerequisites) {
+                required.add(Objects.requireNonNull(prerequisite, "prerequisite must not be null"));
+            }
+            dependencies.put(name, required);
+            return this;
+        }
+
+        /**
+         * Sets the executor on which independent rules run concurrently. Without an executor all rules run in the
+         * calling thread.
+         *
+         * @param executor the executor
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor must not be null");
+            return this;
+        }
+
+        /**
+         * Builds the validator graph.
+         *
+         * @return a new {@link ValidatorGraph}
+         * @throws IllegalArgumentException if a prerequisite is unknown or the rules depend on each other in a cycle
+         */
+        public ValidatorGraph<T> build() {
+            List<String> declared = new ArrayList<>(validators.keySet());
+            Map<String, Integer> declaredIndex = new HashMap<>();
+            for (int i = 0; i < declared.size(); i++) {
+                declaredIndex.put(declared.get(i), i);
+            }
+
+            int count = declared.size();
+            int[] pending = new int[count];
+            List<List<Integer>> dependents = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                dependents.add(new ArrayList<>());
+            }
+            for (int i = 0; i < count; i++) {
+                for (String prerequisite : dependencies.get(declared.get(i))) {
+                    Integer index = declaredIndex.get(prerequisite);
+                    if (index == null) {
+                        throw new IllegalArgumentException(
+                            String.format("Rule '%s' requires unknown rule '%s'", declared.get(i), prerequisite));
+                    }
+                    dependents.get(index).add(i);
+                    pending[i]++;
+                }
+            }
+
+            // Kahn's algorithm, always picking the earliest declared ready rule
+            PriorityQueue<Integer> ready = new PriorityQueue<>();
+            for (int i = 0; i < count; i++) {
+                if (pending[i] == 0) {
+                    ready.add(i);
+                }
+            }
+            int[] position = new int[count];
+            ArrayDeque<Integer> order = new ArrayDeque<>(count);
+            while (!ready.isEmpty()) {
+                int next = ready.poll();
+                position[next] = order.size();
+                order.add(next);
+                for (int dependent : dependents.get(next)) {
+                    if (--pending[dependent] == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+            if (order.size() < count) {
+                List<String> cyclic = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    if (pending[i] > 0) {
+                        cyclic.add(declared.get(i));
+                    }
+                }
+                throw new IllegalArgumentException("Rules depend on each other in a cycle: " + cyclic);
+            }
+
+            List<String> names = new ArrayList<>(count);
+            List<Validator<T>> ordered = new ArrayList<>(count);
+            int[][] prerequisites = new int[count][];
+            for (int index : order) {
+                String name = declared.get(index);
+                List<String> required = dependencies.get(name);
+                int[] positions = new int[required.size()];
+                for (int j = 0; j < positions.length; j++) {
+                    positions[j] = position[declaredIndex.get(required.get(j))];
+                }
+                prerequisites[names.size()] = positions;
+                names.add(name);
+                ordered.add(validators.get(name));
+            }
+
+            return new ValidatorGraph<>(Collections.unmodifiableList(names), List.copyOf(ordered), prerequisites,
+                                        executor);
+        }
+    }
+}
@@ -0,0 +1,555 @@
+package com.ashishbagdane.lib.eh.exception.validation.json;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.base.ErrorBudget;
+import com.ashishbagdane.lib.eh.exception.validation.validators.EmailFormat;
+import com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Validates raw JSON documents on the token stream of a Jackson {@link JsonParser}, so invalid bulk payloads can be
+ * rejected without binding them to objects.
+ *
+ * <p>Rules are declared for JSON pointer patterns such as {@code /customer/email} or
+ * <code>/items/&#42;/quantity</code>, where {@code *} matches every element of an array. A value whose children only
+ * have named patterns must be an object and a value whose children only have {@code *} patterns must be an array;
+ * where both are declared, an object is accepted and {@code *} also applies to its members. The patterns are compiled
+ * into a tree once; subtrees without rules are skipped by the parser. Each error carries the
+ * JSON pointer of the offending value in its metadata under {@value #POINTER_METADATA}, and its message names that
+ * pointer.</p>
+ *
+ * <ul>
+ *     <li>{@link Builder#required} fails for missing members, {@code null}, blank strings and empty arrays or
+ *     objects. A required pattern such as {@code /customer/email} also fails when {@code customer} is missing or
+ *     {@code null}, while a missing array has no elements for a pattern such as <code>/items/&#42;/sku</code> to
+ *     fail.</li>
+ *     <li>{@link Builder#email}, {@link Builder#length} and {@link Builder#range} check strings and numbers. A
+ *     {@code null} or missing value passes them; combine them with {@code required} to reject it.</li>
+ *     <li>A value of the wrong JSON type, such as a number where a string or an object is expected, fails with
+ *     {@link ErrorCode#VALIDATION_INVALID_FORMAT}, and the required values below it are reported as missing.</li>
+ *     <li>An empty or blank document is treated like a missing root value: it fails only if some pattern is
+ *     required.</li>
+ * </ul>
+ *
+ * <p>Malformed JSON ends validation with a {@link ErrorCode#VALIDATION_INVALID_FORMAT} error at the location of the
+ * syntax error. Read failures of the underlying stream are rethrown as {@link UncheckedIOException}. The stream is
+ * not closed.</p>
+ *
+ * <p>Example usage, for a payload that is an array of order lines:
+ * <pre>
+ * JsonStreamValidator validator = JsonStreamValidator.builder()
+ *     .required("/&#42;/sku")
+ *     .length("/&#42;/sku", 8, 12)
+ *     .range("/&#42;/quantity", 1, 10_000)
+ *     .email("/&#42;/contact/email")
+ *     .maxErrors(200)
+ *     .build();
+ * ValidationResult result = validator.validate(request.getInputStream());
+ * </pre></p>
+ *
+ * @since 1.1
+ */
+public final class JsonStreamValidator implements Validator<InputStream> {
+
+    /**
+     * Metadata key of the JSON pointer of the offending value.
+     */
+    public static final String POINTER_METADATA = "pointer";
+
+    private static final String WILDCARD = "*";
+
+    private final JsonFactory jsonFactory;
+
+    private final RuleNode root;
+
+    private final int maxErrors;
+
+    private JsonStreamValidator(Builder builder) {
+        this.jsonFactory = builder.jsonFactory;
+        this.root = RuleNode.compile(builder.root);
+        this.maxErrors = builder.maxErrors;
+    }
+
+    /**
+     * Creates a builder for a JSON stream validator.
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validates the JSON document read from the stream.
+     *
+     * @param input the stream to read
+     * @return the validation result, truncated if the error limit was reached
+     * @throws UncheckedIOException if reading the stream fails
+     */
+    @Override
+    public ValidationResult validate(InputStream input) {
+        Objects.requireNonNull(input, "input must not be null");
+        try (JsonParser parser = jsonFactory.createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return new Run(parser).validate();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Validates the JSON document between the position and the limit of the buffer. The buffer position is not
+     * changed.
+     *
+     * @param input the buffer to read
+     * @return the validation result, truncated if the error limit was reached
+     */
+    public ValidationResult validate(ByteBuffer input) {
+        Objects.requireNonNull(input, "input must not be null");
+        if (input.hasArray()) {
+            return validate(input.array(), input.arrayOffset() + input.position(), input.remaining());
+        }
+        return validate(new ByteBufferBackedInputStream(input.duplicate()));
+    }
+
+    /**
+     * Validates the JSON document in the byte array.
+     *
+     * @param input the bytes to read
+     * @return the validation result, truncated if the error limit was reached
+     */
+    public ValidationResult validate(byte[] input) {
+        Objects.requireNonNull(input, "input must not be null");
+        return validate(input, 0, input.length);
+    }
+
+    private ValidationResult validate(byte[] input, int offset, int length) {
+        try (JsonParser parser = jsonFactory.createParser(input, offset, length)) {
+            return new Run(parser).validate();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String format(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    private static String unescape(String segment) {
+        return segment.replace("~1", "/").replace("~0", "~");
+    }
+
+    /**
+     * State of a container that has rules for its children.
+     */
+    private static final class Frame {
+
+        private RuleNode node;
+
+        private boolean object;
+
+        private int childCount;
+
+        private boolean[] seen;
+
+        private RuleNode pendingMember;
+    }
+
+    /**
+     * A single validation pass over one document.
+     */
+    private final class Run {
+
+        private final JsonParser parser;
+
+        private final List<ValidationError> errors = new ArrayList<>();
+
+        private Frame[] frames = new Frame[8];
+
+        private int depth;
+
+        private boolean full;
+
+        private Run(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        private ValidationResult validate() throws IOException {
+            boolean empty = true;
+            try {
+                JsonToken token;
+                while (!full && (token = parser.nextToken()) != null) {
+                    empty = false;
+                    switch (token) {
+                        case FIELD_NAME -> onMember();
+                        case END_OBJECT, END_ARRAY -> onContainerEnd();
+                        default -> onValue(token, childNode());
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                if (!full) {
+                    malformed(e);
+                }
+            }
+            if (empty && errors.isEmpty()) {
+                absent("", root);
+            }
+
+            if (errors.isEmpty()) {
+                return ValidationResult.valid();
+            }
+            if (full) {
+                return ValidationResult.truncated(errors);
+            }
+            return errors.size() == 1 ? ValidationResult.invalid(errors.get(0)) : ValidationResult.invalid(errors);
+        }
+
+        /**
+         * Returns the node of the value at the current token, counting it as a child of the enclosing container.
+         */
+        private RuleNode childNode() {
+            if (depth == 0) {
+                return root;
+            }
+            Frame frame = frames[depth - 1];
+            frame.childCount++;
+            if (frame.object) {
+                RuleNode member = frame.pendingMember;
+                frame.pendingMember = null;
+                return member;
+            }
+            return frame.node.element();
+        }
+
+        private void onMember() throws IOException {
+            if (depth == 0) {
+                return;
+            }
+            Frame frame = frames[depth - 1];
+            RuleNode member = frame.node.member(parser.currentName());
+            frame.pendingMember = member;
+            if (member != null && member.trackedSlot >= 0 && frame.seen != null) {
+                frame.seen[member.trackedSlot] = true;
+            }
+        }
+
+        private void onValue(JsonToken token, RuleNode node) throws IOException {
+            if (node == null) {
+                if (token.isStructStart()) {
+                    parser.skipChildren();
+                }
+                return;
+            }
+
+            if (token == JsonToken.VALUE_NULL) {
+                absent(pointer(), node);
+                return;
+            }
+
+            if (token.isStructStart()) {
+                boolean object = token == JsonToken.START_OBJECT;
+                if (object ? node.expectsArray() : node.expectsObject()) {
+                    wrongType(object ? "an array" : "an object");
+                    if (!node.required) {
+                        absent(pointer(), node);
+                    }
+                    parser.skipChildren();
+                    return;
+                }
+                if (node.hasScalarRules()) {
+                    wrongType(node.maxLength != RuleNode.NO_LENGTH || node.emailMaxLength > 0 ?
+                                  "a string" : "a number");
+                }
+                if (!node.hasChildren() && !node.required) {
+                    parser.skipChildren();
+                    return;
+                }
+                push(node, object);
+                return;
+            }
+
+            if (node.hasChildren()) {
+                wrongType("an object or array");
+                return;
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                onString(node);
+            } else if (token.isNumeric()) {
+                onNumber(node);
+            } else if (node.hasScalarRules()) {
+                wrongType(node.maxLength != RuleNode.NO_LENGTH || node.emailMaxLength > 0 ? "a string" : "a number");
+            }
+        }
+
+        private void onString(RuleNode node) throws IOException {
+            CharBuffer text = CharBuffer.wrap(parser.getTextCharacters(), parser.getTextOffset(),
+                                              parser.getTextLength());
+            if (node.required && RequiredFieldValidator.isBlank(text)) {
+                missing(pointer());
+                return;
+            }
+            if (node.maxLength != RuleNode.NO_LENGTH) {
+                int length = text.length();
+                if (length < node.minLength) {
+                    invalid(ErrorCode.VALIDATION_INVALID_PARAMETER, "must be at least " + node.minLength
+                        + " characters long");
+                } else if (length > node.maxLength) {
+                    invalid(ErrorCode.VALIDATION_INVALID_PARAMETER, "must be at most " + node.maxLength
+                        + " characters long");
+                }
+            }
+            if (node.emailMaxLength > 0 && !EmailFormat.isValid(text, node.emailMaxLength)) {
+                String pointer = pointer();
+                add(new DefaultValidationError(ErrorCode.VALIDATION_INVALID_EMAIL,
+                                               String.format("Invalid email format for field %s", pointer),
+                                               Map.of(POINTER_METADATA, pointer)));
+            }
+            if (!Double.isNaN(node.min)) {
+                wrongType("a number");
+            }
+        }
+
+        private void onNumber(RuleNode node) throws IOException {
+            if (node.maxLength != RuleNode.NO_LENGTH || node.emailMaxLength > 0) {
+                wrongType("a string");
+                return;
+            }
+            if (Double.isNaN(node.min)) {
+                return;
+            }
+            double value = parser.getDoubleValue();
+            if (value < node.min) {
+                invalid(ErrorCode.VALIDATION_INVALID_PARAMETER, "must be at least " + format(node.min));
+            } else if (value > node.max) {
+                invalid(ErrorCode.VALIDATION_INVALID_PARAMETER, "must be at most " + format(node.max));
+            }
+        }
+
+        private void onContainerEnd() {
+            if (depth == 0) {
+                return;
+            }
+            Frame frame = frames[--depth];
+            RuleNode node = frame.node;
+            if (node.required && frame.childCount == 0) {
+                missing(pointer());
+                return;
+            }
+            if (frame.seen == null) {
+                return;
+            }
+            for (int i = 0; i < frame.seen.length && !full; i++) {
+                if (!frame.seen[i]) {
+                    absent(pointer() + "/" + node.trackedMembers[i], node.trackedNodes[i]);
+                }
+            }
+        }
+
+        private void push(RuleNode node, boolean object) {
+            if (depth == frames.length) {
+                frames = Arrays.copyOf(frames, depth * 2);
+            }
+            Frame frame = frames[depth];
+            if (frame == null) {
+                frame = new Frame();
+                frames[depth] = frame;
+            }
+            depth++;
+            frame.node = node;
+            frame.object = object;
+            frame.childCount = 0;
+            frame.pendingMember = null;
+            frame.seen = object && node.trackedMembers.length > 0 ? new boolean[node.trackedMembers.length] : null;
+        }
+
+        private String pointer() {
+            return parser.getParsingContext().pathAsPointer().toString();
+        }
+
+        /**
+         * Reports the required values that are missing because the value at the pointer is missing or null.
+         */
+        private void absent(String pointer, RuleNode node) {
+            for (int i = 0; i < node.absentPaths.length && !full; i++) {
+                missing(pointer + node.absentPaths[i]);
+            }
+        }
+
+        private void missing(String pointer) {
+            add(new DefaultValidationError(ErrorCode.VALIDATION_MISSING_FIELD,
+                                           String.format("Field '%s' is required", pointer),
+                                           Map.of(POINTER_METADATA, pointer)));
+        }
+
+        private void wrongType(String expected) {
+            invalid(ErrorCode.VALIDATION_INVALID_FORMAT, "must be " + expected);
+        }
+
+        private void invalid(ErrorCode errorCode, String constraint) {
+            String pointer = pointer();
+            add(new DefaultValidationError(errorCode, String.format("Field '%s' %s", pointer, constraint),
+                                           Map.of(POINTER_METADATA, pointer)));
+        }
+
+        private void malformed(JsonProcessingException e) {
+            JsonLocation location = e.getLocation();
+            long line = location == null ? -1 : location.getLineNr();
+            long column = location == null ? -1 : location.getColumnNr();
+            add(new DefaultValidationError(
+                ErrorCode.VALIDATION_INVALID_FORMAT,
+                String.format("Malformed JSON at line %d, column %d", line, column),
+                Map.of(POINTER_METADATA, pointer(), "line", line, "column", column,
+                       "reason", String.valueOf(e.getOriginalMessage()))));
+        }
+
+        private void add(ValidationError error) {
+            errors.add(error);
+            full = errors.size() >= maxErrors;
+        }
+    }
+
+    /**
+     * Builder for {@link JsonStreamValidator}.
+     */
+    public static final class Builder {
+
+        private final RuleNode.Draft root = new RuleNode.Draft();
+
+        private JsonFactory jsonFactory = new JsonFactory();
+
+        private int maxErrors = ErrorBudget.UNLIMITED;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the factory creating the parsers, for example to configure stream read constraints.
+         *
+         * @param jsonFactory the factory
+         * @return This builder instance for method chaining
+         */
+        public Builder jsonFactory(JsonFactory jsonFactory) {
+            this.jsonFactory = Objects.requireNonNull(jsonFactory, "jsonFactory must not be null");
+            return this;
+        }
+
+        /**
+         * Requires the values matching the pattern to be present and not null, blank or empty.
+         *
+         * @param pointer JSON pointer pattern
+         * @return This builder instance for method chaining
+         */
+        public Builder required(String pointer) {
+            node(pointer).required();
+            return this;
+        }
+
+        /**
+         * Requires string values matching the pattern to be email addresses of at most
+         * {@link EmailFormat#DEFAULT_MAX_LENGTH} characters.
+         *
+         * @param pointer JSON pointer pattern
+         * @return This builder instance for method chaining
+         */
+        public Builder email(String pointer) {
+            return email(pointer, EmailFormat.DEFAULT_MAX_LENGTH);
+        }
+
+        /**
+         * Requires string values matching the pattern to be email addresses of at most {@code maxLength} characters.
+         *
+         * @param pointer   JSON pointer pattern
+         * @param maxLength maximum accepted length of the address
+         * @return This builder instance for method chaining
+         */
+        public Builder email(String pointer, int maxLength) {
+            if (maxLength <= 0) {
+                throw new IllegalArgumentException("Max length must be positive");
+            }
+            node(pointer).email(maxLength);
+            return this;
+        }
+
+        /**
+         * Requires string values matching the pattern to have between {@code min} and {@code max} characters,
+         * counted as UTF-16 code units.
+         *
+         * @param pointer JSON pointer pattern
+         * @param min     inclusive minimum length
+         * @param max     inclusive maximum length
+         * @return This builder instance for method chaining
+         */
+        public Builder length(String pointer, int min, int max) {
+            if (min < 0 || max < min) {
+                throw new IllegalArgumentException("Length bounds must satisfy 0 <= min <= max");
+            }
+            node(pointer).length(min, max);
+            return this;
+        }
+
+        /**
+         * Requires numeric values matching the pattern to lie within {@code [min, max]}.
+         *
+         * @param pointer JSON pointer pattern
+         * @param min     inclusive lower bound
+         * @param max     inclusive upper bound
+         * @return This builder instance for method chaining
+         */
+        public Builder range(String pointer, double min, double max) {
+            if (!Double.isFinite(min) || !Double.isFinite(max) || max < min) {
+                throw new IllegalArgumentException("Range bounds must be finite and satisfy min <= max");
+            }
+            node(pointer).range(min, max);
+            return this;
+        }
+
+        /**
+         * Stops validation once this many errors have been collected and marks the result truncated.
+         *
+         * @param maxErrors the maximum number of errors
+         * @return This builder instance for method chaining
+         * @throws IllegalArgumentException if maxErrors is not positive
+         */
+        public Builder maxErrors(int maxErrors) {
+            this.maxErrors = ErrorBudget.requireValidLimit(maxErrors);
+            return this;
+        }
+
+        public JsonStreamValidator build() {
+            return new JsonStreamValidator(this);
+        }
+
+        private RuleNode.Draft node(String pointer) {
+            Objects.requireNonNull(pointer, "pointer must not be null");
+            if (!pointer.startsWith("/")) {
+                throw new IllegalArgumentException("Pointer must start with '/': " + pointer);
+            }
+            RuleNode.Draft node = root;
+            for (String segment : pointer.substring(1).split("/", -1)) {
+                node = node.child(unescape(segment), WILDCARD.equals(segment));
+            }
+            return node;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.ashishbagdane.lib.eh.exception.validation.json;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Node of the compiled rule tree of a {@link JsonStreamValidator}. Each node holds the rules of one JSON pointer
+ * pattern and the nodes of its children. Wildcard rules are merged into the named children at build time, so
+ * looking up the node of a member or element is a single map lookup or field read.
+ *
+ * <p>A required pattern below named members, such as {@code /customer/email}, is also reported when an ancestor such
+ * as {@code customer} is missing or {@code null}. Members on the way are tracked for that reason even when they are
+ * not required themselves. Wildcard segments are not followed: a missing array has no elements to report.</p>
+ */
+final class RuleNode {
+
+    static final int NO_LENGTH = -1;
+
+    final boolean required;
+
+    final int emailMaxLength;
+
+    final int minLength;
+
+    final int maxLength;
+
+    final double min;
+
+    final double max;
+
+    /**
+     * JSON pointers, relative to this node, of the required values that are missing when this node is missing or
+     * {@code null}: the empty pointer if this node is required, otherwise its required descendants.
+     */
+    final String[] absentPaths;
+
+    /**
+     * Escaped names of the members whose absence must be reported, if this node is an object.
+     */
+    final String[] trackedMembers;
+
+    /**
+     * Nodes of {@link #trackedMembers}, at the same positions.
+     */
+    final RuleNode[] trackedNodes;
+
+    /**
+     * Position of this node in {@link #trackedMembers} of its parent, or -1.
+     */
+    final int trackedSlot;
+
+    private final Map<String, RuleNode> members;
+
+    private final RuleNode anyChild;
+
+    private RuleNode(Draft draft, int candidateSlot) {
+        this.required = draft.required;
+        this.emailMaxLength = draft.emailMaxLength;
+        this.minLength = draft.minLength;
+        this.maxLength = draft.maxLength;
+        this.min = draft.min;
+        this.max = draft.max;
+        this.anyChild = draft.anyChild == null ? null : new RuleNode(draft.anyChild, -1);
+
+        List<String> trackedNames = new ArrayList<>();
+        List<RuleNode> tracked = new ArrayList<>();
+        List<String> descendants = new ArrayList<>();
+        Map<String, RuleNode> frozen = new HashMap<>();
+        for (Map.Entry<String, Draft> member : draft.members.entrySet()) {
+            RuleNode node = new RuleNode(Draft.merge(member.getValue(), draft.anyChild), tracked.size());
+            if (node.trackedSlot >= 0) {
+                String name = escape(member.getKey());
+                trackedNames.add(name);
+                tracked.add(node);
+                for (String path : node.absentPaths) {
+                    descendants.add("/" + name + path);
+                }
+            }
+            frozen.put(member.getKey(), node);
+        }
+        this.members = frozen;
+        this.trackedMembers = trackedNames.toArray(new String[0]);
+        this.trackedNodes = tracked.toArray(new RuleNode[0]);
+        this.absentPaths = required ? new String[] {""} : descendants.toArray(new String[0]);
+        this.trackedSlot = absentPaths.length > 0 ? candidateSlot : -1;
+    }
+
+    static RuleNode compile(Draft root) {
+        return new RuleNode(root, -1);
+    }
+
+    /**
+     * Returns the node of an object member, or null if no rule applies to it or its descendants.
+     */
+    RuleNode member(String name) {
+        RuleNode member = members.get(name);
+        return member != null ? member : anyChild;
+    }
+
+    /**
+     * Returns the node of an array element, or null if no rule applies to elements.
+     */
+    RuleNode element() {
+        return anyChild;
+    }
+
+    boolean hasChildren() {
+        return anyChild != null || !members.isEmpty();
+    }
+
+    /**
+     * Returns whether only named members have rules, so the value must be an object.
+     */
+    boolean expectsObject() {
+        return anyChild == null && !members.isEmpty();
+    }
+
+    /**
+     * Returns whether only the wildcard has rules, so the value must be an array.
+     */
+    boolean expectsArray() {
+        return anyChild != null && members.isEmpty();
+    }
+
+    boolean hasScalarRules() {
+        return emailMaxLength > 0 || maxLength != NO_LENGTH || !Double.isNaN(min);
+    }
+
+    /**
+     * Escapes a member name for use as a JSON pointer segment.
+     */
+    static String escape(String name) {
+        if (name.indexOf('~') < 0 && name.indexOf('/') < 0) {
+            return name;
+        }
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * Mutable node used while rules are added. Constraints declared twice on the same pattern tighten. Length and
+     * range constraints always set both bounds.
+     */
+    static final class Draft {
+
+        private final Map<String, Draft> members = new LinkedHashMap<>();
+
+        private Draft anyChild;
+
+        private boolean required;
+
+        private int emailMaxLength;
+
+        private int minLength = NO_LENGTH;
+
+        private int maxLength = NO_LENGTH;
+
+        private double min = Double.NaN;
+
+        private double max = Double.NaN;
+
+        Draft child(String segment, boolean wildcard) {
+            if (wildcard) {
+                if (anyChild == null) {
+                    anyChild = new Draft();
+                }
+                return anyChild;
+            }
+            return members.computeIfAbsent(segment, name -> new Draft());
+        }
+
+        void required() {
+            required = true;
+        }
+
+        void email(int maxLength) {
+            emailMaxLength = emailMaxLength == 0 ? maxLength : Math.min(emailMaxLength, maxLength);
+        }
+
+        void length(int min, int max) {
+            minLength = Math.max(minLength, min);
+            maxLength = maxLength == NO_LENGTH ? max : Math.min(maxLength, max);
+        }
+
+        void range(double min, double max) {
+            this.min = Double.isNaN(this.min) ? min : Math.max(this.min, min);
+            this.max = Double.isNaN(this.max) ? max : Math.min(this.max, max);
+        }
+
+        /**
+         * Returns a draft with the rules and children of both drafts, or the first draft if the second is null.
+         */
+        static Draft merge(Draft first, Draft second) {
+            if (second == null) {
+                return first;
+            }
+            Draft merged = new Draft();
+            for (Draft source : new Draft[] {first, second}) {
+                if (source.required) {
+                    merged.required();
+                }
+                if (source.emailMaxLength > 0) {
+                    merged.email(source.emailMaxLength);
+                }
+                if (source.maxLength != NO_LENGTH) {
+                    merged.length(source.minLength, source.maxLength);
+                }
+                if (!Double.isNaN(source.min)) {
+                    merged.range(source.min, source.max);
+                }
+            }
+            Map<String, Draft> members = new LinkedHashMap<>(first.members);
+            second.members.forEach((name, draft) -> members.merge(name, draft, Draft::merge));
+            merged.members.putAll(members);
+            merged.anyChild = first.anyChild == null ? second.anyChild : merge(first.anyChild, second.anyChild);
+            return merged;
+        }
+    }
+}
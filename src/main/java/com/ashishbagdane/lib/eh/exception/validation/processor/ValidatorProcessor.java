@@ -0,0 +1,311 @@
+package com.ashishbagdane.lib.eh.exception.validation.processor;
+
+import com.ashishbagdane.lib.eh.exception.validation.annotation.Email;
+import com.ashishbagdane.lib.eh.exception.validation.annotation.Required;
+import com.ashishbagdane.lib.eh.exception.validation.annotation.ValidatedBy;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates a {@link com.ashishbagdane.lib.eh.exception.validation.api.Validator} for each
+ * type with {@link Required}, {@link Email} or {@link ValidatedBy} members.
+ *
+ * <p>For a type {@code com.example.UserDto} the processor writes {@code com.example.UserDtoValidator} (nested types
+ * are flattened, e.g. {@code Outer_InnerValidator}). The generated class reads each member once through its getter, a
+ * record accessor, or the field itself when no accessible getter exists, and collects every error like a validator
+ * built with {@link com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder}. Errors have the same codes
+ * and messages as {@link com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator} and
+ * {@link com.ashishbagdane.lib.eh.exception.validation.validators.EmailFieldValidator}, and are created once per
+ * generated class instead of per validation.</p>
+ *
+ * <p>The processor is registered through {@code META-INF/services}, so it runs whenever this library is on the
+ * compiler's annotation processor path.</p>
+ *
+ * @since 1.1
+ */
+public final class ValidatorProcessor extends AbstractProcessor {
+
+    static final String VALIDATOR_SUFFIX = "Validator";
+
+    private static final String REQUIRED = Required.class.getCanonicalName();
+
+    private static final String EMAIL = Email.class.getCanonicalName();
+
+    private static final String VALIDATED_BY = ValidatedBy.class.getCanonicalName();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(REQUIRED, EMAIL, VALIDATED_BY);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+
+        for (TypeElement type : types) {
+            if (type.getModifiers().contains(Modifier.PRIVATE) || type.getNestingKind().isNested()
+                && type.getNestingKind() != NestingKind.MEMBER) {
+                error(type, "Validated type must not be private, local or anonymous");
+                continue;
+            }
+            List<ValidatorSourceWriter.Property> properties = collectProperties(type);
+            if (properties != null) {
+                write(type, properties);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the annotated members in declaration order. Returns null if an error was reported.
+     */
+    private List<ValidatorSourceWriter.Property> collectProperties(TypeElement type) {
+        // Keyed by property name, so a record component annotated once (propagated to field and accessor) is checked
+        // once, and a field and its getter can share rules
+        Map<String, ValidatorSourceWriter.Property> properties = new LinkedHashMap<>();
+        boolean failed = false;
+
+        for (Element member : type.getEnclosedElements()) {
+            List<ValidatorSourceWriter.Rule> rules = rulesOf(member);
+            if (rules.isEmpty()) {
+                continue;
+            }
+
+            String name;
+            String accessor;
+            TypeMirror valueType;
+            if (member.getKind() == ElementKind.FIELD) {
+                name = member.getSimpleName().toString();
+                valueType = member.asType();
+                accessor = fieldAccessor(type, (VariableElement) member);
+            } else if (member.getKind() == ElementKind.METHOD && isGetter((ExecutableElement) member)) {
+                ExecutableElement method = (ExecutableElement) member;
+                name = propertyName(method);
+                valueType = method.getReturnType();
+                accessor = method.getSimpleName() + "()";
+            } else {
+                error(member, "Validation annotations require a field or a getter without parameters");
+                failed = true;
+                continue;
+            }
+
+            if (member.getModifiers().contains(Modifier.STATIC)) {
+                error(member, "Validation annotations are not supported on static members");
+                failed = true;
+                continue;
+            }
+            if (accessor == null) {
+                error(member, "No accessible getter or field for '" + name + "'");
+                failed = true;
+                continue;
+            }
+            if (!checkRules(member, valueType, rules)) {
+                failed = true;
+                continue;
+            }
+
+            ValidatorSourceWriter.Property property = properties.get(name);
+            if (property == null) {
+                properties.put(name, new ValidatorSourceWriter.Property(name, accessor, valueType, rules));
+            } else {
+                property.merge(rules);
+            }
+        }
+        return failed ? null : new ArrayList<>(properties.values());
+    }
+
+    private List<ValidatorSourceWriter.Rule> rulesOf(Element member) {
+        List<ValidatorSourceWriter.Rule> rules = new ArrayList<>();
+        for (AnnotationMirror mirror : member.getAnnotationMirrors()) {
+            String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (annotation.equals(REQUIRED)) {
+                rules.add(ValidatorSourceWriter.Rule.required());
+            } else if (annotation.equals(EMAIL)) {
+                Email email = member.getAnnotation(Email.class);
+                rules.add(ValidatorSourceWriter.Rule.email(email.maxLength()));
+            } else if (annotation.equals(VALIDATED_BY)) {
+                for (TypeMirror validatorType : classValues(mirror)) {
+                    rules.add(ValidatorSourceWriter.Rule.custom(validatorType));
+                }
+            }
+        }
+        return rules;
+    }
+
+    private boolean checkRules(Element member, TypeMirror valueType, List<ValidatorSourceWriter.Rule> rules) {
+        boolean valid = true;
+        for (ValidatorSourceWriter.Rule rule : rules) {
+            if (rule.kind() == ValidatorSourceWriter.RuleKind.EMAIL) {
+                if (!isSubtype(valueType, CharSequence.class)) {
+                    error(member, "@Email requires a CharSequence value");
+                    valid = false;
+                } else if (rule.maxLength() <= 0) {
+                    error(member, "@Email maxLength must be positive");
+                    valid = false;
+                }
+            } else if (rule.kind() == ValidatorSourceWriter.RuleKind.CUSTOM && !isInstantiable(rule.validatorType())) {
+                error(member,
+                      rule.validatorType() + " must be a public concrete class with a public no-arg constructor");
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    private void write(TypeElement type, List<ValidatorSourceWriter.Property> properties) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String simpleName = flatName(type) + VALIDATOR_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        ValidatorSourceWriter source = new ValidatorSourceWriter(processingEnv.getTypeUtils(),
+                                                                 processingEnv.getElementUtils(),
+                                                                 packageName, simpleName, type, properties);
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.render());
+            }
+        } catch (IOException e) {
+            error(type, "Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private String fieldAccessor(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        boolean isBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+
+        List<String> candidates = isBoolean ?
+            List.of("is" + capitalized, "get" + capitalized, name) : List.of("get" + capitalized, name);
+        List<ExecutableElement> methods =
+            ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type));
+
+        for (String candidate : candidates) {
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(candidate) && isGetter(method)
+                    && !method.getModifiers().contains(Modifier.STATIC) && isAccessible(type, method)) {
+                    return candidate + "()";
+                }
+            }
+        }
+        return isAccessible(type, field) ? name : null;
+    }
+
+    private boolean isAccessible(TypeElement type, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        // The generated validator lives in the package of the validated type
+        return modifiers.contains(Modifier.PUBLIC)
+            || processingEnv.getElementUtils().getPackageOf(member).equals(
+            processingEnv.getElementUtils().getPackageOf(type));
+    }
+
+    private boolean isInstantiable(TypeMirror validatorType) {
+        if (validatorType.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) validatorType).asElement();
+        Set<Modifier> modifiers = element.getModifiers();
+        if (!modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.ABSTRACT) || isInner(element)
+            || element.getKind() != ElementKind.CLASS) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isSubtype(TypeMirror type, Class<?> supertype) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(supertype.getCanonicalName());
+        return processingEnv.getTypeUtils().isAssignable(
+            processingEnv.getTypeUtils().erasure(type), processingEnv.getTypeUtils().erasure(element.asType()));
+    }
+
+    private static List<TypeMirror> classValues(AnnotationMirror mirror) {
+        List<TypeMirror> classes = new ArrayList<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+            mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                for (Object value : (List<?>) entry.getValue().getValue()) {
+                    classes.add((TypeMirror) ((AnnotationValue) value).getValue());
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static boolean isGetter(ExecutableElement method) {
+        return method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID
+            && method.getTypeParameters().isEmpty();
+    }
+
+    private static boolean isInner(TypeElement type) {
+        return type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)
+            && type.getKind() == ElementKind.CLASS;
+    }
+
+    private static String propertyName(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        for (String prefix : new String[]{"get", "is"}) {
+            if (name.length() > prefix.length() && name.startsWith(prefix)
+                && Character.isUpperCase(name.charAt(prefix.length()))) {
+                return Character.toLowerCase(name.charAt(prefix.length())) + name.substring(prefix.length() + 1);
+            }
+        }
+        return name;
+    }
+
+    private static String flatName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, ((TypeElement) enclosing).getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
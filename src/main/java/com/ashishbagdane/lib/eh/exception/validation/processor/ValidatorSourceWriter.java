@@ -0,0 +1,326 @@
+package com.ashishbagdane.lib.eh.exception.validation.processor;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renders the source of a generated validator. All referenced types are fully qualified, so the generated class
+ * cannot clash with types declared in the package of the validated type.
+ */
+final class ValidatorSourceWriter {
+
+    private static final String REQUIRED_MESSAGE = "Field '%s' is required";
+
+    private static final String EMAIL_MESSAGE = "Invalid email format for field %s";
+
+    private static final String ERROR_CODE = "com.ashishbagdane.lib.base.eh.core.ErrorCode";
+
+    private static final String VALIDATION_ERROR = "com.ashishbagdane.lib.eh.exception.validation.api.ValidationError";
+
+    private static final String VALIDATION_RESULT =
+        "com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult";
+
+    private static final String VALIDATOR = "com.ashishbagdane.lib.eh.exception.validation.api.Validator";
+
+    private static final String DEFAULT_VALIDATION_ERROR =
+        "com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError";
+
+    private static final String REQUIRED_FIELD_VALIDATOR =
+        "com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator";
+
+    private static final String EMAIL_FORMAT = "com.ashishbagdane.lib.eh.exception.validation.validators.EmailFormat";
+
+    private final Types types;
+
+    private final Elements elements;
+
+    private final String packageName;
+
+    private final String simpleName;
+
+    private final TypeElement type;
+
+    private final List<Property> properties;
+
+    ValidatorSourceWriter(Types types, Elements elements, String packageName, String simpleName, TypeElement type,
+                          List<Property> properties) {
+        this.types = types;
+        this.elements = elements;
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.type = type;
+        this.properties = properties;
+    }
+
+    String render() {
+        String inputType = inputType();
+        StringBuilder constants = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        Set<String> constantNames = new HashSet<>();
+
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            String constantPrefix = constantName(property.name);
+            String variable = "v" + i;
+            body.append("\n        var ").append(variable).append(" = input.").append(property.accessor).append(";\n");
+
+            int customIndex = 0;
+            for (Rule rule : property.rules) {
+                switch (rule.kind) {
+                    case REQUIRED -> {
+                        String check = requiredCheck(property.type, variable);
+                        if (check == null) {
+                            // Primitive values are always present
+                            continue;
+                        }
+                        String constant = uniqueName(constantNames, constantPrefix + "_MISSING");
+                        errorConstant(constants, constant, "VALIDATION_MISSING_FIELD",
+                                      String.format(REQUIRED_MESSAGE, property.name));
+                        body.append("        if (").append(check).append(") {\n")
+                            .append("            errors = add(errors, ").append(constant).append(");\n")
+                            .append("        }\n");
+                    }
+                    case EMAIL -> {
+                        String constant = uniqueName(constantNames, constantPrefix + "_INVALID_EMAIL");
+                        errorConstant(constants, constant, "VALIDATION_INVALID_EMAIL",
+                                      String.format(EMAIL_MESSAGE, property.name));
+                        body.append("        if (!").append(EMAIL_FORMAT).append(".isValid(").append(variable)
+                            .append(", ").append(rule.maxLength).append(")) {\n")
+                            .append("            errors = add(errors, ").append(constant).append(");\n")
+                            .append("        }\n");
+                    }
+                    case CUSTOM -> {
+                        String constant = uniqueName(constantNames, constantPrefix + "_VALIDATOR_" + customIndex++);
+                        String validatorClass = types.erasure(rule.validatorType).toString();
+                        if (isGeneric(rule.validatorType)) {
+                            constants.append("\n    @SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+                        }
+                        constants.append("\n    private static final ").append(validatorClass).append(' ')
+                            .append(constant).append(" = new ").append(validatorClass).append("();\n");
+                        body.append("        errors = addAll(errors, ").append(constant).append(".validate(")
+                            .append(variable).append("));\n");
+                    }
+                    default -> throw new IllegalStateException("Unknown rule " + rule.kind);
+                }
+            }
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+            .append(" * Validator for {@link ").append(type.getQualifiedName())
+            .append("}, generated from its validation annotations.\n")
+            .append(" */\n")
+            .append("@javax.annotation.processing.Generated(\"").append(ValidatorProcessor.class.getName())
+            .append("\")\n")
+            .append(type.getModifiers().contains(Modifier.PUBLIC) ? "public " : "")
+            .append("final class ").append(simpleName).append(" implements ").append(VALIDATOR).append('<')
+            .append(inputType).append("> {\n")
+            .append(constants)
+            .append("\n    @Override\n")
+            .append("    public ").append(VALIDATION_RESULT).append(" validate(").append(inputType)
+            .append(" input) {\n")
+            .append("        java.util.Objects.requireNonNull(input, \"input must not be null\");\n")
+            .append("        java.util.List<").append(VALIDATION_ERROR).append("> errors = null;\n")
+            .append(body)
+            .append("\n        if (errors == null) {\n")
+            .append("            return ").append(VALIDATION_RESULT).append(".valid();\n")
+            .append("        }\n")
+            .append("        return errors.size() == 1 ? ").append(VALIDATION_RESULT)
+            .append(".invalid(errors.get(0)) : ").append(VALIDATION_RESULT).append(".invalid(errors);\n")
+            .append("    }\n\n")
+            .append("    private static java.util.List<").append(VALIDATION_ERROR).append("> add(java.util.List<")
+            .append(VALIDATION_ERROR).append("> errors, ").append(VALIDATION_ERROR).append(" error) {\n")
+            .append("        if (errors == null) {\n")
+            .append("            errors = new java.util.ArrayList<>();\n")
+            .append("        }\n")
+            .append("        errors.add(error);\n")
+            .append("        return errors;\n")
+            .append("    }\n\n")
+            .append("    private static java.util.List<").append(VALIDATION_ERROR).append("> addAll(java.util.List<")
+            .append(VALIDATION_ERROR).append("> errors, ").append(VALIDATION_RESULT).append(" result) {\n")
+            .append("        if (result.isValid()) {\n")
+            .append("            return errors;\n")
+            .append("        }\n")
+            .append("        if (errors == null) {\n")
+            .append("            errors = new java.util.ArrayList<>();\n")
+            .append("        }\n")
+            .append("        errors.addAll(result.getErrors());\n")
+            .append("        return errors;\n")
+            .append("    }\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * Returns the emptiness check for a required value, specialised by its static type, or null if the value can never
+     * be missing.
+     */
+    private String requiredCheck(TypeMirror valueType, String variable) {
+        if (valueType.getKind().isPrimitive()) {
+            return null;
+        }
+        if (isSubtype(valueType, CharSequence.class)) {
+            return variable + " == null || " + REQUIRED_FIELD_VALIDATOR + ".isBlank(" + variable + ")";
+        }
+        if (isSubtype(valueType, Collection.class) || isSubtype(valueType, Map.class)) {
+            return variable + " == null || " + variable + ".isEmpty()";
+        }
+        if (valueType.getKind() == TypeKind.DECLARED
+            && ((DeclaredType) valueType).asElement().getModifiers().contains(Modifier.FINAL)) {
+            return variable + " == null";
+        }
+        // The runtime value may still be a character sequence, collection or map
+        return REQUIRED_FIELD_VALIDATOR + ".isEmpty(" + variable + ")";
+    }
+
+    private void errorConstant(StringBuilder constants, String constant, String errorCode, String message) {
+        constants.append("\n    private static final ").append(VALIDATION_ERROR).append(' ').append(constant)
+            .append(" =\n        new ").append(DEFAULT_VALIDATION_ERROR).append('(').append(ERROR_CODE).append('.')
+            .append(errorCode).append(", \"").append(message).append("\");\n");
+    }
+
+    private String inputType() {
+        String name = type.getQualifiedName().toString();
+        int parameters = type.getTypeParameters().size();
+        if (parameters == 0) {
+            return name;
+        }
+        List<String> wildcards = new ArrayList<>(parameters);
+        for (int i = 0; i < parameters; i++) {
+            wildcards.add("?");
+        }
+        return name + "<" + String.join(", ", wildcards) + ">";
+    }
+
+    private boolean isSubtype(TypeMirror valueType, Class<?> supertype) {
+        TypeElement element = elements.getTypeElement(supertype.getCanonicalName());
+        return types.isAssignable(types.erasure(valueType), types.erasure(element.asType()));
+    }
+
+    private static boolean isGeneric(TypeMirror validatorType) {
+        return !((TypeElement) ((DeclaredType) validatorType).asElement()).getTypeParameters().isEmpty();
+    }
+
+    /**
+     * Returns the name, or the name with the first free numeric suffix if it is taken, since differently spelled
+     * properties such as {@code fooBar} and {@code foo_bar} map to the same constant name.
+     */
+    private static String uniqueName(Set<String> names, String name) {
+        String unique = name;
+        for (int suffix = 2; !names.add(unique); suffix++) {
+            unique = name + "_" + suffix;
+        }
+        return unique;
+    }
+
+    private static String constantName(String property) {
+        StringBuilder name = new StringBuilder(property.length() + 4);
+        for (int i = 0; i < property.length(); i++) {
+            char c = property.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                name.append('_');
+            }
+            name.append(Character.toUpperCase(c));
+        }
+        return name.toString();
+    }
+
+    enum RuleKind {
+        REQUIRED,
+        EMAIL,
+        CUSTOM
+    }
+
+    /**
+     * A single constraint on a property.
+     */
+    static final class Rule {
+
+        private final RuleKind kind;
+
+        private final int maxLength;
+
+        private final TypeMirror validatorType;
+
+        private Rule(RuleKind kind, int maxLength, TypeMirror validatorType) {
+            this.kind = kind;
+            this.maxLength = maxLength;
+            this.validatorType = validatorType;
+        }
+
+        static Rule required() {
+            return new Rule(RuleKind.REQUIRED, 0, null);
+        }
+
+        static Rule email(int maxLength) {
+            return new Rule(RuleKind.EMAIL, maxLength, null);
+        }
+
+        static Rule custom(TypeMirror validatorType) {
+            return new Rule(RuleKind.CUSTOM, 0, validatorType);
+        }
+
+        RuleKind kind() {
+            return kind;
+        }
+
+        int maxLength() {
+            return maxLength;
+        }
+
+        TypeMirror validatorType() {
+            return validatorType;
+        }
+    }
+
+    /**
+     * An annotated property with the expression reading it from the input and its rules.
+     */
+    static final class Property {
+
+        private final String name;
+
+        private final String accessor;
+
+        private final TypeMirror type;
+
+        private final List<Rule> rules;
+
+        Property(String name, String accessor, TypeMirror type, List<Rule> rules) {
+            this.name = name;
+            this.accessor = accessor;
+            this.type = type;
+            this.rules = new ArrayList<>(rules);
+        }
+
+        /**
+         * Adds rules declared on another member of the same property, skipping kinds the property already has.
+         */
+        void merge(List<Rule> additional) {
+            for (Rule rule : additional) {
+                boolean present = false;
+                for (Rule existing : rules) {
+                    present |= existing.kind == rule.kind && (rule.kind != RuleKind.CUSTOM
+                        || existing.validatorType.toString().equals(rule.validatorType.toString()));
+                }
+                if (!present) {
+                    rules.add(rule);
+                }
+            }
+        }
+    }
+}
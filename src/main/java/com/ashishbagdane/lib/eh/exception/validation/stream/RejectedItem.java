@@ -0,0 +1,60 @@
+package com.ashishbagdane.lib.eh.exception.validation.stream;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Item that failed validation in a {@link StreamingValidator}, together with its position in the input and the errors
+ * reported for it.
+ *
+ * @param <T> The type of the rejected item
+ * @since 1.1
+ */
+public final class RejectedItem<T> {
+
+    private final long index;
+
+    private final T item;
+
+    private final List<ValidationError> errors;
+
+    RejectedItem(long index, T item, List<ValidationError> errors) {
+        this.index = index;
+        this.item = item;
+        this.errors = Objects.requireNonNull(errors, "errors must not be null");
+    }
+
+    /**
+     * Gets the zero-based position of the item in the input.
+     *
+     * @return item index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * Gets the rejected item.
+     *
+     * @return the item as received
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Gets the errors reported for the item.
+     *
+     * @return List of {@link ValidationError}
+     */
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RejectedItem{index=%d, errors=%s}", index, errors);
+    }
+}
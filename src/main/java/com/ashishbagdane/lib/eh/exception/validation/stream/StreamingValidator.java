@@ -0,0 +1,129 @@
+package com.ashishbagdane.lib.eh.exception.validation.stream;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Validation stage for unbounded inputs. Each element is validated as it flows through; valid elements are passed on
+ * and invalid ones are handed to a side channel as {@link RejectedItem}s. Nothing is buffered, so memory use does not
+ * depend on the size of the input.
+ *
+ * <p>The stage can wrap a {@link Stream}, an {@link Iterator} or a {@link Flow.Publisher}. Streams and iterators are
+ * pull based; the {@link #processor() processor} forwards downstream demand upstream and requests a replacement for
+ * every rejected element, so backpressure is preserved.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * StreamingValidator<Order> stage = new StreamingValidator<>(orderValidator, deadLetterQueue::publish);
+ * stage.validate(records.stream()).forEach(orderService::process);
+ * }</pre></p>
+ *
+ * @param <T> The type of the elements to be validated
+ * @since 1.1
+ */
+public class StreamingValidator<T> {
+
+    private final Validator<? super T> validator;
+
+    private final Consumer<? super RejectedItem<T>> rejectedItems;
+
+    /**
+     * Creates a streaming validation stage.
+     *
+     * @param validator     the validator applied to each element
+     * @param rejectedItems side channel receiving elements that fail validation
+     * @throws NullPointerException if any argument is null
+     */
+    public StreamingValidator(Validator<? super T> validator, Consumer<? super RejectedItem<T>> rejectedItems) {
+        this.validator = Objects.requireNonNull(validator, "validator must not be null");
+        this.rejectedItems = Objects.requireNonNull(rejectedItems, "rejectedItems must not be null");
+    }
+
+    /**
+     * Returns a lazy stream of the valid elements of the input. Element indices follow encounter order for sequential
+     * streams; for parallel streams they only identify elements uniquely.
+     *
+     * @param input the elements to validate
+     * @return stream of the elements that passed validation
+     */
+    public Stream<T> validate(Stream<T> input) {
+        AtomicLong index = new AtomicLong();
+        return input.filter(item -> accept(index.getAndIncrement(), item));
+    }
+
+    /**
+     * Returns an iterator over the valid elements of the input. The input is consumed lazily, one element ahead of the
+     * returned iterator at most.
+     *
+     * @param input the elements to validate
+     * @return iterator over the elements that passed validation
+     */
+    public Iterator<T> validate(Iterator<T> input) {
+        Objects.requireNonNull(input, "input must not be null");
+        return new Iterator<>() {
+
+            private long index;
+
+            private T next;
+
+            private boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                while (!hasNext && input.hasNext()) {
+                    T item = input.next();
+                    if (accept(index++, item)) {
+                        next = item;
+                        hasNext = true;
+                    }
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                T item = next;
+                next = null;
+                hasNext = false;
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Creates a processor that validates the elements of the publisher it is subscribed to and publishes the valid
+     * ones to a single subscriber.
+     *
+     * @return a new validating {@link Flow.Processor}
+     */
+    public Flow.Processor<T, T> processor() {
+        return new ValidatingProcessor<>(this);
+    }
+
+    /**
+     * Validates a single element and routes it to the side channel when invalid.
+     *
+     * @param index position of the element in the input
+     * @param item  the element to validate
+     * @return true if the element passed validation
+     */
+    boolean accept(long index, T item) {
+        ValidationResult result = validator.validate(item);
+        if (result.isValid()) {
+            return true;
+        }
+        rejectedItems.accept(new RejectedItem<>(index, item, result.getErrors()));
+        return false;
+    }
+}
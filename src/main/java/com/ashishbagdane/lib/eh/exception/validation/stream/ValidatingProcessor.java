@@ -0,0 +1,178 @@
+package com.ashishbagdane.lib.eh.exception.validation.stream;
+
+import java.util.concurrent.Flow;
+
+/**
+ * {@link Flow.Processor} created by {@link StreamingValidator#processor()}. Demand from the subscriber is passed
+ * upstream unchanged; each rejected element is replaced by requesting one more element from upstream, so the
+ * subscriber never receives more than it requested and the processor never buffers elements.
+ *
+ * <p>Supports a single subscriber. Upstream signals follow the reactive streams rules and are therefore serialized,
+ * which makes the element index safe to keep in a plain field.</p>
+ *
+ * <p>If the validator or the rejected-items consumer throws, the upstream subscription is cancelled, the exception
+ * is passed to the subscriber through {@code onError} and any later upstream signal is ignored.</p>
+ *
+ * @param <T> The type of the elements to be validated
+ */
+final class ValidatingProcessor<T> implements Flow.Processor<T, T> {
+
+    private final StreamingValidator<T> validator;
+
+    private Flow.Subscription upstream;
+
+    private Flow.Subscriber<? super T> downstream;
+
+    private boolean connected;
+
+    private boolean completed;
+
+    private Throwable failure;
+
+    private boolean done;
+
+    private long deferredDemand;
+
+    private long index;
+
+    ValidatingProcessor(StreamingValidator<T> validator) {
+        this.validator = validator;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        synchronized (this) {
+            if (downstream == null) {
+                downstream = subscriber;
+                subscriber = null;
+            }
+        }
+        if (subscriber != null) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Validating processor supports a single subscriber"));
+            return;
+        }
+        connect();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        synchronized (this) {
+            if (upstream == null) {
+                upstream = subscription;
+                subscription = null;
+            }
+        }
+        if (subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        connect();
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        boolean accepted;
+        try {
+            accepted = validator.accept(index++, item);
+        } catch (RuntimeException e) {
+            done = true;
+            upstream.cancel();
+            downstream.onError(e);
+            return;
+        }
+        if (accepted) {
+            downstream.onNext(item);
+        } else {
+            upstream.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (done) {
+            return;
+        }
+        done = true;
+        synchronized (this) {
+            if (!connected) {
+                failure = throwable;
+                return;
+            }
+        }
+        downstream.onError(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        synchronized (this) {
+            if (!connected) {
+                completed = true;
+                return;
+            }
+        }
+        downstream.onComplete();
+    }
+
+    /**
+     * Links the subscriber to the upstream subscription once both are present, replaying a terminal signal that
+     * arrived before the subscriber did. {@code onSubscribe} and the replayed signal are delivered under the lock
+     * guarding the terminal state, so a terminal signal arriving meanwhile waits until they are done. Demand requested
+     * during {@code onSubscribe} is passed upstream only afterwards, so no element can overlap it either.
+     */
+    private void connect() {
+        long demand;
+        Flow.Subscription subscription;
+        synchronized (this) {
+            if (connected || upstream == null || downstream == null) {
+                return;
+            }
+            subscription = upstream;
+            downstream.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    synchronized (ValidatingProcessor.this) {
+                        if (!connected && n > 0) {
+                            deferredDemand = deferredDemand + n < 0 ? Long.MAX_VALUE : deferredDemand + n;
+                            return;
+                        }
+                    }
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+            connected = true;
+            if (failure != null) {
+                downstream.onError(failure);
+                return;
+            }
+            if (completed) {
+                downstream.onComplete();
+                return;
+            }
+            demand = deferredDemand;
+        }
+        if (demand > 0) {
+            subscription.request(demand);
+        }
+    }
+}
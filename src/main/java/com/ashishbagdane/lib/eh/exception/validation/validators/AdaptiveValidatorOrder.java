@@ -0,0 +1,152 @@
+package com.ashishbagdane.lib.eh.exception.validation.validators;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fail-fast execution of a validator chain whose order adapts to observed cost and failure rate.
+ *
+ * <p>One call in {@code sampleInterval} is measured: each validator reached records its elapsed time and whether it
+ * failed. Every {@code reorderInterval} measured calls the chain is re-sorted by expected cost per rejection (mean
+ * cost divided by failure probability), which minimises the expected cost of a fail-fast run for independent checks.
+ * Unmeasured calls only read the current order, so the steady-state overhead is one random number per call.</p>
+ *
+ * @param <T> The type of object to be validated
+ */
+final class AdaptiveValidatorOrder<T> {
+
+    static final int DEFAULT_SAMPLE_INTERVAL = 64;
+
+    static final int DEFAULT_REORDER_INTERVAL = 256;
+
+    private final Entry<T>[] entries;
+
+    private final int sampleInterval;
+
+    private final int reorderInterval;
+
+    private final AtomicLong sampledCalls = new AtomicLong();
+
+    private final ReentrantLock reorderLock = new ReentrantLock();
+
+    private volatile Entry<T>[] order;
+
+    @SuppressWarnings("unchecked")
+    AdaptiveValidatorOrder(List<Validator<T>> validators, int sampleInterval, int reorderInterval) {
+        this.entries = new Entry[validators.size()];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Entry<>(validators.get(i));
+        }
+        this.sampleInterval = sampleInterval;
+        this.reorderInterval = reorderInterval;
+        this.order = entries;
+    }
+
+    ValidationResult validate(T input) {
+        Entry<T>[] current = order;
+
+        if (ThreadLocalRandom.current().nextInt(sampleInterval) == 0) {
+            return validateSampled(current, input);
+        }
+
+        for (Entry<T> entry : current) {
+            ValidationResult result = entry.validator.validate(input);
+            if (result.isInvalid()) {
+                return result;
+            }
+        }
+        return ValidationResult.valid();
+    }
+
+    List<Validator<T>> currentOrder() {
+        Entry<T>[] current = order;
+        List<Validator<T>> validators = new ArrayList<>(current.length);
+        for (Entry<T> entry : current) {
+            validators.add(entry.validator);
+        }
+        return validators;
+    }
+
+    private ValidationResult validateSampled(Entry<T>[] current, T input) {
+        ValidationResult outcome = ValidationResult.valid();
+
+        for (Entry<T> entry : current) {
+            long start = System.nanoTime();
+            ValidationResult result = entry.validator.validate(input);
+            entry.record(System.nanoTime() - start, result.isInvalid());
+
+            if (result.isInvalid()) {
+                outcome = result;
+                break;
+            }
+        }
+
+        if (sampledCalls.incrementAndGet() % reorderInterval == 0) {
+            reorder();
+        }
+        return outcome;
+    }
+
+    private void reorder() {
+        if (!reorderLock.tryLock()) {
+            return;
+        }
+        try {
+            for (Entry<T> entry : entries) {
+                entry.updateScore();
+            }
+            // Stable sort keeps declaration order between validators with equal scores
+            Entry<T>[] sorted = Arrays.copyOf(entries, entries.length);
+            Arrays.sort(sorted, Comparator.comparingDouble(entry -> entry.score));
+            order = sorted;
+        } finally {
+            reorderLock.unlock();
+        }
+    }
+
+    /**
+     * Validator with its observed statistics.
+     */
+    private static final class Entry<T> {
+
+        private final Validator<T> validator;
+
+        private final LongAdder evaluations = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LongAdder nanos = new LongAdder();
+
+        private double score;
+
+        Entry(Validator<T> validator) {
+            this.validator = validator;
+        }
+
+        void record(long elapsedNanos, boolean failed) {
+            evaluations.increment();
+            nanos.add(elapsedNanos);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        void updateScore() {
+            long count = evaluations.sum();
+            // Validators not measured yet score zero and move to the front, so their statistics get collected
+            double meanCost = count == 0 ? 0 : (double) nanos.sum() / count;
+            // Laplace smoothing keeps the failure probability away from zero for validators that never failed yet
+            double failureProbability = (failures.sum() + 1.0) / (count + 2.0);
+            score = meanCost / failureProbability;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.ashishbagdane.lib.eh.exception.validation.validators;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Validator decorator that memoizes results for immutable inputs. Results are cached by input identity or by a key
+ * derived from the input, so validating an unchanged object again costs a map lookup. Keying by identity wraps the
+ * input in a small key object on every call; a {@link Builder#keyFunction(Function) key function} returning an
+ * existing field of the input avoids that allocation.
+ *
+ * <p>The cache is bounded: once it holds more than {@code maximumSize} entries the oldest ones are evicted, and
+ * entries can optionally expire a fixed time after they were written. Null inputs and inputs whose key is null are
+ * validated without caching. Mutable inputs must be {@link #invalidate(Object) invalidated} after modification, or
+ * keyed by a function that reflects their state.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * CachingValidator<CatalogEntry> validator = CachingValidator.builder(catalogEntryValidator)
+ *     .keyFunction(CatalogEntry::getSku)
+ *     .maximumSize(50_000)
+ *     .expireAfterWrite(Duration.ofMinutes(10))
+ *     .build();
+ * }</pre></p>
+ *
+ * @param <T> The type of object to be validated
+ * @since 1.1
+ */
+public final class CachingValidator<T> implements Validator<T> {
+
+    /**
+     * Default maximum number of cached results.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final Validator<T> delegate;
+
+    private final Function<? super T, ?> keyFunction;
+
+    private final int maximumSize;
+
+    private final long expireAfterWriteNanos;
+
+    private final ConcurrentHashMap<Object, Entry> cache = new ConcurrentHashMap<>();
+
+    private final ConcurrentLinkedQueue<Node> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private CachingValidator(Builder<T> builder) {
+        this.delegate = builder.delegate;
+        this.keyFunction = builder.keyFunction;
+        this.maximumSize = builder.maximumSize;
+        this.expireAfterWriteNanos = builder.expireAfterWrite == null ? 0 : builder.expireAfterWrite.toNanos();
+    }
+
+    /**
+     * Creates a builder for a caching validator.
+     *
+     * @param delegate the validator whose results are cached
+     * @param <T>      the type of object to be validated
+     * @return a new {@link Builder}
+     */
+    public static <T> Builder<T> builder(Validator<T> delegate) {
+        return new Builder<>(delegate);
+    }
+
+    @Override
+    public ValidationResult validate(T input) {
+        if (input == null) {
+            return delegate.validate(null);
+        }
+
+        Object key = keyFunction.apply(input);
+        if (key == null) {
+            return delegate.validate(input);
+        }
+        long now = expireAfterWriteNanos > 0 ? System.nanoTime() : 0;
+        Entry entry = cache.get(key);
+
+        if (entry != null && (expireAfterWriteNanos == 0 || now - entry.expiresAt < 0)) {
+            hits.increment();
+            return entry.result;
+        }
+
+        misses.increment();
+        ValidationResult result = delegate.validate(input);
+        Entry fresh = new Entry(result, now + expireAfterWriteNanos);
+
+        boolean stored = entry == null ? cache.putIfAbsent(key, fresh) == null : cache.replace(key, entry, fresh);
+        if (stored) {
+            insertionOrder.add(new Node(key, fresh));
+            if (queued.incrementAndGet() > maximumSize) {
+                evictOldest();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the cached result for the given input.
+     *
+     * @param input the input whose result should be discarded
+     */
+    public void invalidate(T input) {
+        Object key = input == null ? null : keyFunction.apply(input);
+        if (key != null) {
+            cache.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        // Drains the eviction queue before clearing, so entries stored concurrently stay queued for eviction
+        while (insertionOrder.poll() != null) {
+            queued.decrementAndGet();
+        }
+        cache.clear();
+    }
+
+    /**
+     * Gets the number of validations answered from the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Gets the number of validations delegated because no valid cache entry existed.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Gets the number of entries evicted because the cache exceeded its maximum size.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Gets the current number of cached results, including entries that expired but were not replaced yet.
+     *
+     * @return cache size
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private void evictOldest() {
+        while (queued.get() > maximumSize) {
+            Node node = insertionOrder.poll();
+            if (node == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            // Only removes the entry if it was not invalidated or replaced since it was queued
+            if (cache.remove(node.key, node.entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Cached result with its expiry time.
+     */
+    private static final class Entry {
+
+        private final ValidationResult result;
+
+        private final long expiresAt;
+
+        Entry(ValidationResult result, long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Insertion record used for size-based eviction.
+     */
+    private static final class Node {
+
+        private final Object key;
+
+        private final Entry entry;
+
+        Node(Object key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Identity based cache key, used unless a key function is configured.
+     */
+    private static final class IdentityKey {
+
+        private final Object value;
+
+        IdentityKey(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey that && value == that.value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+
+    /**
+     * Builder for {@link CachingValidator}.
+     *
+     * @param <T> The type of object to be validated
+     */
+    public static final class Builder<T> {
+
+        private final Validator<T> delegate;
+
+        private Function<? super T, ?> keyFunction = IdentityKey::new;
+
+        private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+        private Duration expireAfterWrite;
+
+        private Builder(Validator<T> delegate) {
+            this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        }
+
+        /**
+         * Sets the function deriving the cache key from an input. By default inputs are keyed by identity. Inputs
+         * for which the function returns null are not cached.
+         *
+         * @param keyFunction function returning a key with proper equals and hashCode, or null
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> keyFunction(Function<? super T, ?> keyFunction) {
+            this.keyFunction = Objects.requireNonNull(keyFunction, "keyFunction must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of cached results.
+         *
+         * @param maximumSize maximum cache size
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> maximumSize(int maximumSize) {
+            if (maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum size must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a result stays cached after it was computed.
+         *
+         * @param expireAfterWrite time to live of cached results
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> expireAfterWrite(Duration expireAfterWrite) {
+            Objects.requireNonNull(expireAfterWrite, "expireAfterWrite must not be null");
+            if (expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+                throw new IllegalArgumentException("Expiry must be positive");
+            }
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        public CachingValidator<T> build() {
+            return new CachingValidator<>(this);
+        }
+    }
+}
@@ -4,9 +4,9 @@ import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
 import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
 import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
 import com.ashishbagdane.lib.eh.exception.validation.base.CompositeValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.ErrorBudget;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -15,6 +15,10 @@ import java.util.List;
  * Chains multiple validators together with configurable validation behavior. Supports both fail-fast and collect-all
  * validation strategies.
  *
+ * <p>With {@link ValidationType#ADAPTIVE_FAIL_FAST} the chain is periodically reordered so that cheap checks that
+ * reject often run first. Which error is reported for an input failing several checks then depends on the current
+ * order; use {@link ValidationType#FAIL_FAST} where a deterministic order is required, such as in tests.</p>
+ *
  * @param <T> The type of object to be validated
  * @since 1.0
  */
@@ -23,6 +27,8 @@ public class ChainedValidator<T> extends CompositeValidator<T> {
 
     private final ValidationType validationType;
 
+    private final AdaptiveValidatorOrder<T> adaptiveOrder;
+
     /**
      * Defines the validation strategy to be used when processing multiple validators.
      */
@@ -34,36 +40,91 @@ public class ChainedValidator<T> extends CompositeValidator<T> {
         /**
          * Continues validation to collect all possible errors
          */
-        VALIDATE_ALL
+        VALIDATE_ALL,
+        /**
+         * Stops at the first encountered error, running validators in an order adapted to their observed cost and
+         * failure rate
+         */
+        ADAPTIVE_FAIL_FAST;
+
+        /**
+         * Indicates whether validation stops at the first encountered error.
+         *
+         * @return true for the fail-fast strategies
+         */
+        public boolean isFailFast() {
+            return this != VALIDATE_ALL;
+        }
     }
 
     @SafeVarargs
     public ChainedValidator(ValidationType validationType, Validator<T>... validators) {
+        this(validationType, ErrorBudget.UNLIMITED, validators);
+    }
+
+    /**
+     * Creates a chained validator that collects at most {@code maxErrors} errors in
+     * {@link ValidationType#VALIDATE_ALL} mode. The limit also bounds nested composite validators; see
+     * {@link ErrorBudget}.
+     *
+     * @param validationType the validation strategy
+     * @param maxErrors      the maximum number of errors, or {@link ErrorBudget#UNLIMITED}
+     * @param validators     the validators to chain
+     * @throws IllegalArgumentException if maxErrors is not positive
+     * @since 1.1
+     */
+    @SafeVarargs
+    public ChainedValidator(ValidationType validationType, int maxErrors, Validator<T>... validators) {
+        setMaxErrors(maxErrors);
         this.validationType = validationType;
         Arrays.stream(validators).forEach(this::addValidator);
+        this.adaptiveOrder = validationType == ValidationType.ADAPTIVE_FAIL_FAST ?
+            new AdaptiveValidatorOrder<>(this.validators, AdaptiveValidatorOrder.DEFAULT_SAMPLE_INTERVAL,
+                                         AdaptiveValidatorOrder.DEFAULT_REORDER_INTERVAL) : null;
     }
 
     @Override
     public ValidationResult validate(T input) {
-        List<ValidationError> errors = new ArrayList<>();
+        if (adaptiveOrder != null) {
+            return adaptiveOrder.validate(input);
+        }
+        if (!validationType.isFailFast()
+            && (getMaxErrors() != ErrorBudget.UNLIMITED || ErrorBudget.isActive())) {
+            return super.validate(input);
+        }
 
-        for (Validator<T> validator : getValidators()) {
-            ValidationResult result = validator.validate(input);
+        ValidationResult firstFailure = null;
+        List<ValidationError> errors = null;
 
-            if (result.isInvalid()) {
-                errors.addAll(result.getErrors());
+        for (int i = 0; i < validators.size(); i++) {
+            ValidationResult result = validators.get(i).validate(input);
 
-                if (validationType == ValidationType.FAIL_FAST) {
-                    break;
+            if (result.isInvalid()) {
+                if (validationType.isFailFast()) {
+                    return result;
+                }
+                if (firstFailure == null) {
+                    firstFailure = result;
+                } else {
+                    errors = merge(errors, firstFailure, result);
                 }
             }
         }
 
-        return errors.isEmpty() ? ValidationResult.valid() :
-            ValidationResult.invalid(errors);
+        return completeResult(firstFailure, errors);
     }
 
     public List<Validator<T>> getValidators() {
         return Collections.unmodifiableList(validators);
     }
+
+    /**
+     * Returns the validators in the order they are currently executed. This is the declaration order except in
+     * {@link ValidationType#ADAPTIVE_FAIL_FAST} mode.
+     *
+     * @return unmodifiable snapshot of the execution order
+     */
+    public List<Validator<T>> getExecutionOrder() {
+        return adaptiveOrder != null ? Collections.unmodifiableList(adaptiveOrder.currentOrder()) : getValidators();
+    }
 }
@@ -0,0 +1,318 @@
+package com.ashishbagdane.lib.eh.exception.validation.validators;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.base.BaseValidator;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Validates a {@code double} field read through a {@link ToDoubleFunction}, so the value is never boxed. Supports
+ * inclusive and exclusive bounds, sign checks, a finiteness check and a multiple-of check; failure results are created
+ * once at construction.
+ *
+ * <p>All configured checks are applied, with the error code {@link ErrorCode#VALIDATION_INVALID_PARAMETER}. NaN
+ * violates every bound and the multiple-of check. The multiple-of check compares the value with the nearest multiple
+ * and tolerates a distance of {@value #MULTIPLE_TOLERANCE_ULPS} units in the last place of the value, so {@code 0.3}
+ * counts as a multiple of {@code 0.1} while {@code 12345678.005} does not count as a multiple of {@code 0.01}.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * DoubleFieldValidator<Quote> price = DoubleFieldValidator.builder(Quote::getPrice, "price")
+ *     .finite()
+ *     .positive()
+ *     .multipleOf(0.01)
+ *     .build();
+ * }</pre></p>
+ *
+ * @param <T> The type of object containing the field to validate
+ * @since 1.1
+ */
+public final class DoubleFieldValidator<T> extends BaseValidator<T> {
+
+    /**
+     * Tolerance of the multiple-of check, in units in the last place of the validated value.
+     */
+    public static final int MULTIPLE_TOLERANCE_ULPS = 4;
+
+    private final ToDoubleFunction<T> fieldExtractor;
+
+    private final boolean requireFinite;
+
+    private final boolean hasLower;
+
+    private final double lower;
+
+    private final boolean lowerInclusive;
+
+    private final boolean hasUpper;
+
+    private final double upper;
+
+    private final boolean upperInclusive;
+
+    private final double multipleOf;
+
+    private final ValidationResult notFiniteResult;
+
+    private final ValidationResult belowResult;
+
+    private final ValidationResult aboveResult;
+
+    private final ValidationResult notMultipleResult;
+
+    private DoubleFieldValidator(Builder<T> builder) {
+        this.fieldExtractor = builder.fieldExtractor;
+        this.requireFinite = builder.requireFinite;
+        this.hasLower = builder.hasLower;
+        this.lower = builder.lower;
+        this.lowerInclusive = builder.lowerInclusive;
+        this.hasUpper = builder.hasUpper;
+        this.upper = builder.upper;
+        this.upperInclusive = builder.upperInclusive;
+        this.multipleOf = builder.multipleOf;
+        this.notFiniteResult = requireFinite ? invalid(builder.fieldName, "must be a finite number") : null;
+        this.belowResult = hasLower ?
+            invalid(builder.fieldName, (lowerInclusive ? "must be at least " : "must be greater than ") + format(lower))
+            : null;
+        this.aboveResult = hasUpper ?
+            invalid(builder.fieldName, (upperInclusive ? "must be at most " : "must be less than ") + format(upper))
+            : null;
+        this.notMultipleResult = multipleOf != 0 ?
+            invalid(builder.fieldName, "must be a multiple of " + format(multipleOf)) : null;
+    }
+
+    /**
+     * Creates a builder for a double field validator.
+     *
+     * @param fieldExtractor Function to extract the field value from the object
+     * @param fieldName      Name of the field for error messages
+     * @param <T>            The type of object containing the field
+     * @return a new {@link Builder}
+     */
+    public static <T> Builder<T> builder(ToDoubleFunction<T> fieldExtractor, String fieldName) {
+        return new Builder<>(fieldExtractor, fieldName);
+    }
+
+    @Override
+    public ValidationResult validate(T input) {
+        double value = fieldExtractor.applyAsDouble(input);
+
+        if (requireFinite && !Double.isFinite(value)) {
+            return notFiniteResult;
+        }
+
+        // Negated comparisons so that NaN fails the bounds
+        ValidationResult rangeFailure = null;
+        if (hasLower && !(lowerInclusive ? value >= lower : value > lower)) {
+            rangeFailure = belowResult;
+        } else if (hasUpper && !(upperInclusive ? value <= upper : value < upper)) {
+            rangeFailure = aboveResult;
+        }
+
+        if (multipleOf == 0 || isMultiple(value)) {
+            return rangeFailure != null ? rangeFailure : ValidationResult.valid();
+        }
+        if (rangeFailure == null) {
+            return notMultipleResult;
+        }
+        return ValidationResult.invalid(
+            List.of(rangeFailure.getErrors().get(0), notMultipleResult.getErrors().get(0)));
+    }
+
+    private boolean isMultiple(double value) {
+        double nearest = Math.rint(value / multipleOf) * multipleOf;
+        return Math.abs(value - nearest) <= MULTIPLE_TOLERANCE_ULPS * Math.ulp(value);
+    }
+
+    private static ValidationResult invalid(String fieldName, String constraint) {
+        return ValidationResult.invalid(internError(ErrorCode.VALIDATION_INVALID_PARAMETER,
+                                                    String.format("Field '%s' %s", fieldName, constraint)));
+    }
+
+    private static String format(double value) {
+        return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Builder for {@link DoubleFieldValidator}. Bounds only ever tighten: combining {@code min(5)} with
+     * {@code positive()} keeps the lower bound at 5.
+     *
+     * @param <T> The type of object containing the field
+     */
+    public static final class Builder<T> {
+
+        private final ToDoubleFunction<T> fieldExtractor;
+
+        private final String fieldName;
+
+        private boolean requireFinite;
+
+        private boolean hasLower;
+
+        private double lower;
+
+        private boolean lowerInclusive;
+
+        private boolean hasUpper;
+
+        private double upper;
+
+        private boolean upperInclusive;
+
+        private double multipleOf;
+
+        private Builder(ToDoubleFunction<T> fieldExtractor, String fieldName) {
+            this.fieldExtractor = Objects.requireNonNull(fieldExtractor, "fieldExtractor must not be null");
+            if (fieldName == null || fieldName.trim().isEmpty()) {
+                throw new IllegalArgumentException("Field name cannot be null or empty");
+            }
+            this.fieldName = fieldName;
+        }
+
+        /**
+         * Requires the value to be neither NaN nor infinite.
+         *
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> finite() {
+            this.requireFinite = true;
+            return this;
+        }
+
+        /**
+         * Requires the value to be at least {@code min}.
+         *
+         * @param min inclusive lower bound
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> min(double min) {
+            return lowerBound(min, true);
+        }
+
+        /**
+         * Requires the value to be greater than {@code bound}.
+         *
+         * @param bound exclusive lower bound
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> greaterThan(double bound) {
+            return lowerBound(bound, false);
+        }
+
+        /**
+         * Requires the value to be at most {@code max}.
+         *
+         * @param max inclusive upper bound
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> max(double max) {
+            return upperBound(max, true);
+        }
+
+        /**
+         * Requires the value to be less than {@code bound}.
+         *
+         * @param bound exclusive upper bound
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> lessThan(double bound) {
+            return upperBound(bound, false);
+        }
+
+        /**
+         * Requires the value to lie within {@code [min, max]}.
+         *
+         * @param min inclusive lower bound
+         * @param max inclusive upper bound
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> range(double min, double max) {
+            return min(min).max(max);
+        }
+
+        /**
+         * Requires the value to be greater than zero.
+         *
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> positive() {
+            return greaterThan(0);
+        }
+
+        /**
+         * Requires the value to be zero or greater.
+         *
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> nonNegative() {
+            return min(0);
+        }
+
+        /**
+         * Requires the value to be less than zero.
+         *
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> negative() {
+            return lessThan(0);
+        }
+
+        /**
+         * Requires the value to be a multiple of {@code step}, such as a price tick size.
+         *
+         * @param step positive, finite step
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> multipleOf(double step) {
+            if (!(step > 0) || Double.isInfinite(step)) {
+                throw new IllegalArgumentException("Step must be positive and finite");
+            }
+            this.multipleOf = step;
+            return this;
+        }
+
+        /**
+         * Builds the validator.
+         *
+         * @return a new {@link DoubleFieldValidator}
+         * @throws IllegalArgumentException if the bounds leave no valid value
+         */
+        public DoubleFieldValidator<T> build() {
+            if (hasLower && hasUpper
+                && (lower > upper || lower == upper && !(lowerInclusive && upperInclusive))) {
+                throw new IllegalArgumentException("Lower bound must not exceed upper bound");
+            }
+            return new DoubleFieldValidator<>(this);
+        }
+
+        private Builder<T> lowerBound(double bound, boolean inclusive) {
+            requireFinite(bound);
+            if (!hasLower || bound > lower || bound == lower && !inclusive) {
+                hasLower = true;
+                lower = bound;
+                lowerInclusive = inclusive;
+            }
+            return this;
+        }
+
+        private Builder<T> upperBound(double bound, boolean inclusive) {
+            requireFinite(bound);
+            if (!hasUpper || bound < upper || bound == upper && !inclusive) {
+                hasUpper = true;
+                upper = bound;
+                upperInclusive = inclusive;
+            }
+            return this;
+        }
+
+        private static void requireFinite(double bound) {
+            if (!Double.isFinite(bound)) {
+                throw new IllegalArgumentException("Bound must be finite");
+            }
+        }
+    }
+}
@@ -5,13 +5,12 @@ import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
 import com.ashishbagdane.lib.eh.exception.validation.base.FieldValidator;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
 /**
  * Validates email addresses according to a standard email format pattern. Can be applied to any object type that
- * contains an email field.
+ * contains an email field. The format check is performed by {@link EmailFormat} in a single linear pass, and the
+ * failure result is created once at construction, so rejecting an address allocates nothing.
  *
  * @param <T> The type of object containing the email field
  * @since 1.0
@@ -19,20 +18,37 @@ import java.util.regex.Pattern;
 @Component
 public class EmailFieldValidator<T> extends FieldValidator<T, String> {
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(
-        "^[A-Za-z0-9]+(?:[._+-]?[A-Za-z0-9]+)*@[A-Za-z0-9][A-Za-z0-9-]*(?:\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}$");
+    private final int maxLength;
+
+    private final ValidationResult invalidResult;
 
     public EmailFieldValidator(Function<T, String> fieldExtractor, String fieldName) {
+        this(fieldExtractor, fieldName, EmailFormat.DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates an email validator with a custom maximum address length.
+     *
+     * @param fieldExtractor Function to extract the email field
+     * @param fieldName      Name of the field for error messages
+     * @param maxLength      Maximum accepted length of the address
+     * @throws IllegalArgumentException if maxLength is not positive
+     */
+    public EmailFieldValidator(Function<T, String> fieldExtractor, String fieldName, int maxLength) {
         super(fieldExtractor, fieldName);
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("Max length must be positive");
+        }
+        this.maxLength = maxLength;
+        this.invalidResult = ValidationResult.invalid(
+            internError(ErrorCode.VALIDATION_INVALID_EMAIL,
+                        String.format("Invalid email format for field %s", fieldName)));
     }
 
     @Override
     protected ValidationResult validateField(String email) {
-        if (email == null || !EMAIL_PATTERN.matcher(email).matches()) {
-            return ValidationResult.invalid(Collections.singletonList(
-                createError(ErrorCode.VALIDATION_INVALID_EMAIL,
-                            String.format("Invalid email format for field %s", getFieldName()))
-            ));
+        if (!EmailFormat.isValid(email, maxLength)) {
+            return invalidResult;
         }
         return ValidationResult.valid();
     }
@@ -0,0 +1,115 @@
+package com.ashishbagdane.lib.eh.exception.validation.validators;
+
+/**
+ * Single-pass, allocation-free email syntax check used by {@link EmailFieldValidator}.
+ *
+ * <p>Accepts exactly the addresses matched by the pattern
+ * {@code [A-Za-z0-9]+(?:[._+-]?[A-Za-z0-9]+)*@[A-Za-z0-9][A-Za-z0-9-]*(?:\.[A-Za-z0-9-]+)*\.[A-Za-z]{2,}}:
+ * <ul>
+ *     <li>the local part is made of ASCII letters and digits, optionally separated by single {@code . _ + -}
+ *     characters, and must start and end with a letter or digit;</li>
+ *     <li>the domain has at least two non-empty dot separated labels of letters, digits and hyphens, the first label
+ *     starts with a letter or digit and the last label consists of at least two letters.</li>
+ * </ul>
+ * Each character is inspected once, so the check runs in linear time regardless of the input, and inputs longer than
+ * the configured maximum are rejected before scanning.</p>
+ *
+ * @since 1.1
+ */
+public final class EmailFormat {
+
+    /**
+     * Default maximum accepted address length, the practical limit of an SMTP forward path (RFC 5321).
+     */
+    public static final int DEFAULT_MAX_LENGTH = 254;
+
+    private EmailFormat() {
+    }
+
+    /**
+     * Checks the email syntax using {@link #DEFAULT_MAX_LENGTH}.
+     *
+     * @param email the address to check, may be null
+     * @return true if the address is well-formed
+     */
+    public static boolean isValid(CharSequence email) {
+        return isValid(email, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Checks the email syntax.
+     *
+     * @param email     the address to check, may be null
+     * @param maxLength maximum accepted length of the address
+     * @return true if the address is well-formed and not longer than {@code maxLength}
+     */
+    public static boolean isValid(CharSequence email, int maxLength) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        if (length > maxLength) {
+            return false;
+        }
+
+        // Local part: alphanumeric runs joined by single separators
+        int i = 0;
+        boolean expectAlphanumeric = true;
+        for (; i < length; i++) {
+            char c = email.charAt(i);
+            if (isAlphanumeric(c)) {
+                expectAlphanumeric = false;
+            } else if (c == '@') {
+                break;
+            } else if (!expectAlphanumeric && isLocalSeparator(c)) {
+                expectAlphanumeric = true;
+            } else {
+                return false;
+            }
+        }
+        // Missing '@', empty local part or local part ending with a separator
+        if (i == length || expectAlphanumeric) {
+            return false;
+        }
+        i++;
+
+        // Domain: first label must start with a letter or digit
+        if (i == length || !isAlphanumeric(email.charAt(i))) {
+            return false;
+        }
+        int dots = 0;
+        int labelLength = 0;
+        boolean labelAlphabetic = true;
+        for (; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                dots++;
+                labelLength = 0;
+                labelAlphabetic = true;
+            } else if (isAlphanumeric(c) || c == '-') {
+                labelLength++;
+                labelAlphabetic &= isLetter(c);
+            } else {
+                return false;
+            }
+        }
+
+        // Top-level domain: at least two letters after the last dot
+        return dots > 0 && labelLength >= 2 && labelAlphabetic;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isLocalSeparator(char c) {
+        return c == '.' || c == '_' || c == '+' || c == '-';
+    }
+}
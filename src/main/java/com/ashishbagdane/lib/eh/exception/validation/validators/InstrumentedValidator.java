@@ -0,0 +1,175 @@
+package com.ashishbagdane.lib.eh.exception.validation.validators;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validator decorator that records how often a validator passes and fails and how long it takes, so slow or
+ * frequently failing validators can be found in the metrics backend.
+ *
+ * <p>All meters are resolved from the registry once at construction and tagged with the validator name, so
+ * validators built with the same name, for example after a configuration reload, report into the same meters:</p>
+ * <ul>
+ *     <li>{@value #CALLS_METER} counts every call, tagged with the outcome {@code passed}, {@code failed} or
+ *     {@code error} for calls that threw.</li>
+ *     <li>{@value #DURATION_METER} is a timer with a percentile histogram, recorded for a random sample of calls. By
+ *     default one call in {@value #DEFAULT_SAMPLE_EVERY} is timed.</li>
+ * </ul>
+ *
+ * <p>An unsampled call costs a thread-local random draw and a counter increment on top of the delegate.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * Validator<Order> validator = InstrumentedValidator.builder(orderValidator, meterRegistry, "order")
+ *     .sampleEvery(16)
+ *     .build();
+ * }</pre></p>
+ *
+ * @param <T> The type of object to be validated
+ * @since 1.1
+ */
+public final class InstrumentedValidator<T> implements Validator<T> {
+
+    /**
+     * Name of the call counter.
+     */
+    public static final String CALLS_METER = "application.validation.validator.calls";
+
+    /**
+     * Name of the latency timer.
+     */
+    public static final String DURATION_METER = "application.validation.validator.duration";
+
+    /**
+     * Default sampling interval of the latency timer.
+     */
+    public static final int DEFAULT_SAMPLE_EVERY = 64;
+
+    private static final String VALIDATOR_TAG = "validator";
+
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final Validator<T> delegate;
+
+    private final int sampleMask;
+
+    private final Counter passed;
+
+    private final Counter failed;
+
+    private final Counter errors;
+
+    private final Timer timer;
+
+    private InstrumentedValidator(Builder<T> builder) {
+        this.delegate = builder.delegate;
+        this.sampleMask = builder.sampleEvery - 1;
+        this.passed = counter(builder.registry, builder.name, "passed");
+        this.failed = counter(builder.registry, builder.name, "failed");
+        this.errors = counter(builder.registry, builder.name, "error");
+        this.timer = Timer.builder(DURATION_METER)
+            .description("Sampled duration of validator calls")
+            .tag(VALIDATOR_TAG, builder.name)
+            .publishPercentileHistogram()
+            .register(builder.registry);
+    }
+
+    /**
+     * Creates a builder for an instrumented validator.
+     *
+     * @param delegate the validator to instrument
+     * @param registry the registry the meters are registered with
+     * @param name     the validator name, used as the {@code validator} tag
+     * @param <T>      the type of object to be validated
+     * @return a new {@link Builder}
+     */
+    public static <T> Builder<T> builder(Validator<T> delegate, MeterRegistry registry, String name) {
+        return new Builder<>(delegate, registry, name);
+    }
+
+    @Override
+    public ValidationResult validate(T input) {
+        if ((ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return count(invoke(input));
+        }
+
+        long start = System.nanoTime();
+        ValidationResult result = invoke(input);
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return count(result);
+    }
+
+    private ValidationResult invoke(T input) {
+        try {
+            return delegate.validate(input);
+        } catch (RuntimeException | Error e) {
+            errors.increment();
+            throw e;
+        }
+    }
+
+    private ValidationResult count(ValidationResult result) {
+        (result.isValid() ? passed : failed).increment();
+        return result;
+    }
+
+    private static Counter counter(MeterRegistry registry, String name, String outcome) {
+        return Counter.builder(CALLS_METER)
+            .description("Number of validator calls")
+            .tag(VALIDATOR_TAG, name)
+            .tag(OUTCOME_TAG, outcome)
+            .register(registry);
+    }
+
+    /**
+     * Builder for {@link InstrumentedValidator}.
+     *
+     * @param <T> The type of object to be validated
+     */
+    public static final class Builder<T> {
+
+        private final Validator<T> delegate;
+
+        private final MeterRegistry registry;
+
+        private final String name;
+
+        private int sampleEvery = DEFAULT_SAMPLE_EVERY;
+
+        private Builder(Validator<T> delegate, MeterRegistry registry, String name) {
+            this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+            this.registry = Objects.requireNonNull(registry, "registry must not be null");
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("Validator name cannot be null or empty");
+            }
+            this.name = name;
+        }
+
+        /**
+         * Sets how many calls share one latency sample on average. The value is rounded up to a power of two; 1
+         * times every call.
+         *
+         * @param calls the sampling interval
+         * @return This builder instance for method chaining
+         * @throws IllegalArgumentException if calls is not positive or above 2^30
+         */
+        public Builder<T> sampleEvery(int calls) {
+            if (calls <= 0 || calls > 1 << 30) {
+                throw new IllegalArgumentException("Sampling interval must be between 1 and 2^30");
+            }
+            this.sampleEvery = calls == 1 ? 1 : Integer.highestOneBit(calls - 1) << 1;
+            return this;
+        }
+
+        public InstrumentedValidator<T> build() {
+            return new InstrumentedValidator<>(this);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.ashishbagdane.lib.eh.exception.validation.validators;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.base.BaseValidator;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+
+/**
+ * Validates an {@code int} field read through a {@link ToIntFunction}, so the value is never boxed. Supports lower
+ * and upper bounds, sign checks and a multiple-of check; failure results are created once at construction.
+ *
+ * <p>All configured checks are applied. A value that violates a bound and the multiple-of check yields both errors,
+ * with the error code {@link ErrorCode#VALIDATION_INVALID_PARAMETER}.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * IntFieldValidator<Quote> quantity = IntFieldValidator.builder(Quote::getQuantity, "quantity")
+ *     .positive()
+ *     .max(10_000)
+ *     .multipleOf(100)
+ *     .build();
+ * }</pre></p>
+ *
+ * @param <T> The type of object containing the field to validate
+ * @since 1.1
+ */
+public final class IntFieldValidator<T> extends BaseValidator<T> {
+
+    private final ToIntFunction<T> fieldExtractor;
+
+    private final boolean hasLower;
+
+    private final int lower;
+
+    private final boolean hasUpper;
+
+    private final int upper;
+
+    private final int multipleOf;
+
+    private final ValidationResult belowResult;
+
+    private final ValidationResult aboveResult;
+
+    private final ValidationResult notMultipleResult;
+
+    private IntFieldValidator(Builder<T> builder) {
+        this.fieldExtractor = builder.fieldExtractor;
+        this.hasLower = builder.lower != null;
+        this.lower = hasLower ? builder.lower : 0;
+        this.hasUpper = builder.upper != null;
+        this.upper = hasUpper ? builder.upper : 0;
+        this.multipleOf = builder.multipleOf;
+        this.belowResult = hasLower ? invalid(builder.fieldName, "must be at least " + lower) : null;
+        this.aboveResult = hasUpper ? invalid(builder.fieldName, "must be at most " + upper) : null;
+        this.notMultipleResult = multipleOf != 0 ?
+            invalid(builder.fieldName, "must be a multiple of " + multipleOf) : null;
+    }
+
+    /**
+     * Creates a builder for an int field validator.
+     *
+     * @param fieldExtractor Function to extract the field value from the object
+     * @param fieldName      Name of the field for error messages
+     * @param <T>            The type of object containing the field
+     * @return a new {@link Builder}
+     */
+    public static <T> Builder<T> builder(ToIntFunction<T> fieldExtractor, String fieldName) {
+        return new Builder<>(fieldExtractor, fieldName);
+    }
+
+    @Override
+    public ValidationResult validate(T input) {
+        int value = fieldExtractor.applyAsInt(input);
+
+        ValidationResult rangeFailure = null;
+        if (hasLower && value < lower) {
+            rangeFailure = belowResult;
+        } else if (hasUpper && value > upper) {
+            rangeFailure = aboveResult;
+        }
+
+        if (multipleOf == 0 || value % multipleOf == 0) {
+            return rangeFailure != null ? rangeFailure : ValidationResult.valid();
+        }
+        if (rangeFailure == null) {
+            return notMultipleResult;
+        }
+        return ValidationResult.invalid(
+            List.of(rangeFailure.getErrors().get(0), notMultipleResult.getErrors().get(0)));
+    }
+
+    private static ValidationResult invalid(String fieldName, String constraint) {
+        return ValidationResult.invalid(internError(ErrorCode.VALIDATION_INVALID_PARAMETER,
+                                                    String.format("Field '%s' %s", fieldName, constraint)));
+    }
+
+    /**
+     * Builder for {@link IntFieldValidator}. Bounds only ever tighten: combining {@code min(5)} with
+     * {@code positive()} keeps the lower bound at 5.
+     *
+     * @param <T> The type of object containing the field
+     */
+    public static final class Builder<T> {
+
+        private final ToIntFunction<T> fieldExtractor;
+
+        private final String fieldName;
+
+        private Integer lower;
+
+        private Integer upper;
+
+        private int multipleOf;
+
+        private Builder(ToIntFunction<T> fieldExtractor, String fieldName) {
+            this.fieldExtractor = Objects.requireNonNull(fieldExtractor, "fieldExtractor must not be null");
+            if (fieldName == null || fieldName.trim().isEmpty()) {
+                throw new IllegalArgumentException("Field name cannot be null or empty");
+            }
+            this.fieldName = fieldName;
+        }
+
+        /**
+         * Requires the value to be at least {@code min}.
+         *
+         * @param min inclusive lower bound
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> min(int min) {
+            lower = lower == null ? min : Math.max(lower, min);
+            return this;
+        }
+
+        /**
+         * Requires the value to be at most {@code max}.
+         *
+         * @param max inclusive upper bound
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> max(int max) {
+            upper = upper == null ? max : Math.min(upper, max);
+            return this;
+        }
+
+        /**
+         * Requires the value to lie within {@code [min, max]}.
+         *
+         * @param min inclusive lower bound
+         * @param max inclusive upper bound
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> range(int min, int max) {
+            return min(min).max(max);
+        }
+
+        /**
+         * Requires the value to be greater than zero.
+         *
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> positive() {
+            return min(1);
+        }
+
+        /**
+         * Requires the value to be zero or greater.
+         *
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> nonNegative() {
+            return min(0);
+        }
+
+        /**
+         * Requires the value to be less than zero.
+         *
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> negative() {
+            return max(-1);
+        }
+
+        /**
+         * Requires the value to be a multiple of {@code divisor}.
+         *
+         * @param divisor positive divisor
+         * @return This builder instance for method chaining
+         */
+        public Builder<T> multipleOf(int divisor) {
+            if (divisor <= 0) {
+                throw new IllegalArgumentException("Divisor must be positive");
+            }
+            this.multipleOf = divisor;
+            return this;
+        }
+
+        /**
+         * Builds the validator.
+         *
+         * @return a new {@link IntFieldValidator}
+         * @throws IllegalArgumentException if the lower bound exceeds the upper bound
+         */
+        public IntFieldValidator<T> build() {
+            if (lower != null && upper != null && lower > upper) {
+                throw new IllegalArgumentException("Lower bound must not exceed upper bound");
+            }
+            return new IntFieldValidator<>(this);
+        }
+    }
+}
@@ -6,12 +6,12 @@ import com.ashishbagdane.lib.eh.exception.validation.base.FieldValidator;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Map;
 import java.util.function.Function;
 
 /**
- * Validates that a field is not null or empty.
+ * Validates that a field is not null or empty. The failure result is created once at construction and returned for
+ * every missing value.
  *
  * @param <T> The type of the object containing the field to validate
  * @param <F> The type of the field being validated
@@ -19,6 +19,8 @@ import java.util.function.Function;
 @Component
 public final class RequiredFieldValidator<T, F> extends FieldValidator<T, F> {
 
+    private final ValidationResult missingResult;
+
     /**
      * Creates a new RequiredFieldValidator.
      *
@@ -29,6 +31,8 @@ public final class RequiredFieldValidator<T, F> extends FieldValidator<T, F> {
     public RequiredFieldValidator(Function<T, F> fieldExtractor, String fieldName) {
         super(fieldExtractor, fieldName);
         validateConstructorParameters(fieldExtractor, fieldName);
+        this.missingResult = ValidationResult.invalid(
+            internError(ErrorCode.VALIDATION_MISSING_FIELD, String.format("Field '%s' is required", fieldName)));
     }
 
     private void validateConstructorParameters(Function<T, F> fieldExtractor, String fieldName) {
@@ -42,34 +46,50 @@ public final class RequiredFieldValidator<T, F> extends FieldValidator<T, F> {
 
     @Override
     protected ValidationResult validateField(F field) {
-        if (isEmptyField(field)) {
-            return ValidationResult.invalid(Collections.singletonList(
-                createError(
-                    ErrorCode.VALIDATION_MISSING_FIELD,
-                    String.format("Field '%s' is required", getFieldName())
-                )
-            ));
+        if (isEmpty(field)) {
+            return missingResult;
         }
         return ValidationResult.valid();
     }
 
-    private boolean isEmptyField(F field) {
-        if (field == null) {
+    /**
+     * Checks whether a value counts as missing: null, a blank character sequence, or an empty collection or map.
+     *
+     * @param value the value to check
+     * @return true if the value is missing
+     */
+    public static boolean isEmpty(Object value) {
+        if (value == null) {
             return true;
         }
 
-        if (field instanceof CharSequence) {
-            return ((CharSequence) field).toString().trim().isEmpty();
+        if (value instanceof CharSequence) {
+            return isBlank((CharSequence) value);
         }
 
-        if (field instanceof Collection<?>) {
-            return ((Collection<?>) field).isEmpty();
+        if (value instanceof Collection<?>) {
+            return ((Collection<?>) value).isEmpty();
         }
 
-        if (field instanceof Map<?, ?>) {
-            return ((Map<?, ?>) field).isEmpty();
+        if (value instanceof Map<?, ?>) {
+            return ((Map<?, ?>) value).isEmpty();
         }
 
         return false;
     }
+
+    /**
+     * Same check as {@code toString().trim().isEmpty()} without creating intermediate strings.
+     *
+     * @param value the non-null character sequence to check
+     * @return true if the sequence contains only whitespace or control characters
+     */
+    public static boolean isBlank(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
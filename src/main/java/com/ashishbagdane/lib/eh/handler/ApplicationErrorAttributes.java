@@ -2,6 +2,7 @@ package com.ashishbagdane.lib.eh.handler;
 
 import com.ashishbagdane.lib.base.eh.core.ErrorMessage;
 import com.ashishbagdane.lib.base.eh.exception.base.AbstractApplicationException;
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
 import com.ashishbagdane.lib.eh.metrics.ErrorMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
@@ -40,7 +42,7 @@ public class ApplicationErrorAttributes extends DefaultErrorAttributes {
 
         // Handle different types of exceptions
         if (error instanceof AbstractApplicationException abstractApplicationException) {
-            return handleApplicationException(abstractApplicationException);
+            return handleApplicationException(abstractApplicationException, webRequest);
         } else if (error instanceof MethodArgumentNotValidException methodArgumentNotValidException) {
             return handleValidationException(methodArgumentNotValidException);
         } else {
@@ -48,9 +50,16 @@ public class ApplicationErrorAttributes extends DefaultErrorAttributes {
         }
     }
 
-    private Map<String, Object> handleApplicationException(AbstractApplicationException ex) {
+    private Map<String, Object> handleApplicationException(AbstractApplicationException ex, WebRequest webRequest) {
         ErrorMessage errorMessage = ex.getErrorMessage();
         log.error("Application exception occurred: {}", errorMessage, ex);
+
+        // Tell clients of an unavailable service when to come back
+        if (ex instanceof ServiceUnavailableException unavailable
+            && webRequest instanceof ServletWebRequest servletWebRequest
+            && servletWebRequest.getResponse() != null) {
+            errorResponseBuilder.applyRetryAfter(servletWebRequest.getResponse(), unavailable);
+        }
         return errorResponseBuilder.buildErrorResponse(errorMessage);
     }
 
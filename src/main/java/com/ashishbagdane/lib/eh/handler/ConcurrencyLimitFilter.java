@@ -0,0 +1,78 @@
+package com.ashishbagdane.lib.eh.handler;
+
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+import com.ashishbagdane.lib.eh.resilience.AdaptiveBulkhead;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Servlet filter that sheds load by running each request through an {@link AdaptiveBulkhead}.
+ *
+ * <p>A request beyond the concurrency limit is answered at once with status 503, a Retry-After header and an error
+ * body built by the {@link ErrorResponseBuilder} from the {@link ServiceUnavailableException} of the rejection, without
+ * reaching the rest of the filter chain. For asynchronous requests the permit only covers the initial dispatch.</p>
+ *
+ * <p>The filter is not registered automatically. Register it for the endpoints to protect, for example with a bean
+ * method such as:
+ * <pre>{@code
+ * public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ErrorResponseBuilder builder,
+ *                                                                            ErrorMetrics errorMetrics,
+ *                                                                            ObjectMapper objectMapper) {
+ *     AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("api").metrics(errorMetrics).build();
+ *     FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+ *         new FilterRegistrationBean<>(new ConcurrencyLimitFilter(bulkhead, builder, objectMapper));
+ *     registration.addUrlPatterns("/api/*");
+ *     return registration;
+ * }
+ * }</pre></p>
+ *
+ * @since 1.1
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveBulkhead bulkhead;
+
+    private final ErrorResponseBuilder errorResponseBuilder;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveBulkhead.Permit permit;
+        try {
+            permit = bulkhead.acquire();
+        } catch (ServiceUnavailableException e) {
+            reject(request, response, e);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permit.release();
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response,
+                        ServiceUnavailableException rejection) throws IOException {
+        Map<String, Object> body = errorResponseBuilder.buildErrorResponse(rejection.getErrorMessage());
+        body.put("status", HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        body.put("path", request.getRequestURI());
+
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        errorResponseBuilder.applyRetryAfter(response, rejection);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -1,11 +1,16 @@
 package com.ashishbagdane.lib.eh.handler;
 
 import com.ashishbagdane.lib.base.eh.core.ErrorMessage;
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,6 +22,21 @@ import java.util.Optional;
 @Component
 public class ErrorResponseBuilder {
 
+    private final Clock clock;
+
+    public ErrorResponseBuilder() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Creates a builder measuring Retry-After delays against the given clock.
+     *
+     * @since 1.1
+     */
+    ErrorResponseBuilder(Clock clock) {
+        this.clock = clock;
+    }
+
     /**
      * Builds a standardized error response map from an ErrorMessage.
      */
@@ -58,6 +78,30 @@ public class ErrorResponseBuilder {
         return errorAttributes;
     }
 
+    /**
+     * Sets the Retry-After header to the given delay in seconds, rounded up and at least one second. Does nothing if
+     * the delay is null.
+     *
+     * @since 1.1
+     */
+    public void applyRetryAfter(HttpServletResponse response, Duration delay) {
+        if (delay == null) {
+            return;
+        }
+        long seconds = Math.max(1, Math.floorDiv(delay.toMillis() + 999, 1000));
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(seconds));
+    }
+
+    /**
+     * Sets the Retry-After header to the time left until the retry instant of the exception. Does nothing if the
+     * exception has no retry time.
+     *
+     * @since 1.1
+     */
+    public void applyRetryAfter(HttpServletResponse response, ServiceUnavailableException exception) {
+        applyRetryAfter(response, exception.getRetryDelay(clock));
+    }
+
     /**
      * Retrieves the current request path.
      */
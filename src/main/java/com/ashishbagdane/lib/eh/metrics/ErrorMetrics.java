@@ -1,6 +1,7 @@
 package com.ashishbagdane.lib.eh.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
 
 /**
  * Component for tracking error metrics in the application.
@@ -22,6 +24,10 @@ public class ErrorMetrics {
 
     private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
 
+    private final Map<String, Counter> rejectionCounters = new ConcurrentHashMap<>();
+
+    private final Map<String, ConcurrencyLimitGauges> concurrencyLimits = new ConcurrentHashMap<>();
+
     private static final String ERROR_COUNTER_NAME = "application.errors";
 
     private static final String VALIDATION_COUNTER_NAME = "application.validation.errors";
@@ -32,6 +38,14 @@ public class ErrorMetrics {
 
     private static final String DOMAIN_TAG = "domain";
 
+    private static final String BULKHEAD_LIMIT_GAUGE_NAME = "application.bulkhead.limit";
+
+    private static final String BULKHEAD_IN_FLIGHT_GAUGE_NAME = "application.bulkhead.in_flight";
+
+    private static final String BULKHEAD_REJECTION_COUNTER_NAME = "application.bulkhead.rejections";
+
+    private static final String BULKHEAD_TAG = "bulkhead";
+
     public ErrorMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
     }
@@ -67,6 +81,38 @@ public class ErrorMetrics {
         counter.increment(errorCount);
     }
 
+    /**
+     * Publishes the current concurrency limit and number of in-flight calls of a bulkhead. Registering again under the
+     * same name replaces the previous sources, so a rebuilt bulkhead takes over the gauges of the one it replaces.
+     *
+     * @since 1.1
+     */
+    public void registerConcurrencyLimit(String bulkhead, IntSupplier limit, IntSupplier inFlight) {
+        concurrencyLimits.computeIfAbsent(bulkhead, this::registerConcurrencyLimitGauges).update(limit, inFlight);
+    }
+
+    /**
+     * Increments the counter of calls rejected by a bulkhead.
+     *
+     * @since 1.1
+     */
+    public void incrementRejectionCount(String bulkhead) {
+        rejectionCounters.computeIfAbsent(bulkhead, name ->
+            meterRegistry.counter(BULKHEAD_REJECTION_COUNTER_NAME, List.of(Tag.of(BULKHEAD_TAG, name)))
+        ).increment();
+    }
+
+    private ConcurrencyLimitGauges registerConcurrencyLimitGauges(String bulkhead) {
+        ConcurrencyLimitGauges gauges = new ConcurrencyLimitGauges();
+        Gauge.builder(BULKHEAD_LIMIT_GAUGE_NAME, gauges, ConcurrencyLimitGauges::limit)
+            .tag(BULKHEAD_TAG, bulkhead)
+            .register(meterRegistry);
+        Gauge.builder(BULKHEAD_IN_FLIGHT_GAUGE_NAME, gauges, ConcurrencyLimitGauges::inFlight)
+            .tag(BULKHEAD_TAG, bulkhead)
+            .register(meterRegistry);
+        return gauges;
+    }
+
     /**
      * Gets or creates an error counter for a specific error type.
      */
@@ -76,4 +122,28 @@ public class ErrorMetrics {
             return meterRegistry.counter(ERROR_COUNTER_NAME, tags);
         });
     }
+
+    /**
+     * Current sources of the gauges of one bulkhead, held by the metrics so the registry never references a replaced
+     * bulkhead.
+     */
+    private static final class ConcurrencyLimitGauges {
+
+        private volatile IntSupplier limit = () -> 0;
+
+        private volatile IntSupplier inFlight = () -> 0;
+
+        private void update(IntSupplier limit, IntSupplier inFlight) {
+            this.limit = limit;
+            this.inFlight = inFlight;
+        }
+
+        private double limit() {
+            return limit.getAsInt();
+        }
+
+        private double inFlight() {
+            return inFlight.getAsInt();
+        }
+    }
 }
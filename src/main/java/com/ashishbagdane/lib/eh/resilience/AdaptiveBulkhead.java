@@ -0,0 +1,381 @@
+package com.ashishbagdane.lib.eh.resilience;
+
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+import com.ashishbagdane.lib.eh.metrics.ErrorMetrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bulkhead limiting the number of concurrent calls, with a limit that adapts to the observed latency.
+ *
+ * <p>Calls beyond the current limit are rejected immediately with a {@link ServiceUnavailableException} whose
+ * {@code retryAfter} lies the configured retry delay ahead, so an overloaded instance sheds load instead of queueing
+ * it. The limit follows the additive-increase/multiplicative-decrease scheme: a call completing within the latency
+ * threshold while at least half of the limit was in use raises the limit by one, while a call exceeding the threshold
+ * or {@link Permit#drop() dropped} by the caller, for example after a timeout, multiplies it by the backoff ratio.
+ * Only calls that started after the last decrease can lower the limit again, so a burst of slow calls admitted under
+ * the same limit backs off once rather than once per call. The limit always stays between the configured minimum and
+ * maximum.</p>
+ *
+ * <p>With {@link Builder#metrics(ErrorMetrics) metrics}, the current limit, the in-flight calls and the rejections are
+ * published through {@link ErrorMetrics}.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders-api")
+ *     .initialLimit(50)
+ *     .maxLimit(400)
+ *     .latencyThreshold(Duration.ofMillis(250))
+ *     .metrics(errorMetrics)
+ *     .build();
+ * Order order = bulkhead.execute(() -> orderService.place(request));
+ * }</pre></p>
+ *
+ * @since 1.1
+ */
+public final class AdaptiveBulkhead {
+
+    /**
+     * Default concurrency limit before any call completed.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+    /**
+     * Default lower bound of the limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * Default upper bound of the limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 200;
+
+    /**
+     * Default factor applied to the limit when a call is slow or dropped.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+
+    /**
+     * Default latency above which a call counts as a sign of overload.
+     */
+    public static final Duration DEFAULT_LATENCY_THRESHOLD = Duration.ofMillis(500);
+
+    /**
+     * Default delay after which rejected callers are asked to retry.
+     */
+    public static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final String name;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final double backoffRatio;
+
+    private final long latencyThresholdNanos;
+
+    private final Duration retryAfter;
+
+    private final ErrorMetrics metrics;
+
+    private final Clock clock;
+
+    private final AtomicInteger limit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(System.nanoTime());
+
+    private AdaptiveBulkhead(Builder builder) {
+        if (builder.minLimit > builder.maxLimit) {
+            throw new IllegalArgumentException("Min limit must not be greater than max limit");
+        }
+        this.name = builder.name;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyThresholdNanos = builder.latencyThreshold.toNanos();
+        this.retryAfter = builder.retryAfter;
+        this.metrics = builder.metrics;
+        this.clock = builder.clock;
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, builder.initialLimit)));
+        if (metrics != null) {
+            metrics.registerConcurrencyLimit(name, this::getLimit, this::getInFlight);
+        }
+    }
+
+    /**
+     * Creates a builder for an adaptive bulkhead.
+     *
+     * @param name the name of the bulkhead, reported as the service name of rejections and as metric tag
+     * @return a new {@link Builder}
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns how long rejected callers are asked to wait, the delay between the rejection and the
+     * {@code retryAfter} of its {@link ServiceUnavailableException}.
+     *
+     * @return the retry delay
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Runs the call if the limit permits it.
+     *
+     * @param call the call
+     * @param <T>  the result type
+     * @return the result of the call
+     * @throws ServiceUnavailableException if the limit is reached
+     */
+    public <T> T execute(Supplier<T> call) {
+        Permit permit = acquire();
+        try {
+            return call.get();
+        } finally {
+            permit.release();
+        }
+    }
+
+    /**
+     * Acquires a slot for one call. The returned permit must be released exactly once, by either
+     * {@link Permit#release()} or {@link Permit#drop()}.
+     *
+     * @return the permit of the call
+     * @throws ServiceUnavailableException if the limit is reached
+     */
+    public Permit acquire() {
+        int current = inFlight.get();
+        while (true) {
+            int currentLimit = limit.get();
+            if (current >= currentLimit) {
+                throw reject(currentLimit);
+            }
+            int witness = inFlight.compareAndExchange(current, current + 1);
+            if (witness == current) {
+                return new Permit(System.nanoTime());
+            }
+            current = witness;
+        }
+    }
+
+    private ServiceUnavailableException reject(int currentLimit) {
+        if (metrics != null) {
+            metrics.incrementRejectionCount(name);
+        }
+        return new ServiceUnavailableException(name, "concurrency limit of " + currentLimit + " reached",
+                                               clock.instant().plus(retryAfter), clock);
+    }
+
+    private void increase() {
+        limit.updateAndGet(current -> current < maxLimit ? current + 1 : current);
+    }
+
+    private void decrease(long startNanos) {
+        long last = lastDecreaseNanos.get();
+        if (startNanos - last < 0 || !lastDecreaseNanos.compareAndSet(last, System.nanoTime())) {
+            return;
+        }
+        limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+    }
+
+    /**
+     * Slot of one call in the bulkhead.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Releases the slot and adapts the limit to the latency of the call.
+         */
+        public void release() {
+            long latency = System.nanoTime() - startNanos;
+            int inUse = inFlight.getAndDecrement();
+            if (latency > latencyThresholdNanos) {
+                decrease(startNanos);
+            } else if (inUse * 2 >= limit.get()) {
+                increase();
+            }
+        }
+
+        /**
+         * Releases the slot of a call that was abandoned because of overload, such as a timeout, and lowers the
+         * limit.
+         */
+        public void drop() {
+            inFlight.decrementAndGet();
+            decrease(startNanos);
+        }
+    }
+
+    /**
+     * Builder for {@link AdaptiveBulkhead}.
+     */
+    public static final class Builder {
+
+        private final String name;
+
+        private int initialLimit = DEFAULT_INITIAL_LIMIT;
+
+        private int minLimit = DEFAULT_MIN_LIMIT;
+
+        private int maxLimit = DEFAULT_MAX_LIMIT;
+
+        private double backoffRatio = DEFAULT_BACKOFF_RATIO;
+
+        private Duration latencyThreshold = DEFAULT_LATENCY_THRESHOLD;
+
+        private Duration retryAfter = DEFAULT_RETRY_AFTER;
+
+        private ErrorMetrics metrics;
+
+        private Clock clock = Clock.systemDefaultZone();
+
+        private Builder(String name) {
+            this.name = Objects.requireNonNull(name, "name must not be null");
+        }
+
+        /**
+         * Sets the limit before any call completed. Clamped to the minimum and maximum limit.
+         *
+         * @param initialLimit the initial number of concurrent calls
+         * @return This builder instance for method chaining
+         */
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = requirePositive(initialLimit, "Initial limit");
+            return this;
+        }
+
+        /**
+         * Sets the lower bound of the limit.
+         *
+         * @param minLimit the minimum number of concurrent calls
+         * @return This builder instance for method chaining
+         */
+        public Builder minLimit(int minLimit) {
+            this.minLimit = requirePositive(minLimit, "Min limit");
+            return this;
+        }
+
+        /**
+         * Sets the upper bound of the limit.
+         *
+         * @param maxLimit the maximum number of concurrent calls
+         * @return This builder instance for method chaining
+         */
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = requirePositive(maxLimit, "Max limit");
+            return this;
+        }
+
+        /**
+         * Sets the factor applied to the limit when a call is slow or dropped.
+         *
+         * @param backoffRatio factor greater than 0 and less than 1
+         * @return This builder instance for method chaining
+         */
+        public Builder backoffRatio(double backoffRatio) {
+            if (!(backoffRatio > 0 && backoffRatio < 1)) {
+                throw new IllegalArgumentException("Backoff ratio must be greater than 0 and less than 1");
+            }
+            this.backoffRatio = backoffRatio;
+            return this;
+        }
+
+        /**
+         * Sets the latency above which a call lowers the limit.
+         *
+         * @param latencyThreshold the latency threshold
+         * @return This builder instance for method chaining
+         */
+        public Builder latencyThreshold(Duration latencyThreshold) {
+            this.latencyThreshold = requirePositive(latencyThreshold, "latencyThreshold");
+            return this;
+        }
+
+        /**
+         * Sets how long rejected callers are asked to wait before retrying.
+         *
+         * @param retryAfter the retry delay
+         * @return This builder instance for method chaining
+         */
+        public Builder retryAfter(Duration retryAfter) {
+            this.retryAfter = requirePositive(retryAfter, "retryAfter");
+            return this;
+        }
+
+        /**
+         * Publishes the limit, in-flight calls and rejections through the given metrics.
+         *
+         * @param metrics the error metrics
+         * @return This builder instance for method chaining
+         */
+        public Builder metrics(ErrorMetrics metrics) {
+            this.metrics = Objects.requireNonNull(metrics, "metrics must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the clock used for the retry time of rejections.
+         *
+         * @param clock the clock
+         * @return This builder instance for method chaining
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock must not be null");
+            return this;
+        }
+
+        /**
+         * Builds the bulkhead and registers its metrics.
+         *
+         * @return a new {@link AdaptiveBulkhead}
+         * @throws IllegalArgumentException if the minimum limit exceeds the maximum limit
+         */
+        public AdaptiveBulkhead build() {
+            return new AdaptiveBulkhead(this);
+        }
+
+        private static int requirePositive(int value, String name) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return value;
+        }
+
+        private static Duration requirePositive(Duration duration, String name) {
+            Objects.requireNonNull(duration, name + " must not be null");
+            if (duration.isNegative() || duration.isZero()) {
+                throw new IllegalArgumentException(name + " must be positive");
+            }
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.ashishbagdane.lib.eh.resilience;
+
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker of a single service, obtained from a {@link CircuitBreakerRegistry}.
+ *
+ * <p>While {@link State#CLOSED closed}, the outcomes of the last calls are kept in a count-based sliding window.
+ * Once the window holds the minimum number of calls and the share of failures reaches the threshold, the breaker
+ * {@link State#OPEN opens} and rejects calls immediately with a {@link ServiceUnavailableException} whose
+ * {@code retryAfter} is the end of the open period. After that period a limited number of probe calls are let
+ * through in {@link State#HALF_OPEN half-open} state: if all succeed the breaker closes with an empty window, and if
+ * any fails it opens again. Probes that have not reported within another open period are replaced by new ones.</p>
+ *
+ * <p>The breaker is lock-free: the state is an immutable snapshot swapped by compare-and-set and the window is a ring
+ * of atomic slots, so a rejected call costs a volatile read and the creation of the exception.</p>
+ *
+ * @since 1.1
+ */
+public final class CircuitBreaker {
+
+    // Slots of the window start as 0, which is neither outcome
+    private static final int SUCCESS = 1;
+
+    private static final int FAILURE = 2;
+
+    private final String serviceName;
+
+    private final CircuitBreakerRegistry config;
+
+    private final AtomicReference<Permit> current;
+
+    CircuitBreaker(String serviceName, CircuitBreakerRegistry config) {
+        this.serviceName = serviceName;
+        this.config = config;
+        this.current = new AtomicReference<>(closed());
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public State getState() {
+        return current.get().state;
+    }
+
+    /**
+     * Runs the call if the breaker permits it and records its outcome.
+     *
+     * @param call the call to the service
+     * @param <T>  the result type
+     * @return the result of the call
+     * @throws ServiceUnavailableException if the breaker is open
+     */
+    public <T> T execute(Supplier<T> call) {
+        Permit permit = acquirePermission();
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error e) {
+            permit.onFailure(e);
+            throw e;
+        }
+        permit.onSuccess();
+        return result;
+    }
+
+    /**
+     * Runs the call if the breaker permits it and records its outcome.
+     *
+     * @param call the call to the service
+     * @throws ServiceUnavailableException if the breaker is open
+     */
+    public void run(Runnable call) {
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Acquires permission for one call, for calls whose outcome is only known later, such as asynchronous calls.
+     * Exactly one of {@link Permit#onSuccess()} and {@link Permit#onFailure(Throwable)} must be called on the returned
+     * permit once the outcome is known.
+     *
+     * @return the permit of the call
+     * @throws ServiceUnavailableException if the breaker is open
+     */
+    public Permit acquirePermission() {
+        while (true) {
+            Permit permit = current.get();
+            switch (permit.state) {
+                case CLOSED -> {
+                    return permit;
+                }
+                case OPEN -> {
+                    if (config.clock.millis() < permit.until) {
+                        throw unavailable("circuit breaker is open", permit.until);
+                    }
+                    current.compareAndSet(permit, halfOpen());
+                }
+                case HALF_OPEN -> {
+                    if (permit.probes.getAndUpdate(probes -> probes > 0 ? probes - 1 : 0) > 0) {
+                        return permit;
+                    }
+                    // Probes whose outcome was never reported must not keep the breaker half-open forever
+                    if (config.clock.millis() < permit.until) {
+                        throw unavailable("circuit breaker is half-open and all probe calls are in flight",
+                                          permit.until);
+                    }
+                    current.compareAndSet(permit, halfOpen());
+                }
+            }
+        }
+    }
+
+    private ServiceUnavailableException unavailable(String reason, long retryAtMillis) {
+        return new ServiceUnavailableException(serviceName, reason, Instant.ofEpochMilli(retryAtMillis), config.clock);
+    }
+
+    private Permit closed() {
+        return new Permit(State.CLOSED, new Window(config.slidingWindowSize), 0, 0);
+    }
+
+    private Permit open() {
+        return new Permit(State.OPEN, null, config.clock.millis() + config.openDuration.toMillis(), 0);
+    }
+
+    private Permit halfOpen() {
+        return new Permit(State.HALF_OPEN, null, config.clock.millis() + config.openDuration.toMillis(),
+                          config.halfOpenProbes);
+    }
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+
+        /**
+         * Calls are permitted and their outcomes recorded.
+         */
+        CLOSED,
+
+        /**
+         * Calls are rejected until the open period ends.
+         */
+        OPEN,
+
+        /**
+         * A limited number of probe calls are permitted to test whether the service has recovered.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Permission to make one call, tied to the state of the breaker it was granted in. Outcomes reported for a state
+     * that has since been left are ignored.
+     */
+    public final class Permit {
+
+        private final State state;
+
+        private final Window window;
+
+        /**
+         * End of the open period, or the time by which half-open probes must have reported.
+         */
+        private final long until;
+
+        private final AtomicInteger probes;
+
+        private final AtomicInteger probeSuccesses;
+
+        private Permit(State state, Window window, long until, int probes) {
+            this.state = state;
+            this.window = window;
+            this.until = until;
+            this.probes = state == State.HALF_OPEN ? new AtomicInteger(probes) : null;
+            this.probeSuccesses = state == State.HALF_OPEN ? new AtomicInteger() : null;
+        }
+
+        /**
+         * Records that the call succeeded.
+         */
+        public void onSuccess() {
+            if (state == State.CLOSED) {
+                record(false);
+            } else if (state == State.HALF_OPEN && probeSuccesses.incrementAndGet() == config.halfOpenProbes) {
+                current.compareAndSet(this, closed());
+            }
+        }
+
+        /**
+         * Records that the call failed. Failures rejected by the registry's failure predicate count as successes,
+         * since the service did respond.
+         *
+         * @param failure the exception of the call
+         */
+        public void onFailure(Throwable failure) {
+            Objects.requireNonNull(failure, "failure must not be null");
+            if (!config.recordFailure.test(failure)) {
+                onSuccess();
+            } else if (state == State.CLOSED) {
+                record(true);
+            } else if (state == State.HALF_OPEN) {
+                current.compareAndSet(this, open());
+            }
+        }
+
+        private void record(boolean failure) {
+            if (window.record(failure, config.minimumCalls, config.failureRateThreshold)) {
+                current.compareAndSet(this, open());
+            }
+        }
+    }
+
+    /**
+     * Outcomes of the last calls, kept in a ring of slots together with the number of failures in the ring.
+     */
+    private static final class Window {
+
+        private final AtomicIntegerArray outcomes;
+
+        private final AtomicLong calls = new AtomicLong();
+
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private Window(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        /**
+         * Records an outcome and returns whether the failure rate of the window reached the threshold.
+         */
+        private boolean record(boolean failure, int minimumCalls, double failureRateThreshold) {
+            int size = outcomes.length();
+            long call = calls.getAndIncrement();
+            int previous = outcomes.getAndSet((int) (call % size), failure ? FAILURE : SUCCESS);
+
+            int delta = (failure ? 1 : 0) - (previous == FAILURE ? 1 : 0);
+            int failed = delta == 0 ? failures.get() : failures.addAndGet(delta);
+            long recorded = Math.min(call + 1, size);
+            return recorded >= minimumCalls && failed >= failureRateThreshold * recorded;
+        }
+    }
+}
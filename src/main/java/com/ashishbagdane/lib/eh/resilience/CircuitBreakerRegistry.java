@@ -0,0 +1,268 @@
+package com.ashishbagdane.lib.eh.resilience;
+
+import com.ashishbagdane.lib.eh.exception.operation.OperationException;
+import com.ashishbagdane.lib.eh.exception.resource.ResourceException;
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+import com.ashishbagdane.lib.eh.exception.system.SystemException;
+import com.ashishbagdane.lib.eh.exception.validation.ValidationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Registry of {@link CircuitBreaker}s keyed by service name, so that calls to a failing dependency fail fast with a
+ * {@link ServiceUnavailableException} instead of waiting for a timeout. All breakers of a registry share its
+ * settings.
+ *
+ * <p>By default {@link SystemException}s and exceptions from outside this library count as failures of the service,
+ * while {@link ValidationException}s, {@link ResourceException}s and {@link OperationException}s count as successful
+ * calls, since they describe the request rather than the health of the service. This matches the exceptions that
+ * {@link RetryExecutor} retries by default.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.builder()
+ *     .failureRateThreshold(0.5)
+ *     .slidingWindowSize(50)
+ *     .openDuration(Duration.ofSeconds(10))
+ *     .build();
+ * Price price = circuitBreakers.execute("pricing-service", () -> pricingClient.getPrice(sku));
+ * }</pre></p>
+ *
+ * @since 1.1
+ */
+public final class CircuitBreakerRegistry {
+
+    /**
+     * Default share of failed calls at which a breaker opens.
+     */
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = 0.5;
+
+    /**
+     * Default number of calls in the sliding window.
+     */
+    public static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+
+    /**
+     * Default number of calls recorded before the failure rate is evaluated.
+     */
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+
+    /**
+     * Default time a breaker stays open.
+     */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+    /**
+     * Default number of probe calls permitted in half-open state.
+     */
+    public static final int DEFAULT_HALF_OPEN_PROBES = 5;
+
+    /**
+     * Default predicate matching the exceptions that count as failures of the service.
+     */
+    public static final Predicate<Throwable> DEFAULT_RECORD_FAILURE = failure ->
+        !(failure instanceof ValidationException
+            || failure instanceof ResourceException
+            || failure instanceof OperationException);
+
+    final double failureRateThreshold;
+
+    final int slidingWindowSize;
+
+    final int minimumCalls;
+
+    final Duration openDuration;
+
+    final int halfOpenProbes;
+
+    final Predicate<Throwable> recordFailure;
+
+    final Clock clock;
+
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private CircuitBreakerRegistry(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumCalls = Math.min(builder.minimumCalls, builder.slidingWindowSize);
+        this.openDuration = builder.openDuration;
+        this.halfOpenProbes = builder.halfOpenProbes;
+        this.recordFailure = builder.recordFailure;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Creates a registry with default settings.
+     *
+     * @return a new {@link CircuitBreakerRegistry}
+     */
+    public static CircuitBreakerRegistry ofDefaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a builder for a circuit breaker registry.
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the circuit breaker of a service, creating it on first use.
+     *
+     * @param serviceName the name of the service
+     * @return the circuit breaker of the service
+     */
+    public CircuitBreaker circuitBreaker(String serviceName) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(serviceName);
+        if (circuitBreaker != null) {
+            return circuitBreaker;
+        }
+        Objects.requireNonNull(serviceName, "serviceName must not be null");
+        return circuitBreakers.computeIfAbsent(serviceName, name -> new CircuitBreaker(name, this));
+    }
+
+    /**
+     * Runs a call through the circuit breaker of a service.
+     *
+     * @param serviceName the name of the service
+     * @param call        the call to the service
+     * @param <T>         the result type
+     * @return the result of the call
+     * @throws ServiceUnavailableException if the circuit breaker of the service is open
+     */
+    public <T> T execute(String serviceName, Supplier<T> call) {
+        return circuitBreaker(serviceName).execute(call);
+    }
+
+    /**
+     * Builder for {@link CircuitBreakerRegistry}.
+     */
+    public static final class Builder {
+
+        private double failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;
+
+        private int slidingWindowSize = DEFAULT_SLIDING_WINDOW_SIZE;
+
+        private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+
+        private Duration openDuration = DEFAULT_OPEN_DURATION;
+
+        private int halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+
+        private Predicate<Throwable> recordFailure = DEFAULT_RECORD_FAILURE;
+
+        private Clock clock = Clock.systemDefaultZone();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the share of failed calls in the window at which a breaker opens.
+         *
+         * @param failureRateThreshold share of failed calls, greater than 0 and at most 1
+         * @return This builder instance for method chaining
+         */
+        public Builder failureRateThreshold(double failureRateThreshold) {
+            if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+                throw new IllegalArgumentException("Failure rate threshold must be greater than 0 and at most 1");
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the number of most recent calls whose outcomes are kept.
+         *
+         * @param slidingWindowSize the number of calls
+         * @return This builder instance for method chaining
+         */
+        public Builder slidingWindowSize(int slidingWindowSize) {
+            if (slidingWindowSize <= 0) {
+                throw new IllegalArgumentException("Sliding window size must be positive");
+            }
+            this.slidingWindowSize = slidingWindowSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls that must be recorded before the failure rate is evaluated. Capped at the sliding
+         * window size.
+         *
+         * @param minimumCalls the number of calls
+         * @return This builder instance for method chaining
+         */
+        public Builder minimumCalls(int minimumCalls) {
+            if (minimumCalls <= 0) {
+                throw new IllegalArgumentException("Minimum calls must be positive");
+            }
+            this.minimumCalls = minimumCalls;
+            return this;
+        }
+
+        /**
+         * Sets how long a breaker rejects calls before permitting probe calls.
+         *
+         * @param openDuration the open period
+         * @return This builder instance for method chaining
+         */
+        public Builder openDuration(Duration openDuration) {
+            Objects.requireNonNull(openDuration, "openDuration must not be null");
+            if (openDuration.isNegative() || openDuration.isZero()) {
+                throw new IllegalArgumentException("Open duration must be positive");
+            }
+            this.openDuration = openDuration;
+            return this;
+        }
+
+        /**
+         * Sets the number of probe calls permitted in half-open state, all of which must succeed to close the
+         * breaker.
+         *
+         * @param halfOpenProbes the number of probe calls
+         * @return This builder instance for method chaining
+         */
+        public Builder halfOpenProbes(int halfOpenProbes) {
+            if (halfOpenProbes <= 0) {
+                throw new IllegalArgumentException("Half-open probes must be positive");
+            }
+            this.halfOpenProbes = halfOpenProbes;
+            return this;
+        }
+
+        /**
+         * Sets which exceptions count as failures of the service. Other exceptions, such as a not found response,
+         * count as successful calls. Defaults to {@link CircuitBreakerRegistry#DEFAULT_RECORD_FAILURE}.
+         *
+         * @param recordFailure predicate matching the exceptions that count as failures
+         * @return This builder instance for method chaining
+         */
+        public Builder recordFailure(Predicate<Throwable> recordFailure) {
+            this.recordFailure = Objects.requireNonNull(recordFailure, "recordFailure must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the clock used for the open period and the retry time.
+         *
+         * @param clock the clock
+         * @return This builder instance for method chaining
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock must not be null");
+            return this;
+        }
+
+        public CircuitBreakerRegistry build() {
+            return new CircuitBreakerRegistry(this);
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.ashishbagdane.lib.eh.resilience;
+
+import com.ashishbagdane.lib.eh.exception.operation.OperationException;
+import com.ashishbagdane.lib.eh.exception.resource.ResourceException;
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+import com.ashishbagdane.lib.eh.exception.system.SystemException;
+import com.ashishbagdane.lib.eh.exception.validation.ValidationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries calls that failed with a transient exception, using exponential backoff with jitter.
+ *
+ * <p>Whether an exception is retried is decided by its class: the nearest superclass registered with
+ * {@link Builder#retryOn} or {@link Builder#abortOn} wins, and exceptions matching neither are not retried. By
+ * default {@link SystemException}s are retried, while {@link ValidationException}s, {@link ResourceException}s and
+ * {@link OperationException}s are not, since repeating the call cannot change their outcome. The decision is computed
+ * once per exception class and cached.</p>
+ *
+ * <p>The delay before attempt {@code n + 1} is {@code initialDelay * multiplier^(n - 1)}, capped at the maximum delay
+ * and shortened by a random share of up to the jitter factor, so that clients failing together do not retry together.
+ * A {@link ServiceUnavailableException} with a {@link ServiceUnavailableException#getRetryAt() retry time} delays
+ * the next attempt until that time; if the retry time is further away than the maximum delay, the exception is
+ * rethrown at once instead of blocking the caller. The retry time is an instant, so it is compared with the clock of
+ * the executor regardless of the time zones of the clocks involved.</p>
+ *
+ * <p>{@link #execute} blocks the calling thread between attempts, which is cheap on a virtual thread.
+ * {@link #executeAsync} schedules attempts on the executor without blocking any thread.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * RetryExecutor retry = RetryExecutor.builder()
+ *     .maxAttempts(4)
+ *     .initialDelay(Duration.ofMillis(200))
+ *     .retryOn(SocketTimeoutException.class)
+ *     .build();
+ * Price price = retry.execute(() -> circuitBreakers.execute("pricing-service", () -> pricingClient.getPrice(sku)));
+ * }</pre></p>
+ *
+ * @since 1.1
+ */
+public final class RetryExecutor {
+
+    /**
+     * Default number of attempts, including the first call.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * Default delay before the second attempt.
+     */
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+
+    /**
+     * Default factor by which the delay grows with each attempt.
+     */
+    public static final double DEFAULT_MULTIPLIER = 2.0;
+
+    /**
+     * Default maximum delay between attempts.
+     */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(10);
+
+    /**
+     * Default share by which a delay is randomly shortened at most.
+     */
+    public static final double DEFAULT_JITTER = 0.5;
+
+    private final int maxAttempts;
+
+    private final long initialDelayMillis;
+
+    private final double multiplier;
+
+    private final long maxDelayMillis;
+
+    private final double jitter;
+
+    private final Map<Class<? extends Throwable>, Boolean> rules;
+
+    private final Executor executor;
+
+    private final Clock clock;
+
+    private final ClassValue<Boolean> retryable = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                Boolean rule = rules.get(current);
+                if (rule != null) {
+                    return rule;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
+    private RetryExecutor(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialDelayMillis = builder.initialDelay.toMillis();
+        this.multiplier = builder.multiplier;
+        this.maxDelayMillis = builder.maxDelay.toMillis();
+        this.jitter = builder.jitter;
+        this.rules = Map.copyOf(builder.rules);
+        this.executor = builder.executor;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Creates a retry executor with default settings.
+     *
+     * @return a new {@link RetryExecutor}
+     */
+    public static RetryExecutor ofDefaults() {
+        return builder().build();
+    }
+
+    /**
+     * Creates a builder for a retry executor.
+     *
+     * @return a new {@link Builder}
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns whether the exception is retried.
+     *
+     * @param failure the exception
+     * @return true if calls failing with the exception are retried
+     */
+    public boolean isRetryable(Throwable failure) {
+        return retryable.get(failure.getClass());
+    }
+
+    /**
+     * Runs the call, retrying it in the calling thread while it fails with a retryable exception.
+     *
+     * @param call the call
+     * @param <T>  the result type
+     * @return the result of the first successful attempt
+     * @throws RuntimeException the exception of the last attempt, if no attempt succeeded or the exception is not
+     *                          retried; if the thread is interrupted while waiting, the last exception is rethrown
+     *                          with the interrupt flag set
+     */
+    public <T> T execute(Supplier<T> call) {
+        Objects.requireNonNull(call, "call must not be null");
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                long delay = nextDelayMillis(e, attempt);
+                if (delay < 0) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    e.addSuppressed(interrupted);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the call, retrying it in the calling thread while it fails with a retryable exception.
+     *
+     * @param call the call
+     */
+    public void run(Runnable call) {
+        Objects.requireNonNull(call, "call must not be null");
+        execute(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Starts the asynchronous call and restarts it after a delay while it fails with a retryable exception. Cancelling
+     * the returned future stops further attempts. A call returning null fails its attempt with a
+     * {@link NullPointerException}, and if the executor rejects the next attempt the future completes with the last
+     * exception.
+     *
+     * @param call supplier starting the asynchronous call
+     * @param <T>  the result type
+     * @return a future completing with the result of the first successful attempt or the exception of the last one
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<? extends CompletionStage<T>> call) {
+        Objects.requireNonNull(call, "call must not be null");
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(call, 1, result);
+        return result;
+    }
+
+    private <T> void attemptAsync(Supplier<? extends CompletionStage<T>> call, int attempt,
+                                  CompletableFuture<T> result) {
+        CompletionStage<T> stage;
+        try {
+            stage = Objects.requireNonNull(call.get(), "call must not return null");
+        } catch (RuntimeException e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+
+        stage.whenComplete((value, failure) -> {
+            if (failure == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ?
+                failure.getCause() : failure;
+            long delay = nextDelayMillis(cause, attempt);
+            if (delay < 0) {
+                result.completeExceptionally(cause);
+            } else if (!result.isDone()) {
+                CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, task -> {
+                    try {
+                        executor.execute(task);
+                    } catch (RuntimeException rejected) {
+                        // The attempt will never run, so report the last failure instead of leaving the result open
+                        cause.addSuppressed(rejected);
+                        result.completeExceptionally(cause);
+                    }
+                }).execute(() -> attemptAsync(call, attempt + 1, result));
+            }
+        });
+    }
+
+    /**
+     * Returns the delay before the next attempt, or -1 if the call must not be retried.
+     */
+    private long nextDelayMillis(Throwable failure, int attempt) {
+        if (attempt >= maxAttempts || !isRetryable(failure)) {
+            return -1;
+        }
+
+        double backoff = Math.min(initialDelayMillis * Math.pow(multiplier, attempt - 1), maxDelayMillis);
+        long delay = (long) (backoff * (1 - jitter * ThreadLocalRandom.current().nextDouble()));
+
+        if (failure instanceof ServiceUnavailableException unavailable && unavailable.getRetryAt() != null) {
+            long retryAfterNanos = unavailable.getRetryDelay(clock).toNanos();
+            long retryAfter = Math.floorDiv(retryAfterNanos + 999_999, 1_000_000);
+            if (retryAfter > maxDelayMillis) {
+                return -1;
+            }
+            delay = Math.max(delay, retryAfter);
+        }
+        return delay;
+    }
+
+    /**
+     * Builder for {@link RetryExecutor}.
+     */
+    public static final class Builder {
+
+        private final Map<Class<? extends Throwable>, Boolean> rules = new LinkedHashMap<>();
+
+        private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+        private Duration initialDelay = DEFAULT_INITIAL_DELAY;
+
+        private double multiplier = DEFAULT_MULTIPLIER;
+
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+        private double jitter = DEFAULT_JITTER;
+
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Clock clock = Clock.systemDefaultZone();
+
+        private Builder() {
+            rules.put(SystemException.class, Boolean.TRUE);
+            rules.put(ValidationException.class, Boolean.FALSE);
+            rules.put(ResourceException.class, Boolean.FALSE);
+            rules.put(OperationException.class, Boolean.FALSE);
+        }
+
+        /**
+         * Sets the number of attempts, including the first call.
+         *
+         * @param maxAttempts the number of attempts
+         * @return This builder instance for method chaining
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts <= 0) {
+                throw new IllegalArgumentException("Max attempts must be positive");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the delay before the second attempt.
+         *
+         * @param initialDelay the delay
+         * @return This builder instance for method chaining
+         */
+        public Builder initialDelay(Duration initialDelay) {
+            this.initialDelay = requireNotNegative(initialDelay, "initialDelay");
+            return this;
+        }
+
+        /**
+         * Sets the factor by which the delay grows with each attempt.
+         *
+         * @param multiplier the factor, at least 1
+         * @return This builder instance for method chaining
+         */
+        public Builder multiplier(double multiplier) {
+            if (!(multiplier >= 1) || Double.isInfinite(multiplier)) {
+                throw new IllegalArgumentException("Multiplier must be at least 1");
+            }
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Sets the maximum delay between attempts, which also bounds how long a retry time is waited for.
+         *
+         * @param maxDelay the maximum delay
+         * @return This builder instance for method chaining
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = requireNotNegative(maxDelay, "maxDelay");
+            return this;
+        }
+
+        /**
+         * Sets the share by which a delay is randomly shortened at most. 0 disables jitter.
+         *
+         * @param jitter share between 0 and 1
+         * @return This builder instance for method chaining
+         */
+        public Builder jitter(double jitter) {
+            if (!(jitter >= 0 && jitter <= 1)) {
+                throw new IllegalArgumentException("Jitter must be between 0 and 1");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Retries exceptions of the given type and its subclasses, unless a more specific type is excluded.
+         *
+         * @param type the exception type
+         * @return This builder instance for method chaining
+         */
+        public Builder retryOn(Class<? extends Throwable> type) {
+            rules.put(Objects.requireNonNull(type, "type must not be null"), Boolean.TRUE);
+            return this;
+        }
+
+        /**
+         * Never retries exceptions of the given type and its subclasses, unless a more specific type is retried.
+         *
+         * @param type the exception type
+         * @return This builder instance for method chaining
+         */
+        public Builder abortOn(Class<? extends Throwable> type) {
+            rules.put(Objects.requireNonNull(type, "type must not be null"), Boolean.FALSE);
+            return this;
+        }
+
+        /**
+         * Sets the executor running asynchronous attempts. Defaults to the common pool.
+         *
+         * @param executor the executor
+         * @return This builder instance for method chaining
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor, "executor must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the clock against which retry times are compared.
+         *
+         * @param clock the clock
+         * @return This builder instance for method chaining
+         */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock must not be null");
+            return this;
+        }
+
+        public RetryExecutor build() {
+            return new RetryExecutor(this);
+        }
+
+        private static Duration requireNotNegative(Duration duration, String name) {
+            Objects.requireNonNull(duration, name + " must not be null");
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException(name + " must not be negative");
+            }
+            return duration;
+        }
+    }
+}
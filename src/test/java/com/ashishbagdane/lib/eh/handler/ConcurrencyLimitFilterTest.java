@@ -0,0 +1,73 @@
+package com.ashishbagdane.lib.eh.handler;
+
+import com.ashishbagdane.lib.eh.resilience.AdaptiveBulkhead;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new SimpleModule().addSerializer(LocalDateTime.class, ToStringSerializer.instance));
+
+    private final AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("api")
+        .initialLimit(1)
+        .maxLimit(1)
+        .retryAfter(Duration.ofMillis(2_500))
+        .build();
+
+    private final ConcurrencyLimitFilter filter =
+        new ConcurrencyLimitFilter(bulkhead, new ErrorResponseBuilder(), objectMapper);
+
+    @Test
+    void doFilter_ShouldPassRequestAndReleasePermit_WhenBelowLimit() throws Exception {
+        // Arrange
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), response, chain);
+
+        // Assert
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    @Test
+    void doFilter_ShouldRespondWith503AndRetryAfter_WhenLimitReached() throws Exception {
+        // Arrange
+        AdaptiveBulkhead.Permit held = bulkhead.acquire();
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), response, chain);
+
+        // Assert
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(response.getContentType().startsWith("application/json"));
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertEquals(503, body.get("status").asInt());
+        assertEquals("/api/orders", body.get("path").asText());
+        assertTrue(body.get("message").asText().contains("api"));
+        assertEquals(1, bulkhead.getInFlight());
+        held.release();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ashishbagdane.lib.eh.handler;
+
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ErrorResponseBuilderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final ErrorResponseBuilder errorResponseBuilder =
+        new ErrorResponseBuilder(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    private String retryAfter(Duration delay) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        errorResponseBuilder.applyRetryAfter(response, delay);
+        return response.getHeader(HttpHeaders.RETRY_AFTER);
+    }
+
+    private String retryAfter(ServiceUnavailableException exception) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        errorResponseBuilder.applyRetryAfter(response, exception);
+        return response.getHeader(HttpHeaders.RETRY_AFTER);
+    }
+
+    @Test
+    void applyRetryAfter_ShouldSetWholeSeconds() {
+        // Act & Assert
+        assertEquals("3", retryAfter(Duration.ofSeconds(3)));
+    }
+
+    @Test
+    void applyRetryAfter_ShouldRoundUpPartialSeconds() {
+        // Act & Assert
+        assertEquals("2", retryAfter(Duration.ofMillis(1_001)));
+        assertEquals("1", retryAfter(Duration.ofMillis(999)));
+    }
+
+    @Test
+    void applyRetryAfter_ShouldSetAtLeastOneSecond() {
+        // Act & Assert
+        assertEquals("1", retryAfter(Duration.ZERO));
+        assertEquals("1", retryAfter(Duration.ofSeconds(-5)));
+    }
+
+    @Test
+    void applyRetryAfter_ShouldDoNothing_WhenDelayIsNull() {
+        // Act & Assert
+        assertNull(retryAfter((Duration) null));
+    }
+
+    @Test
+    void applyRetryAfter_ShouldUseRetryInstantOfException_RegardlessOfItsZone() {
+        // Arrange
+        Clock kolkata = Clock.fixed(NOW, ZoneId.of("Asia/Kolkata"));
+        ServiceUnavailableException exception =
+            new ServiceUnavailableException("pricing", "circuit breaker is open", NOW.plusSeconds(30), kolkata);
+
+        // Act & Assert
+        assertEquals("30", retryAfter(exception));
+    }
+
+    @Test
+    void applyRetryAfter_ShouldDoNothing_WhenExceptionHasNoRetryTime() {
+        // Act & Assert
+        assertNull(retryAfter(new ServiceUnavailableException("pricing", "connection refused")));
+    }
+}
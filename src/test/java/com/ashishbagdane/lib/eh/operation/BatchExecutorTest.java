@@ -0,0 +1,207 @@
+package com.ashishbagdane.lib.eh.operation;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.operation.BatchExecutor;
+import com.ashishbagdane.lib.eh.exception.operation.BatchFailures;
+import com.ashishbagdane.lib.eh.exception.operation.BatchOperationException;
+import com.ashishbagdane.lib.eh.exception.operation.BatchResult;
+import com.ashishbagdane.lib.eh.exception.operation.ProcessingFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchExecutorTest {
+
+    private static final List<Integer> ITEMS = IntStream.range(0, 10_000).boxed().toList();
+
+    private static String square(int item) {
+        if (item % 100 == 7) {
+            throw new IllegalArgumentException("Item " + item + " is invalid");
+        }
+        if (item % 100 == 42) {
+            throw new ProcessingFailedException("square", "overflow");
+        }
+        return String.valueOf(item * item);
+    }
+
+    @Test
+    void execute_ShouldCollectResultsAndFailures_WhenRunInParallel() {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch allWorkersStarted = new CountDownLatch(4);
+        AtomicBoolean rendezvousTimedOut = new AtomicBoolean();
+        BatchExecutor<Integer, String> executor = BatchExecutor.<Integer, String>builder("square", item -> {
+                // Each worker waits on its first item until all four workers run at the same time
+                if (threads.add(Thread.currentThread().getName())) {
+                    allWorkersStarted.countDown();
+                    try {
+                        rendezvousTimedOut.compareAndSet(false, !allWorkersStarted.await(5, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return square(item);
+            })
+            .executor(pool)
+            .parallelism(4)
+            .chunkSize(100)
+            .build();
+
+        // Act
+        BatchResult<String> result = executor.execute(ITEMS);
+        pool.shutdown();
+
+        // Assert
+        BatchFailures failures = result.getFailures();
+        assertEquals(200, failures.getFailedCount());
+        assertEquals(9_800, failures.getSuccessCount());
+        assertEquals(0, failures.getSkippedCount());
+        assertEquals(Map.of("IllegalArgumentException", 100, ErrorCode.SYSTEM_ERROR.name(), 100),
+                     failures.getCountsByErrorCode());
+        assertEquals("9801", result.getResults().get(99));
+        assertNull(result.getResults().get(107));
+        assertFalse(result.isAborted());
+        assertFalse(rendezvousTimedOut.get());
+        assertEquals(4, threads.size());
+    }
+
+    @Test
+    void execute_ShouldRunInCallingThread_WhenParallelismIsOne() {
+        // Arrange
+        Thread caller = Thread.currentThread();
+        BatchExecutor<Integer, Thread> executor = BatchExecutor.<Integer, Thread>builder("thread",
+                                                                                         item -> Thread.currentThread())
+            .parallelism(1)
+            .build();
+
+        // Act
+        BatchResult<Thread> result = executor.execute(Set.of(1, 2, 3));
+
+        // Assert
+        assertTrue(result.isSuccess());
+        result.getResults().forEach(thread -> assertSame(caller, thread));
+    }
+
+    @Test
+    void execute_ShouldUseGivenExecutor() {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(3, runnable -> new Thread(runnable, "batch-worker"));
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        BatchExecutor<Integer, Integer> executor = BatchExecutor.<Integer, Integer>builder("identity", item -> {
+                threads.add(Thread.currentThread().getName());
+                return item;
+            })
+            .executor(pool)
+            .parallelism(3)
+            .chunkSize(10)
+            .build();
+
+        // Act
+        BatchResult<Integer> result = executor.execute(ITEMS.subList(0, 100));
+        pool.shutdown();
+
+        // Assert
+        assertEquals(ITEMS.subList(0, 100), result.getResults());
+        assertEquals(Set.of("batch-worker"), threads);
+    }
+
+    @Test
+    void execute_ShouldAbortAndReportSkippedItems_WhenFailureThresholdExceeded() {
+        // Arrange
+        BatchExecutor<Integer, String> executor = BatchExecutor.<Integer, String>builder("square",
+                                                                                         BatchExecutorTest::square)
+            .parallelism(1)
+            .chunkSize(50)
+            .failureThreshold(0.001)
+            .build();
+
+        // Act
+        BatchResult<String> result = executor.execute(ITEMS);
+
+        // Assert
+        BatchFailures failures = result.getFailures();
+        assertTrue(result.isAborted());
+        assertEquals(11, failures.getFailedCount());
+        assertEquals(10_000, failures.getFailedCount() + failures.getSuccessCount() + failures.getSkippedCount());
+        assertEquals(ITEMS.size() - 508, failures.getSkippedCount());
+    }
+
+    @Test
+    void executeOrThrow_ShouldThrowWithAccurateTotals_WhenItemsFail() {
+        // Arrange
+        BatchExecutor<Integer, String> executor = BatchExecutor.<Integer, String>builder("square",
+                                                                                         BatchExecutorTest::square)
+            .parallelism(2)
+            .build();
+
+        // Act
+        BatchOperationException exception = assertThrows(BatchOperationException.class,
+                                                          () -> executor.executeOrThrow(ITEMS));
+
+        // Assert
+        assertEquals("Batch operation 'square' failed: 200/10000 items failed", exception.getMessage());
+        assertEquals(9_800, exception.getFailures().getSuccessCount());
+        assertEquals(3, exception.getFailures().getSampleMessages("IllegalArgumentException").size());
+    }
+
+    @Test
+    void execute_ShouldUseErrorCodeResolver() {
+        // Arrange
+        BatchExecutor<Integer, String> executor = BatchExecutor.<Integer, String>builder("square",
+                                                                                         BatchExecutorTest::square)
+            .parallelism(1)
+            .errorCodeResolver(exception -> "REJECTED")
+            .sampleMessages(0)
+            .build();
+
+        // Act
+        BatchFailures failures = executor.execute(ITEMS.subList(0, 100)).getFailures();
+
+        // Assert
+        assertEquals(Map.of("REJECTED", 2), failures.getCountsByErrorCode());
+        assertEquals(List.of(), failures.getSampleMessages("REJECTED"));
+    }
+
+    @Test
+    void execute_ShouldRethrowErrors() {
+        // Arrange
+        BatchExecutor<Integer, String> executor = BatchExecutor.<Integer, String>builder("broken", item -> {
+                throw new AssertionError("broken");
+            })
+            .parallelism(4)
+            .chunkSize(10)
+            .build();
+
+        // Act & Assert
+        assertThrows(AssertionError.class, () -> executor.execute(ITEMS));
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidSettings() {
+        // Arrange
+        BatchExecutor.Builder<Integer, Integer> builder = BatchExecutor.builder("identity", item -> item);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.parallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.chunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.failureThreshold(1.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.failureThreshold(Double.NaN));
+    }
+}
@@ -0,0 +1,127 @@
+package com.ashishbagdane.lib.eh.operation;
+
+import com.ashishbagdane.lib.eh.exception.operation.BatchFailures;
+import com.ashishbagdane.lib.eh.exception.operation.BatchFailures.ItemFailure;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchFailuresTest {
+
+    private static BatchFailures largeBatch() {
+        BatchFailures.Builder builder = BatchFailures.builder(500_000);
+        for (int i = 0; i < 500_000; i += 10) {
+            builder.fail(i, i % 20 == 0 ? "DUPLICATE_SKU" : "INVALID_PRICE", "Item " + i + " rejected");
+        }
+        return builder.build();
+    }
+
+    @Test
+    void build_ShouldCountFailuresPerErrorCode() {
+        // Act
+        BatchFailures failures = largeBatch();
+
+        // Assert
+        assertEquals(50_000, failures.getFailedCount());
+        assertEquals(450_000, failures.getSuccessCount());
+        assertEquals(Map.of("DUPLICATE_SKU", 25_000, "INVALID_PRICE", 25_000), failures.getCountsByErrorCode());
+        assertTrue(failures.isFailed(499_990));
+        assertFalse(failures.isFailed(499_991));
+    }
+
+    @Test
+    void build_ShouldRetainOnlySampleMessages() {
+        // Arrange
+        BatchFailures.Builder builder = BatchFailures.builder(10).sampleMessages(2);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            builder.fail(i, "INVALID_PRICE", "Price of item " + i + " is negative");
+        }
+        BatchFailures failures = builder.build();
+
+        // Assert
+        assertEquals(List.of("Price of item 0 is negative", "Price of item 1 is negative"),
+                     failures.getSampleMessages("INVALID_PRICE"));
+        assertEquals(List.of(), failures.getSampleMessages("UNKNOWN"));
+    }
+
+    @Test
+    void fail_ShouldKeepFirstFailureOfItem() {
+        // Act
+        BatchFailures failures = BatchFailures.builder(3)
+            .fail(1, "DUPLICATE_SKU", "Duplicate")
+            .fail(1, "INVALID_PRICE", "Negative price")
+            .build();
+
+        // Assert
+        assertEquals(1, failures.getFailedCount());
+        assertEquals(Map.of("DUPLICATE_SKU", 1), failures.getCountsByErrorCode());
+    }
+
+    @Test
+    void summary_ShouldStayBounded_WhenManyItemsFail() {
+        // Act
+        Map<String, Object> summary = largeBatch().summary();
+
+        // Assert
+        assertEquals(500_000, summary.get("totalItems"));
+        assertEquals(50_000, summary.get("failedCount"));
+        assertEquals(450_000, summary.get("successCount"));
+        List<?> errorGroups = (List<?>) summary.get("errorGroups");
+        assertEquals(2, errorGroups.size());
+        assertEquals(Map.of("errorCode", "INVALID_PRICE", "count", 25_000, "firstIndex", 10,
+                            "sampleMessages", List.of("Item 10 rejected", "Item 30 rejected", "Item 50 rejected")),
+                     errorGroups.get(1));
+    }
+
+    @Test
+    void getFailures_ShouldReturnPagesInPositionOrder() {
+        // Arrange
+        BatchFailures failures = largeBatch();
+
+        // Act
+        List<ItemFailure> firstPage = failures.getFailures(0, 2);
+        List<ItemFailure> lastPage = failures.getFailures(49_999, 100);
+        List<ItemFailure> pastEnd = failures.getFailures(50_000, 100);
+
+        // Assert
+        assertEquals(List.of(0, 10), firstPage.stream().map(ItemFailure::getIndex).toList());
+        assertEquals(List.of("DUPLICATE_SKU", "INVALID_PRICE"),
+                     firstPage.stream().map(ItemFailure::getErrorCode).toList());
+        assertEquals(1, lastPage.size());
+        assertEquals(499_990, lastPage.get(0).getIndex());
+        assertTrue(pastEnd.isEmpty());
+    }
+
+    @Test
+    void build_ShouldNotShareStateWithBuilder() {
+        // Arrange
+        BatchFailures.Builder builder = BatchFailures.builder(2).fail(0, "DUPLICATE_SKU", "Duplicate");
+        BatchFailures failures = builder.build();
+
+        // Act
+        builder.fail(1, "DUPLICATE_SKU", "Duplicate");
+
+        // Assert
+        assertEquals(1, failures.getFailedCount());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidArguments() {
+        // Arrange
+        BatchFailures.Builder builder = BatchFailures.builder(5);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> BatchFailures.builder(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.fail(5, "DUPLICATE_SKU", "Duplicate"));
+        assertThrows(IllegalArgumentException.class, () -> builder.sampleMessages(-1));
+        assertThrows(IllegalArgumentException.class, () -> builder.build().getFailures(0, 0));
+    }
+}
@@ -0,0 +1,228 @@
+package com.ashishbagdane.lib.eh.resilience;
+
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+import com.ashishbagdane.lib.eh.metrics.ErrorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveBulkheadTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private List<AdaptiveBulkhead.Permit> acquire(AdaptiveBulkhead bulkhead, int count) {
+        List<AdaptiveBulkhead.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(bulkhead.acquire());
+        }
+        return permits;
+    }
+
+    @Test
+    void acquire_ShouldRejectWithRetryAfter_WhenLimitReached() {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders")
+            .initialLimit(2)
+            .retryAfter(Duration.ofSeconds(3))
+            .clock(clock)
+            .build();
+        acquire(bulkhead, 2);
+
+        // Act
+        ServiceUnavailableException thrown = assertThrows(ServiceUnavailableException.class, bulkhead::acquire);
+
+        // Assert
+        assertEquals(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).plusSeconds(3), thrown.getRetryAfter());
+        assertTrue(thrown.getMessage().contains("orders"));
+        assertEquals(2, bulkhead.getInFlight());
+    }
+
+    @Test
+    void release_ShouldFreeSlot() {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders").initialLimit(1).maxLimit(1).build();
+
+        // Act
+        bulkhead.acquire().release();
+
+        // Assert
+        assertEquals(0, bulkhead.getInFlight());
+        assertEquals("ok", bulkhead.execute(() -> "ok"));
+    }
+
+    @Test
+    void release_ShouldIncreaseLimit_WhenFastCallsUseHalfOfLimit() {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders").initialLimit(4).build();
+        List<AdaptiveBulkhead.Permit> permits = acquire(bulkhead, 2);
+
+        // Act
+        permits.get(0).release();
+
+        // Assert
+        assertEquals(5, bulkhead.getLimit());
+    }
+
+    @Test
+    void release_ShouldKeepLimit_WhenLimitLargelyUnused() {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders").initialLimit(10).build();
+
+        // Act
+        bulkhead.execute(() -> "ok");
+
+        // Assert
+        assertEquals(10, bulkhead.getLimit());
+    }
+
+    @Test
+    void release_ShouldDecreaseLimit_WhenCallIsSlow() throws InterruptedException {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders")
+            .initialLimit(10)
+            .backoffRatio(0.5)
+            .latencyThreshold(Duration.ofMillis(5))
+            .build();
+        AdaptiveBulkhead.Permit permit = bulkhead.acquire();
+        Thread.sleep(20);
+
+        // Act
+        permit.release();
+
+        // Assert
+        assertEquals(5, bulkhead.getLimit());
+    }
+
+    @Test
+    void release_ShouldDecreaseLimitOnce_ForBurstOfSlowCalls() throws InterruptedException {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders")
+            .initialLimit(100)
+            .backoffRatio(0.5)
+            .latencyThreshold(Duration.ofMillis(5))
+            .build();
+        List<AdaptiveBulkhead.Permit> permits = acquire(bulkhead, 100);
+        Thread.sleep(20);
+
+        // Act
+        permits.forEach(AdaptiveBulkhead.Permit::release);
+
+        // Assert
+        assertEquals(50, bulkhead.getLimit());
+    }
+
+    @Test
+    void release_ShouldDecreaseLimitAgain_ForSlowCallStartedAfterDecrease() throws InterruptedException {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders")
+            .initialLimit(100)
+            .backoffRatio(0.5)
+            .latencyThreshold(Duration.ofMillis(5))
+            .build();
+        List<AdaptiveBulkhead.Permit> first = acquire(bulkhead, 2);
+        Thread.sleep(20);
+        first.get(0).release();
+        AdaptiveBulkhead.Permit second = bulkhead.acquire();
+        Thread.sleep(20);
+
+        // Act
+        first.get(1).release();
+        second.release();
+
+        // Assert
+        assertEquals(25, bulkhead.getLimit());
+    }
+
+    @Test
+    void drop_ShouldDecreaseLimit_NotBelowMinimum() {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders")
+            .initialLimit(4)
+            .minLimit(3)
+            .backoffRatio(0.5)
+            .build();
+
+        // Act
+        bulkhead.acquire().drop();
+
+        // Assert
+        assertEquals(3, bulkhead.getLimit());
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    @Test
+    void release_ShouldNotIncreaseLimit_AboveMaximum() {
+        // Arrange
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders").initialLimit(2).maxLimit(2).build();
+        List<AdaptiveBulkhead.Permit> permits = acquire(bulkhead, 2);
+
+        // Act
+        permits.forEach(AdaptiveBulkhead.Permit::release);
+
+        // Assert
+        assertEquals(2, bulkhead.getLimit());
+    }
+
+    @Test
+    void metrics_ShouldPublishLimitInFlightAndRejections() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AdaptiveBulkhead bulkhead = AdaptiveBulkhead.builder("orders")
+            .initialLimit(1)
+            .maxLimit(1)
+            .metrics(new ErrorMetrics(registry))
+            .build();
+        bulkhead.acquire();
+
+        // Act
+        assertThrows(ServiceUnavailableException.class, bulkhead::acquire);
+        assertThrows(ServiceUnavailableException.class, bulkhead::acquire);
+
+        // Assert
+        assertEquals(1, registry.get("application.bulkhead.limit").tag("bulkhead", "orders").gauge().value());
+        assertEquals(1, registry.get("application.bulkhead.in_flight").tag("bulkhead", "orders").gauge().value());
+        assertEquals(2, registry.get("application.bulkhead.rejections").tag("bulkhead", "orders").counter().count());
+    }
+
+    @Test
+    void metrics_ShouldReportRebuiltBulkhead_WhenNameIsReused() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ErrorMetrics metrics = new ErrorMetrics(registry);
+        AdaptiveBulkhead first = AdaptiveBulkhead.builder("orders").initialLimit(5).metrics(metrics).build();
+        first.acquire();
+
+        // Act
+        AdaptiveBulkhead second = AdaptiveBulkhead.builder("orders").initialLimit(50).metrics(metrics).build();
+        acquire(second, 2);
+
+        // Assert
+        assertEquals(50, registry.get("application.bulkhead.limit").tag("bulkhead", "orders").gauge().value());
+        assertEquals(2, registry.get("application.bulkhead.in_flight").tag("bulkhead", "orders").gauge().value());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidSettings() {
+        // Arrange
+        AdaptiveBulkhead.Builder builder = AdaptiveBulkhead.builder("orders");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.initialLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.backoffRatio(1));
+        assertThrows(IllegalArgumentException.class, () -> builder.retryAfter(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.minLimit(5).maxLimit(4).build());
+    }
+}
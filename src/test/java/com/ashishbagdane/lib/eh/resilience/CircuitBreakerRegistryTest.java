@@ -0,0 +1,281 @@
+package com.ashishbagdane.lib.eh.resilience;
+
+import com.ashishbagdane.lib.eh.exception.operation.ProcessingFailedException;
+import com.ashishbagdane.lib.eh.exception.resource.ResourceNotFoundException;
+import com.ashishbagdane.lib.eh.exception.system.InternalErrorException;
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+import com.ashishbagdane.lib.eh.exception.validation.InvalidInputException;
+import com.ashishbagdane.lib.eh.resilience.CircuitBreaker.Permit;
+import com.ashishbagdane.lib.eh.resilience.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerRegistryTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final CircuitBreakerRegistry registry = CircuitBreakerRegistry.builder()
+        .failureRateThreshold(0.5)
+        .slidingWindowSize(10)
+        .minimumCalls(4)
+        .openDuration(Duration.ofSeconds(10))
+        .halfOpenProbes(2)
+        .recordFailure(failure -> !(failure instanceof ResourceNotFoundException))
+        .clock(clock)
+        .build();
+
+    private void fail(String serviceName, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThrows(IllegalStateException.class, () -> registry.execute(serviceName, () -> {
+                throw new IllegalStateException("Connection refused");
+            }));
+        }
+    }
+
+    private void succeed(String serviceName, int times) {
+        for (int i = 0; i < times; i++) {
+            registry.execute(serviceName, () -> "ok");
+        }
+    }
+
+    @Test
+    void circuitBreaker_ShouldReturnSameBreakerPerService() {
+        // Act & Assert
+        assertSame(registry.circuitBreaker("pricing"), registry.circuitBreaker("pricing"));
+        assertNotSame(registry.circuitBreaker("pricing"), registry.circuitBreaker("inventory"));
+    }
+
+    @Test
+    void execute_ShouldStayClosed_BelowMinimumCallsOrFailureRate() {
+        // Act
+        fail("inventory", 3);
+        succeed("pricing", 4);
+        fail("pricing", 3);
+
+        // Assert
+        assertEquals(State.CLOSED, registry.circuitBreaker("inventory").getState());
+        assertEquals(State.CLOSED, registry.circuitBreaker("pricing").getState());
+    }
+
+    @Test
+    void execute_ShouldOpenAndFailFastWithRetryAfter_WhenFailureRateReached() {
+        // Arrange
+        succeed("pricing", 2);
+        fail("pricing", 2);
+
+        // Act
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                                                             () -> succeed("pricing", 1));
+
+        // Assert
+        assertEquals(State.OPEN, registry.circuitBreaker("pricing").getState());
+        assertTrue(exception.getMessage().contains("Please retry after 1970-01-01T00:00:10"), exception.getMessage());
+        assertEquals(State.CLOSED, registry.circuitBreaker("inventory").getState());
+    }
+
+    @Test
+    void execute_ShouldOnlyCountCallsInWindow() {
+        // Arrange
+        succeed("pricing", 6);
+        fail("pricing", 4);
+        succeed("pricing", 10);
+
+        // Act
+        fail("pricing", 4);
+        State belowThreshold = registry.circuitBreaker("pricing").getState();
+        fail("pricing", 1);
+
+        // Assert
+        assertEquals(State.CLOSED, belowThreshold);
+        assertEquals(State.OPEN, registry.circuitBreaker("pricing").getState());
+    }
+
+    @Test
+    void execute_ShouldNotCountIgnoredExceptionsAsFailures() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ResourceNotFoundException.class, () -> registry.execute("pricing", () -> {
+                throw new ResourceNotFoundException("Price", "42");
+            }));
+        }
+
+        // Assert
+        assertEquals(State.CLOSED, registry.circuitBreaker("pricing").getState());
+    }
+
+    @Test
+    void execute_ShouldCountOnlyServiceFailures_ByDefault() {
+        // Arrange
+        CircuitBreakerRegistry defaults = CircuitBreakerRegistry.builder().minimumCalls(3).clock(clock).build();
+        List<RuntimeException> requestFailures = List.of(new InvalidInputException("sku", "", "must not be empty"),
+                                                         new ResourceNotFoundException("Price", "42"),
+                                                         new ProcessingFailedException("price", "no tariff"));
+        List<RuntimeException> serviceFailures = List.of(new InternalErrorException("price", "pool exhausted"),
+                                                         new IllegalStateException("Connection refused"),
+                                                         new ServiceUnavailableException("pricing", "overloaded"));
+
+        // Act
+        requestFailures.forEach(failure -> assertThrows(failure.getClass(), () -> defaults.execute("pricing", () -> {
+            throw failure;
+        })));
+        State afterRequestFailures = defaults.circuitBreaker("pricing").getState();
+        serviceFailures.forEach(failure -> assertThrows(failure.getClass(), () -> defaults.execute("pricing", () -> {
+            throw failure;
+        })));
+
+        // Assert
+        assertEquals(State.CLOSED, afterRequestFailures);
+        assertEquals(State.OPEN, defaults.circuitBreaker("pricing").getState());
+    }
+
+    @Test
+    void execute_ShouldCloseAfterSuccessfulProbes() {
+        // Arrange
+        fail("pricing", 4);
+        clock.advance(Duration.ofSeconds(10));
+
+        // Act
+        succeed("pricing", 1);
+        State afterFirstProbe = registry.circuitBreaker("pricing").getState();
+        succeed("pricing", 1);
+
+        // Assert
+        assertEquals(State.HALF_OPEN, afterFirstProbe);
+        assertEquals(State.CLOSED, registry.circuitBreaker("pricing").getState());
+        fail("pricing", 3);
+        assertEquals(State.CLOSED, registry.circuitBreaker("pricing").getState());
+    }
+
+    @Test
+    void execute_ShouldReopen_WhenProbeFails() {
+        // Arrange
+        fail("pricing", 4);
+        clock.advance(Duration.ofSeconds(10));
+
+        // Act
+        fail("pricing", 1);
+
+        // Assert
+        assertEquals(State.OPEN, registry.circuitBreaker("pricing").getState());
+        assertThrows(ServiceUnavailableException.class, () -> succeed("pricing", 1));
+    }
+
+    @Test
+    void acquirePermission_ShouldRejectCalls_WhenAllProbesAreInFlight() {
+        // Arrange
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("pricing");
+        fail("pricing", 4);
+        clock.advance(Duration.ofSeconds(10));
+        Permit first = circuitBreaker.acquirePermission();
+        circuitBreaker.acquirePermission();
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, circuitBreaker::acquirePermission);
+        first.onSuccess();
+        assertThrows(ServiceUnavailableException.class, circuitBreaker::acquirePermission);
+
+        clock.advance(Duration.ofSeconds(10));
+        circuitBreaker.acquirePermission().onSuccess();
+        circuitBreaker.acquirePermission().onSuccess();
+        assertEquals(State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void permit_ShouldIgnoreOutcomesOfLeftState() {
+        // Arrange
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("pricing");
+        Permit stale = circuitBreaker.acquirePermission();
+        fail("pricing", 4);
+        clock.advance(Duration.ofSeconds(10));
+        circuitBreaker.acquirePermission().onSuccess();
+
+        // Act
+        stale.onFailure(new IllegalStateException("Timed out"));
+
+        // Assert
+        assertEquals(State.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void execute_ShouldOpen_WhenFailingConcurrently() throws InterruptedException {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    try {
+                        registry.execute("pricing", () -> {
+                            throw new IllegalStateException("Connection refused");
+                        });
+                    } catch (RuntimeException ignored) {
+                        // Expected while closed and once open
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        // Assert
+        assertEquals(State.OPEN, registry.circuitBreaker("pricing").getState());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidSettings() {
+        // Arrange
+        CircuitBreakerRegistry.Builder builder = CircuitBreakerRegistry.builder();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.failureRateThreshold(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.slidingWindowSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.openDuration(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.halfOpenProbes(0));
+    }
+
+    /**
+     * Clock that only moves when advanced.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
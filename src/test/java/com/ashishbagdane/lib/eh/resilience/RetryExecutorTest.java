@@ -0,0 +1,289 @@
+package com.ashishbagdane.lib.eh.resilience;
+
+import com.ashishbagdane.lib.eh.exception.resource.ResourceNotFoundException;
+import com.ashishbagdane.lib.eh.exception.system.InternalErrorException;
+import com.ashishbagdane.lib.eh.exception.system.ServiceUnavailableException;
+import com.ashishbagdane.lib.eh.exception.validation.InvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryExecutorTest {
+
+    private final RetryExecutor retry = RetryExecutor.builder()
+        .maxAttempts(3)
+        .initialDelay(Duration.ofMillis(1))
+        .maxDelay(Duration.ofSeconds(1))
+        .build();
+
+    private static ServiceUnavailableException unavailable() {
+        return new ServiceUnavailableException("pricing", "connection refused");
+    }
+
+    @Test
+    void isRetryable_ShouldClassifyLibraryExceptions() {
+        // Act & Assert
+        assertTrue(retry.isRetryable(unavailable()));
+        assertTrue(retry.isRetryable(new InternalErrorException("pricing", "timeout")));
+        assertFalse(retry.isRetryable(new InvalidInputException("quantity", "-3", "must be positive")));
+        assertFalse(retry.isRetryable(new ResourceNotFoundException("Order", "42")));
+        assertFalse(retry.isRetryable(new IllegalStateException("bug")));
+    }
+
+    @Test
+    void isRetryable_ShouldUseMostSpecificRule() {
+        // Arrange
+        RetryExecutor custom = RetryExecutor.builder()
+            .retryOn(RuntimeException.class)
+            .abortOn(IllegalArgumentException.class)
+            .abortOn(InternalErrorException.class)
+            .build();
+
+        // Act & Assert
+        assertTrue(custom.isRetryable(new IllegalStateException("transient")));
+        assertFalse(custom.isRetryable(new NumberFormatException("bad")));
+        assertFalse(custom.isRetryable(new InternalErrorException("pricing", "bug")));
+        assertTrue(custom.isRetryable(unavailable()));
+        assertFalse(custom.isRetryable(new InvalidInputException("quantity", "-3", "must be positive")));
+    }
+
+    @Test
+    void execute_ShouldRetryUntilSuccess() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = retry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw unavailable();
+            }
+            return "ok";
+        });
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldRethrowLastFailure_WhenAttemptsExhausted() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> retry.execute(() -> {
+            attempts.incrementAndGet();
+            throw unavailable();
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldNotRetryNonRetryableFailures() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        InvalidInputException failure = new InvalidInputException("quantity", "-3", "must be positive");
+
+        // Act
+        InvalidInputException thrown = assertThrows(InvalidInputException.class, () -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw failure;
+        }));
+
+        // Assert
+        assertSame(failure, thrown);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldWaitUntilRetryAfter() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+
+        // Act
+        retry.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ServiceUnavailableException("pricing", "overloaded",
+                                                      LocalDateTime.now().plusNanos(150_000_000));
+            }
+            return "ok";
+        });
+
+        // Assert
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void execute_ShouldFailAtOnce_WhenRetryAfterExceedsMaxDelay() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> retry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ServiceUnavailableException("pricing", "maintenance", LocalDateTime.now().plusMinutes(5));
+        }));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void execute_ShouldRetryOpenCircuitBreakerWithinMaxDelay() {
+        // Arrange
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.builder()
+            .minimumCalls(1)
+            .openDuration(Duration.ofMillis(50))
+            .halfOpenProbes(1)
+            .build();
+        RetryExecutor retryIo = RetryExecutor.builder()
+            .initialDelay(Duration.ofMillis(1))
+            .retryOn(UncheckedIOException.class)
+            .build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = retryIo.execute(() -> circuitBreakers.execute("pricing", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new UncheckedIOException(new IOException("connection reset"));
+            }
+            return "ok";
+        }));
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void executeAsync_ShouldRetryFailedStages() throws Exception {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> result = retry.executeAsync(() -> attempts.incrementAndGet() < 3 ?
+            CompletableFuture.failedFuture(unavailable()) : CompletableFuture.completedFuture("ok"));
+
+        // Assert
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void executeAsync_ShouldCompleteExceptionallyWithUnwrappedFailure() {
+        // Arrange
+        ResourceNotFoundException failure = new ResourceNotFoundException("Order", "42");
+
+        // Act
+        CompletableFuture<String> result = retry.executeAsync(
+            () -> CompletableFuture.supplyAsync(() -> {
+                throw failure;
+            }));
+
+        // Assert
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+    }
+
+    @Test
+    void executeAsync_ShouldCaptureExceptionsThrownBySupplier() {
+        // Act
+        CompletableFuture<String> result = retry.executeAsync(() -> {
+            throw new IllegalStateException("bug");
+        });
+
+        // Assert
+        assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, result::get).getCause());
+    }
+
+    @Test
+    void execute_ShouldCompareRetryInstant_RegardlessOfClockZones() {
+        // Arrange
+        Instant now = Instant.parse("2026-01-01T10:00:00Z");
+        RetryExecutor utcRetry = RetryExecutor.builder()
+            .maxAttempts(2)
+            .initialDelay(Duration.ofMillis(1))
+            .maxDelay(Duration.ofSeconds(1))
+            .clock(Clock.fixed(now, ZoneOffset.UTC))
+            .build();
+        Clock kolkata = Clock.fixed(now, ZoneId.of("Asia/Kolkata"));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = utcRetry.execute(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ServiceUnavailableException("pricing", "overloaded", now.plusMillis(20), kolkata);
+            }
+            return "ok";
+        });
+
+        // Assert
+        assertEquals("ok", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void executeAsync_ShouldCompleteExceptionally_WhenRetriedCallReturnsNull() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        CompletableFuture<String> result = retry.executeAsync(
+            () -> attempts.incrementAndGet() == 1 ? CompletableFuture.failedFuture(unavailable()) : null);
+
+        // Assert
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(NullPointerException.class, thrown.getCause());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void executeAsync_ShouldCompleteWithLastFailure_WhenExecutorRejectsRetry() {
+        // Arrange
+        ServiceUnavailableException failure = unavailable();
+        RetryExecutor rejecting = RetryExecutor.builder()
+            .initialDelay(Duration.ofMillis(1))
+            .executor(task -> {
+                throw new RejectedExecutionException("shut down");
+            })
+            .build();
+
+        // Act
+        CompletableFuture<String> result = rejecting.executeAsync(() -> CompletableFuture.failedFuture(failure));
+
+        // Assert
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+        assertInstanceOf(RejectedExecutionException.class, failure.getSuppressed()[0]);
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidSettings() {
+        // Arrange
+        RetryExecutor.Builder builder = RetryExecutor.builder();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.maxAttempts(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.multiplier(0.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.jitter(2));
+        assertThrows(IllegalArgumentException.class, () -> builder.initialDelay(Duration.ofMillis(-1)));
+    }
+}
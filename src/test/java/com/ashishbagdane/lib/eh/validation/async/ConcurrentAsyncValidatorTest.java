@@ -0,0 +1,187 @@
+package com.ashishbagdane.lib.eh.validation.async;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.AsyncValidator;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.async.ConcurrentAsyncValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator.ValidationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentAsyncValidatorTest {
+
+    private static final ValidationError ERROR = new DefaultValidationError(ErrorCode.VALIDATION_INVALID_EMAIL);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private AsyncValidator<String> delayed(long millis, ValidationResult result) {
+        return AsyncValidator.of(input -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        }, executor);
+    }
+
+    @Test
+    void validateAsync_ShouldRunValidatorsConcurrently() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(2);
+        AsyncValidator<String> waiting = AsyncValidator.of(input -> {
+            started.countDown();
+            try {
+                return started.await(5, TimeUnit.SECONDS) ? ValidationResult.valid() : ValidationResult.invalid(ERROR);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }, executor);
+        ConcurrentAsyncValidator<String> validator = ConcurrentAsyncValidator.<String>builder(ValidationType.VALIDATE_ALL)
+            .addValidator(waiting)
+            .addValidator(waiting)
+            .build();
+
+        // Act
+        ValidationResult result = validator.validateAsync("input").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertSame(ValidationResult.valid(), result);
+    }
+
+    @Test
+    void validateAsync_WithValidateAll_ShouldCollectErrorsInDeclarationOrder() throws Exception {
+        // Arrange
+        ValidationError first = new DefaultValidationError(ErrorCode.VALIDATION_ERROR);
+        ConcurrentAsyncValidator<String> validator = ConcurrentAsyncValidator.<String>builder(ValidationType.VALIDATE_ALL)
+            .addValidator(delayed(50, ValidationResult.invalid(first)))
+            .addValidator(delayed(0, ValidationResult.invalid(ERROR)))
+            .build();
+
+        // Act
+        ValidationResult result = validator.validateAsync("input").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of(first, ERROR), result.getErrors());
+    }
+
+    @Test
+    void validateAsync_WithFailFast_ShouldCompleteOnFirstFailureAndCancelOthers() throws Exception {
+        // Arrange
+        CompletableFuture<ValidationResult> slow = new CompletableFuture<>();
+        ConcurrentAsyncValidator<String> validator = ConcurrentAsyncValidator.<String>builder(ValidationType.FAIL_FAST)
+            .addValidator(input -> slow)
+            .addValidator(delayed(0, ValidationResult.invalid(ERROR)))
+            .build();
+
+        // Act
+        ValidationResult result = validator.validateAsync("input").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(List.of(ERROR), result.getErrors());
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void validateAsync_ShouldReportPerValidatorTimeoutAsError() throws Exception {
+        // Arrange
+        ConcurrentAsyncValidator<String> validator = ConcurrentAsyncValidator.<String>builder(ValidationType.VALIDATE_ALL)
+            .addValidator(input -> new CompletableFuture<>())
+            .addSyncValidator(input -> ValidationResult.valid())
+            .perValidatorTimeout(Duration.ofMillis(50))
+            .build();
+
+        // Act
+        ValidationResult result = validator.validateAsync("input").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(result.isValid());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(ErrorCode.VALIDATION_ERROR, result.getErrors().get(0).getErrorCode());
+        assertEquals(0, result.getErrors().get(0).getMetadata().get("validatorIndex"));
+    }
+
+    @Test
+    void validateAsync_ShouldReportOverallTimeoutAsError() throws Exception {
+        // Arrange
+        CompletableFuture<ValidationResult> pending = new CompletableFuture<>();
+        ConcurrentAsyncValidator<String> validator = ConcurrentAsyncValidator.<String>builder(ValidationType.VALIDATE_ALL)
+            .addValidator(input -> pending)
+            .overallTimeout(Duration.ofMillis(50))
+            .build();
+
+        // Act
+        ValidationResult result = validator.validateAsync("input").get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertFalse(result.isValid());
+        assertEquals(50L, result.getErrors().get(0).getMetadata().get("timeoutMillis"));
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void validateAsync_ShouldCancelChecks_WhenCallerCancelsResult() {
+        // Arrange
+        CompletableFuture<ValidationResult> pending = new CompletableFuture<>();
+        ConcurrentAsyncValidator<String> validator = ConcurrentAsyncValidator.<String>builder(ValidationType.VALIDATE_ALL)
+            .addValidator(input -> pending)
+            .build();
+
+        // Act
+        validator.validateAsync("input").cancel(true);
+
+        // Assert
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void validateAsync_ShouldCompleteExceptionally_WhenValidatorThrows() {
+        // Arrange
+        ConcurrentAsyncValidator<String> validator = ConcurrentAsyncValidator.<String>builder(ValidationType.VALIDATE_ALL)
+            .addSyncValidator(input -> {
+                throw new IllegalStateException("lookup failed");
+            })
+            .build();
+
+        // Act & Assert
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                                                    () -> validator.validateAsync("input").get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void validateAsync_WithNoValidators_ShouldReturnValid() throws Exception {
+        ConcurrentAsyncValidator<String> validator = ConcurrentAsyncValidator.<String>builder(ValidationType.FAIL_FAST)
+            .build();
+
+        assertTrue(validator.validateAsync("input").get().isValid());
+    }
+}
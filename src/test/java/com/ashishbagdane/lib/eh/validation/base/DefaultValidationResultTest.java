@@ -0,0 +1,80 @@
+package com.ashishbagdane.lib.eh.validation.base;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator.ValidationType;
+import com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DefaultValidationResultTest {
+
+    @Test
+    void valid_ShouldReturnSharedInstance() {
+        // Act
+        ValidationResult first = ValidationResult.valid();
+        ValidationResult second = DefaultValidationResult.valid();
+
+        // Assert
+        assertSame(DefaultValidationResult.VALID, first);
+        assertSame(first, second);
+        assertTrue(first.isValid());
+        assertTrue(first.getErrors().isEmpty());
+    }
+
+    @Test
+    void valid_ShouldBeImmutable() {
+        // Arrange
+        ValidationError error = new DefaultValidationError(ErrorCode.VALIDATION_ERROR);
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> ValidationResult.valid().getErrors().add(error));
+    }
+
+    @Test
+    void invalid_WithSingleError_ShouldEqualListBasedResult() {
+        // Arrange
+        ValidationError error = new DefaultValidationError(ErrorCode.VALIDATION_ERROR);
+
+        // Act
+        ValidationResult result = ValidationResult.invalid(error);
+
+        // Assert
+        assertFalse(result.isValid());
+        assertEquals(List.of(error), result.getErrors());
+        assertEquals(ValidationResult.invalid(List.of(error)), result);
+        assertThrows(UnsupportedOperationException.class, () -> result.getErrors().add(error));
+    }
+
+    @Test
+    void invalid_WithNullError_ShouldThrowNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationResult.invalid((ValidationError) null));
+    }
+
+    @Test
+    void validators_ShouldReturnSharedInstance_WhenInputIsValid() {
+        // Arrange
+        ChainedValidator<String> validator = new ChainedValidator<>(
+            ValidationType.VALIDATE_ALL,
+            new RequiredFieldValidator<>(value -> value, "value"),
+            new RequiredFieldValidator<>(String::trim, "trimmed")
+        );
+
+        // Act
+        ValidationResult result = validator.validate("test");
+
+        // Assert
+        assertSame(ValidationResult.valid(), result);
+    }
+}
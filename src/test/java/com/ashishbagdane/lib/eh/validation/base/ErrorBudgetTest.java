@@ -0,0 +1,166 @@
+package com.ashishbagdane.lib.eh.validation.base;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.CompiledValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.base.ErrorBudget;
+import com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.ChainedValidator.ValidationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ErrorBudgetTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private Validator<String> failing(String message) {
+        ValidationResult result = ValidationResult.invalid(
+            new DefaultValidationError(ErrorCode.VALIDATION_ERROR, message));
+        return input -> {
+            calls.incrementAndGet();
+            return result;
+        };
+    }
+
+    private List<Validator<String>> failingValidators(String prefix, int count) {
+        List<Validator<String>> validators = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            validators.add(failing(prefix + i));
+        }
+        return validators;
+    }
+
+    private static List<String> messages(ValidationResult result) {
+        return result.getErrors().stream().map(ValidationError::getMessage).toList();
+    }
+
+    @Test
+    void validate_ShouldStopAfterMaxErrors_AndMarkResultTruncated() {
+        // Arrange
+        Validator<String> validator = new CompiledValidator<>(failingValidators("e", 10), 3);
+
+        // Act
+        ValidationResult result = validator.validate("input");
+
+        // Assert
+        assertFalse(result.isValid());
+        assertTrue(result.isTruncated());
+        assertEquals(List.of("e0", "e1", "e2"), messages(result));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void validate_ShouldShareBudgetWithNestedComposites() {
+        // Arrange
+        List<Validator<String>> validators = new ArrayList<>();
+        validators.add(failing("outer"));
+        validators.add(new CompiledValidator<>(failingValidators("nested", 100)));
+        validators.add(failing("after"));
+        Validator<String> validator = new CompiledValidator<>(validators, 4);
+
+        // Act
+        ValidationResult result = validator.validate("input");
+
+        // Assert
+        assertTrue(result.isTruncated());
+        assertEquals(List.of("outer", "nested0", "nested1", "nested2"), messages(result));
+        assertEquals(4, calls.get());
+        assertFalse(ErrorBudget.isActive());
+    }
+
+    @Test
+    void validate_ShouldApplyTighterNestedLimit_AndContinueOuterValidation() {
+        // Arrange
+        List<Validator<String>> validators = new ArrayList<>();
+        validators.add(new CompiledValidator<>(failingValidators("nested", 5), 2));
+        validators.add(failing("after"));
+        Validator<String> validator = new CompiledValidator<>(validators, 10);
+
+        // Act
+        ValidationResult result = validator.validate("input");
+
+        // Assert
+        assertEquals(List.of("nested0", "nested1", "after"), messages(result));
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void validate_ShouldTrimMultiErrorResultOfLeafValidator() {
+        // Arrange
+        List<ValidationError> manyErrors = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            manyErrors.add(new DefaultValidationError(ErrorCode.VALIDATION_ERROR, "item" + i));
+        }
+        Validator<String> leaf = input -> ValidationResult.invalid(manyErrors);
+        Validator<String> validator = new ValidatorBuilder<String>().addValidator(leaf).maxErrors(5).build();
+
+        // Act
+        ValidationResult result = validator.validate("input");
+
+        // Assert
+        assertEquals(5, result.getErrors().size());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void validate_WithChainedValidateAll_ShouldHonourMaxErrors() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        Validator<String>[] chain = failingValidators("e", 6).toArray(new Validator[0]);
+        ChainedValidator<String> validator = new ChainedValidator<>(ValidationType.VALIDATE_ALL, 2, chain);
+
+        // Act
+        ValidationResult result = validator.validate("input");
+
+        // Assert
+        assertEquals(List.of("e0", "e1"), messages(result));
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void validate_WithinLimit_ShouldNotMarkTruncatedAndKeepLoneFailure() {
+        // Arrange
+        ValidationResult lone = ValidationResult.invalid(new DefaultValidationError(ErrorCode.VALIDATION_ERROR));
+        Validator<String> validator = new CompiledValidator<>(
+            List.of(input -> ValidationResult.valid(), input -> lone), 3);
+
+        // Act
+        ValidationResult result = validator.validate("input");
+
+        // Assert
+        assertSame(lone, result);
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    void validate_ShouldReleaseBudget_WhenValidatorThrows() {
+        // Arrange
+        Validator<String> validator = new CompiledValidator<>(List.of(input -> {
+            throw new IllegalStateException("boom");
+        }), 3);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> validator.validate("input"));
+        assertFalse(ErrorBudget.isActive());
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new CompiledValidator<String>(Collections.emptyList(), 0));
+    }
+}
@@ -0,0 +1,261 @@
+package com.ashishbagdane.lib.eh.validation.base;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.CompiledValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.base.FieldGroupValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.FieldValidator;
+import com.ashishbagdane.lib.eh.exception.validation.base.HiddenClassValidatorCompiler;
+import com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HiddenClassValidatorCompilerTest {
+
+    private static final ValidationResult NEGATIVE = ValidationResult.invalid(
+        new DefaultValidationError(ErrorCode.VALIDATION_INVALID_PARAMETER, "amount must not be negative"));
+
+    private static ValidatorBuilder<Order> definition() {
+        return new ValidatorBuilder<Order>()
+            .validateRequired(Order::getId, "id")
+            .validateField(Order::getContactEmail, "contactEmail", rules -> rules.required().email())
+            .validateNested(Order::getCustomer, "customer", customer -> customer
+                .validateRequired(Customer::getName, "customer.name")
+                .validateEmail(Customer::getEmail, "customer.email"))
+            .addValidator(order -> order.getAmount() < 0 ? NEGATIVE : ValidationResult.valid());
+    }
+
+    @Test
+    void compile_ShouldProduceHiddenClass() {
+        // Act
+        Validator<Order> validator = definition().compile();
+
+        // Assert
+        assertTrue(validator.getClass().isHidden());
+    }
+
+    @Test
+    void validate_ShouldMatchCompiledValidator_ForValidAndInvalidInputs() {
+        // Arrange
+        Validator<Order> expected = definition().build();
+        Validator<Order> compiled = definition().compile();
+        List<Order> orders = List.of(
+            new Order("o-1", "buyer@example.com", new Customer("Jane", "jane@example.com"), 10),
+            new Order("o-2", "buyer@example.com", null, 10),
+            new Order(null, "not-an-email", new Customer(" ", "broken"), -1),
+            new Order("", null, new Customer("Jane", null), 0),
+            new Order("o-3", "buyer@example.com", new Customer("Jane", "jane@example.com"), -5));
+
+        // Act & Assert
+        for (Order order : orders) {
+            assertEquals(expected.validate(order).getErrors(), compiled.validate(order).getErrors());
+        }
+    }
+
+    @Test
+    void validate_ShouldReturnSharedValidResult_WhenAllChecksPass() {
+        // Arrange
+        Validator<Order> compiled = definition().compile();
+        Order order = new Order("o-1", "buyer@example.com", new Customer("Jane", "jane@example.com"), 10);
+
+        // Act & Assert
+        assertSame(ValidationResult.valid(), compiled.validate(order));
+    }
+
+    @Test
+    void validate_ShouldReturnLoneFailureUnchanged() {
+        // Arrange
+        Validator<Order> compiled = definition().compile();
+        Order order = new Order("o-1", "buyer@example.com", new Customer("Jane", "jane@example.com"), -1);
+
+        // Act & Assert
+        assertSame(NEGATIVE, compiled.validate(order));
+    }
+
+    @Test
+    void validate_ShouldExtractSharedFieldOnce() {
+        // Arrange
+        AtomicInteger extractions = new AtomicInteger();
+        Validator<Order> compiled = new ValidatorBuilder<Order>()
+            .validateField(order -> {
+                extractions.incrementAndGet();
+                return order.getContactEmail();
+            }, "contactEmail", rules -> rules.required().email())
+            .compile();
+
+        // Act
+        compiled.validate(new Order("o-1", "buyer@example.com", null, 1));
+
+        // Assert
+        assertEquals(1, extractions.get());
+    }
+
+    @Test
+    void validate_ShouldCallOverriddenValidateOfFieldValidator() {
+        // Arrange
+        Validator<Order> compiled = HiddenClassValidatorCompiler.compile(List.of(new IdPrefixValidator()));
+
+        // Act & Assert
+        assertSame(NEGATIVE, compiled.validate(new Order("x-1", null, null, 1)));
+        assertSame(ValidationResult.valid(), compiled.validate(new Order("o-1", null, null, 1)));
+    }
+
+    @Test
+    void compile_ShouldSplitLargeDefinitionIntoMethods_AndMatchCompiledValidator() {
+        // Arrange
+        List<Validator<Order>> validators = divisorChecks(Order::getAmount, 250);
+        Validator<Order> expected = new CompiledValidator<>(validators);
+
+        // Act
+        Validator<Order> compiled = HiddenClassValidatorCompiler.compile(validators);
+
+        // Assert
+        assertTrue(compiled.getClass().isHidden());
+        assertEquals(3, Arrays.stream(compiled.getClass().getDeclaredMethods())
+            .filter(method -> method.getName().startsWith("checks"))
+            .count());
+        for (long amount : new long[]{1, 7, 120, 251, 1_000}) {
+            Order order = new Order("o-1", "buyer@example.com", null, amount);
+            assertEquals(expected.validate(order).getErrors(), compiled.validate(order).getErrors());
+        }
+    }
+
+    @Test
+    void compile_ShouldMoveLargeFieldGroupIntoOwnMethod() {
+        // Arrange
+        List<Validator<Order>> validators = List.of(new FieldGroupValidator<>(
+            Order::getCustomer, "customer",
+            new CompiledValidator<>(divisorChecks(customer -> customer.getName().length(), 150)), true));
+        Validator<Order> expected = new CompiledValidator<>(validators);
+
+        // Act
+        Validator<Order> compiled = HiddenClassValidatorCompiler.compile(validators);
+
+        // Assert
+        assertTrue(compiled.getClass().isHidden());
+        for (Customer customer : new Customer[]{null, new Customer("Jo", null), new Customer("Jonathan", null)}) {
+            Order order = new Order("o-1", "buyer@example.com", customer, 1);
+            assertEquals(expected.validate(order).getErrors(), compiled.validate(order).getErrors());
+        }
+    }
+
+    @Test
+    void compile_ShouldFallBackToCompiledValidator_WhenDefinitionIsTooLarge() {
+        // Arrange
+        List<Validator<Order>> validators = new ArrayList<>(
+            Collections.nCopies(HiddenClassValidatorCompiler.MAX_CONSTANTS + 1, order -> ValidationResult.valid()));
+
+        // Act & Assert
+        assertInstanceOf(CompiledValidator.class, HiddenClassValidatorCompiler.compile(validators));
+    }
+
+    /**
+     * Creates {@code count} checks, the i-th failing when the value is divisible by i + 1.
+     */
+    private static <T> List<Validator<T>> divisorChecks(ToLongFunction<T> value, int count) {
+        List<Validator<T>> checks = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            int divisor = i;
+            ValidationResult failure = ValidationResult.invalid(
+                new DefaultValidationError(ErrorCode.VALIDATION_INVALID_PARAMETER, "divisible by " + divisor));
+            checks.add(input -> value.applyAsLong(input) % divisor == 0 ? failure : ValidationResult.valid());
+        }
+        return checks;
+    }
+
+    @Test
+    void compile_ShouldRejectNullValidator() {
+        List<Validator<Order>> validators = new ArrayList<>();
+        validators.add(null);
+
+        assertThrows(NullPointerException.class, () -> HiddenClassValidatorCompiler.compile(validators));
+    }
+
+    /**
+     * Field validator whose own {@code validate} must not be bypassed by the compiler.
+     */
+    static final class IdPrefixValidator extends FieldValidator<Order, String> {
+
+        IdPrefixValidator() {
+            super(Order::getId, "id");
+        }
+
+        @Override
+        public ValidationResult validate(Order input) {
+            return input.getId().startsWith("o-") ? ValidationResult.valid() : validateField(input.getId());
+        }
+
+        @Override
+        protected ValidationResult validateField(String field) {
+            return NEGATIVE;
+        }
+    }
+
+    static final class Order {
+
+        private final String id;
+
+        private final String contactEmail;
+
+        private final Customer customer;
+
+        private final long amount;
+
+        Order(String id, String contactEmail, Customer customer, long amount) {
+            this.id = id;
+            this.contactEmail = contactEmail;
+            this.customer = customer;
+            this.amount = amount;
+        }
+
+        String getId() {
+            return id;
+        }
+
+        String getContactEmail() {
+            return contactEmail;
+        }
+
+        Customer getCustomer() {
+            return customer;
+        }
+
+        long getAmount() {
+            return amount;
+        }
+    }
+
+    static final class Customer {
+
+        private final String name;
+
+        private final String email;
+
+        Customer(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        String getEmail() {
+            return email;
+        }
+    }
+}
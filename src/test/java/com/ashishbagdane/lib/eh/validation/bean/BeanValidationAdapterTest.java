@@ -0,0 +1,195 @@
+package com.ashishbagdane.lib.eh.validation.bean;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.bean.BeanValidationAdapter;
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.Payload;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.groups.Default;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BeanValidationAdapterTest {
+
+    private static ValidatorFactory factory;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    interface OnCreate {
+    }
+
+    static class Customer {
+
+        @NotBlank
+        private final String name;
+
+        @Email
+        private final String email;
+
+        @Min(18)
+        private final int age;
+
+        @Pattern(regexp = "[A-Z]{2}", groups = OnCreate.class)
+        private final String country;
+
+        Customer(String name, String email, int age, String country) {
+            this.name = name;
+            this.email = email;
+            this.age = age;
+            this.country = country;
+        }
+    }
+
+    static class Unconstrained {
+    }
+
+    @Target(ElementType.FIELD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = IbanValidator.class)
+    @interface Iban {
+
+        String message() default "invalid IBAN";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class IbanValidator implements ConstraintValidator<Iban, String> {
+
+        @Override
+        public boolean isValid(String value, ConstraintValidatorContext context) {
+            return value == null || value.length() >= 15;
+        }
+    }
+
+    static class Account {
+
+        @Iban
+        private final String iban;
+
+        Account(String iban) {
+            this.iban = iban;
+        }
+    }
+
+    @Test
+    void validate_ShouldReturnValid_WhenBeanSatisfiesConstraints() {
+        // Arrange
+        BeanValidationAdapter<Customer> adapter = BeanValidationAdapter.of(factory.getValidator());
+
+        // Act
+        ValidationResult result = adapter.validate(new Customer("Ada", "ada@example.com", 36, "GB"));
+
+        // Assert
+        assertTrue(result.isValid());
+    }
+
+    @Test
+    void validate_ShouldMapViolationsToErrorCodesInPathOrder() {
+        // Arrange
+        BeanValidationAdapter<Customer> adapter = BeanValidationAdapter.of(factory.getValidator());
+
+        // Act
+        ValidationResult result = adapter.validate(new Customer(" ", "not-an-email", 12, "GB"));
+
+        // Assert
+        List<ValidationError> errors = result.getErrors();
+        assertEquals(3, errors.size());
+        assertEquals(ErrorCode.VALIDATION_INVALID_PARAMETER, errors.get(0).getErrorCode());
+        assertEquals("age", errors.get(0).getMetadata().get(BeanValidationAdapter.FIELD_METADATA));
+        assertEquals("Min", errors.get(0).getMetadata().get(BeanValidationAdapter.CONSTRAINT_METADATA));
+        assertEquals(ErrorCode.VALIDATION_INVALID_EMAIL, errors.get(1).getErrorCode());
+        assertEquals("email", errors.get(1).getMetadata().get(BeanValidationAdapter.FIELD_METADATA));
+        assertEquals(ErrorCode.VALIDATION_MISSING_FIELD, errors.get(2).getErrorCode());
+        assertEquals("name", errors.get(2).getMetadata().get(BeanValidationAdapter.FIELD_METADATA));
+        assertFalse(errors.get(2).getMessage().isEmpty());
+    }
+
+    @Test
+    void validate_ShouldApplyCustomMappingAndGroups() {
+        // Arrange
+        BeanValidationAdapter<Customer> adapter = BeanValidationAdapter.<Customer>builder(factory.getValidator())
+            .mapConstraint(Pattern.class, ErrorCode.BUSINESS_RULE_VIOLATION)
+            .groups(Default.class, OnCreate.class)
+            .build();
+
+        // Act
+        ValidationResult result = adapter.validate(new Customer("Ada", "ada@example.com", 36, "gb"));
+
+        // Assert
+        assertEquals(1, result.getErrors().size());
+        assertEquals(ErrorCode.BUSINESS_RULE_VIOLATION, result.getErrors().get(0).getErrorCode());
+        assertEquals("country", result.getErrors().get(0).getMetadata().get(BeanValidationAdapter.FIELD_METADATA));
+    }
+
+    @Test
+    void validate_ShouldSkipDelegate_WhenClassHasNoConstraints() {
+        // Arrange
+        jakarta.validation.Validator delegate = spy(factory.getValidator());
+        BeanValidationAdapter<Unconstrained> adapter = BeanValidationAdapter.of(delegate);
+
+        // Act
+        adapter.validate(new Unconstrained());
+        ValidationResult result = adapter.validate(new Unconstrained());
+
+        // Assert
+        assertTrue(result.isValid());
+        verify(delegate, times(1)).getConstraintsForClass(Unconstrained.class);
+        verify(delegate, never()).validate(any(), any(Class[].class));
+    }
+
+    @Test
+    void validate_ShouldUseDefaultErrorCode_ForUnmappedConstraint() {
+        // Arrange
+        BeanValidationAdapter<Account> adapter = BeanValidationAdapter.<Account>builder(factory.getValidator())
+            .defaultErrorCode(ErrorCode.VALIDATION_INVALID_FORMAT)
+            .build();
+
+        // Act
+        ValidationResult result = adapter.validate(new Account("DE00"));
+
+        // Assert
+        assertEquals(ErrorCode.VALIDATION_INVALID_FORMAT, result.getErrors().get(0).getErrorCode());
+        assertEquals("Iban", result.getErrors().get(0).getMetadata().get(BeanValidationAdapter.CONSTRAINT_METADATA));
+    }
+
+    @Test
+    void builder_ShouldRejectNullDelegate() {
+        assertThrows(NullPointerException.class, () -> BeanValidationAdapter.builder(null));
+    }
+}
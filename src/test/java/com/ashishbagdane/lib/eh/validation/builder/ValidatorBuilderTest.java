@@ -0,0 +1,162 @@
+package com.ashishbagdane.lib.eh.validation.builder;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorBuilderTest {
+
+    private static class Customer {
+
+        private final String email;
+
+        Customer(String email) {
+            this.email = email;
+        }
+    }
+
+    private static class Order {
+
+        private final Customer customer;
+
+        private final String contact;
+
+        Order(Customer customer, String contact) {
+            this.customer = customer;
+            this.contact = contact;
+        }
+    }
+
+    @Test
+    void build_ShouldCollectErrorsFromAllValidators() {
+        // Arrange
+        Validator<Order> validator = new ValidatorBuilder<Order>()
+            .validateRequired(order -> order.contact, "contact")
+            .validateEmail(order -> order.contact, "contact")
+            .build();
+
+        // Act
+        ValidationResult result = validator.validate(new Order(null, null));
+
+        // Assert
+        assertEquals(List.of(ErrorCode.VALIDATION_MISSING_FIELD, ErrorCode.VALIDATION_INVALID_EMAIL),
+                     codes(result));
+    }
+
+    @Test
+    void build_ShouldReturnSharedValidResult_WhenAllRulesPass() {
+        // Arrange
+        Validator<Order> validator = new ValidatorBuilder<Order>()
+            .validateRequired(order -> order.contact, "contact")
+            .validateEmail(order -> order.contact, "contact")
+            .build();
+
+        // Act & Assert
+        assertSame(ValidationResult.valid(), validator.validate(new Order(null, "ops@example.com")));
+    }
+
+    @Test
+    void validateField_ShouldExtractFieldOnce() {
+        // Arrange
+        AtomicInteger extractions = new AtomicInteger();
+        Validator<Order> validator = new ValidatorBuilder<Order>()
+            .validateField(order -> {
+                extractions.incrementAndGet();
+                return order.contact;
+            }, "contact", rules -> rules.required().email())
+            .build();
+
+        // Act
+        ValidationResult result = validator.validate(new Order(null, " "));
+
+        // Assert
+        assertEquals(1, extractions.get());
+        assertEquals(List.of(ErrorCode.VALIDATION_MISSING_FIELD, ErrorCode.VALIDATION_INVALID_EMAIL),
+                     codes(result));
+        assertEquals("Field 'contact' is required", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void validateField_ShouldApplyCustomRules() {
+        // Arrange
+        Validator<Order> validator = new ValidatorBuilder<Order>()
+            .validateField(order -> order.contact, "contact", rules -> rules
+                .email(12)
+                .rule(contact -> contact.endsWith(".com") ? ValidationResult.valid() :
+                    ValidationResult.invalid(List.of())))
+            .build();
+
+        // Act & Assert
+        assertTrue(validator.validate(new Order(null, "ab@test.com")).isValid());
+        assertFalse(validator.validate(new Order(null, "abcdef@test.com")).isValid());
+    }
+
+    @Test
+    void validateNested_ShouldExtractPathOnceForAllRules() {
+        // Arrange
+        AtomicInteger extractions = new AtomicInteger();
+        Validator<Order> validator = new ValidatorBuilder<Order>()
+            .validateNested(order -> {
+                extractions.incrementAndGet();
+                return order.customer;
+            }, "customer", customer -> customer
+                .validateRequired(c -> c.email, "customer.email")
+                .validateEmail(c -> c.email, "customer.email"))
+            .build();
+
+        // Act
+        ValidationResult result = validator.validate(new Order(new Customer("not-an-email"), null));
+
+        // Assert
+        assertEquals(1, extractions.get());
+        assertEquals(List.of(ErrorCode.VALIDATION_INVALID_EMAIL), codes(result));
+    }
+
+    @Test
+    void validateNested_ShouldSkipNullPath() {
+        // Arrange
+        Validator<Order> validator = new ValidatorBuilder<Order>()
+            .validateNested(order -> order.customer, "customer", customer -> customer
+                .validateRequired(c -> c.email, "customer.email"))
+            .build();
+
+        // Act & Assert
+        assertTrue(validator.validate(new Order(null, null)).isValid());
+    }
+
+    private static List<ErrorCode> codes(ValidationResult result) {
+        return result.getErrors().stream().map(ValidationError::getErrorCode).collect(Collectors.toList());
+    }
+
+    @Test
+    void validateNumeric_ShouldApplyPrimitiveChecksInOrder() {
+        // Arrange
+        Validator<long[]> validator = new ValidatorBuilder<long[]>()
+            .validateInt(values -> (int) values[0], "quantity", rules -> rules.positive())
+            .validateLong(values -> values[1], "priceInCents", rules -> rules.nonNegative().multipleOf(5))
+            .validateDouble(values -> values[1] / 100.0, "price", rules -> rules.max(10))
+            .build();
+
+        // Act
+        ValidationResult valid = validator.validate(new long[]{1, 995});
+        ValidationResult invalid = validator.validate(new long[]{0, 1_001});
+
+        // Assert
+        assertSame(ValidationResult.valid(), valid);
+        assertEquals(List.of("Field 'quantity' must be at least 1", "Field 'priceInCents' must be a multiple of 5",
+                             "Field 'price' must be at most 10"),
+                     invalid.getErrors().stream().map(ValidationError::getMessage).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.ashishbagdane.lib.eh.validation.bulk;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.bulk.BulkValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.bulk.BulkValidator;
+import com.ashishbagdane.lib.eh.exception.validation.bulk.IndexedValidationError;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkValidatorTest {
+
+    private static final ValidationError ODD_ERROR = new DefaultValidationError(ErrorCode.VALIDATION_ERROR);
+
+    private static final Validator<Integer> EVEN_VALIDATOR = value -> value % 2 == 0 ?
+        ValidationResult.valid() : ValidationResult.invalid(ODD_ERROR);
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 63, 64, 65, 1_000, 100_003})
+    void validateAll_ShouldMarkEveryInvalidItem(int size) {
+        // Arrange
+        BulkValidator<Integer> validator = BulkValidator.builder(EVEN_VALIDATOR)
+            .parallelThreshold(100)
+            .chunkSize(100)
+            .maxErrors(Integer.MAX_VALUE)
+            .build();
+
+        // Act
+        BulkValidationResult result = validator.validateAll(range(size));
+
+        // Assert
+        assertEquals(size, result.getTotalCount());
+        assertEquals(size / 2, result.getInvalidCount());
+        assertEquals(size - size / 2, result.getValidCount());
+        assertEquals(size / 2, result.getErrors().size());
+        assertFalse(result.isTruncated());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i % 2 == 0, result.isItemValid(i));
+        }
+    }
+
+    @Test
+    void validateAll_ShouldPreserveIndexOrder() {
+        // Arrange
+        BulkValidator<Integer> validator = BulkValidator.builder(EVEN_VALIDATOR)
+            .parallelThreshold(0)
+            .chunkSize(64)
+            .maxErrors(Integer.MAX_VALUE)
+            .build();
+
+        // Act
+        BulkValidationResult result = validator.validateAll(range(10_000));
+
+        // Assert
+        long previous = -1;
+        for (ValidationError error : result.getErrors()) {
+            IndexedValidationError indexed = assertInstanceOf(IndexedValidationError.class, error);
+            assertTrue(indexed.getIndex() > previous);
+            assertEquals(1, indexed.getIndex() % 2);
+            assertEquals(ODD_ERROR, indexed.getError());
+            previous = indexed.getIndex();
+        }
+    }
+
+    @Test
+    void validateAll_ShouldCapCollectedErrors() {
+        // Arrange
+        BulkValidator<Integer> validator = BulkValidator.builder(EVEN_VALIDATOR)
+            .parallelThreshold(0)
+            .maxErrors(10)
+            .build();
+
+        // Act
+        BulkValidationResult result = validator.validateAll(range(50_000));
+
+        // Assert
+        assertEquals(10, result.getErrors().size());
+        assertTrue(result.isTruncated());
+        assertEquals(25_000, result.getInvalidCount());
+        assertFalse(result.isValid());
+    }
+
+    @Test
+    void validateAll_ShouldAcceptNonRandomAccessLists() {
+        // Arrange
+        BulkValidator<Integer> validator = BulkValidator.of(EVEN_VALIDATOR);
+
+        // Act
+        BulkValidationResult result = validator.validateAll(new LinkedList<>(List.of(2, 3, 4)));
+
+        // Assert
+        assertFalse(result.isItemValid(1));
+        assertEquals(1, result.getInvalidItems().cardinality());
+    }
+
+    @Test
+    void validateAll_ShouldReturnValid_WhenAllItemsPass() {
+        // Act
+        BulkValidationResult result = BulkValidator.of(EVEN_VALIDATOR).validateAll(List.of(0, 2, 4));
+
+        // Assert
+        assertTrue(result.isValid());
+        assertTrue(result.getErrors().isEmpty());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidSettings() {
+        assertThrows(NullPointerException.class, () -> BulkValidator.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> BulkValidator.builder(EVEN_VALIDATOR).chunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> BulkValidator.builder(EVEN_VALIDATOR).maxErrors(-1));
+    }
+}
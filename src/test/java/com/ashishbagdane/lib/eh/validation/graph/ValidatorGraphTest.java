@@ -0,0 +1,232 @@
+package com.ashishbagdane.lib.eh.validation.graph;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.graph.ValidatorGraph;
+import com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorGraphTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private final AtomicInteger rangeChecks = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static class Booking {
+
+        private final LocalDate checkIn;
+
+        private final LocalDate checkOut;
+
+        Booking(LocalDate checkIn, LocalDate checkOut) {
+            this.checkIn = checkIn;
+            this.checkOut = checkOut;
+        }
+
+        LocalDate getCheckIn() {
+            return checkIn;
+        }
+
+        LocalDate getCheckOut() {
+            return checkOut;
+        }
+    }
+
+    private Validator<Booking> stayValidator() {
+        return booking -> {
+            rangeChecks.incrementAndGet();
+            return booking.getCheckOut().isAfter(booking.getCheckIn()) ? ValidationResult.valid() :
+                ValidationResult.invalid(new DefaultValidationError(ErrorCode.VALIDATION_ERROR, "stay"));
+        };
+    }
+
+    private ValidatorGraph.Builder<Booking> bookingGraph() {
+        // The dependent rule is declared first to exercise the topological ordering
+        return ValidatorGraph.<Booking>builder()
+            .rule("stay", stayValidator(), "checkIn", "checkOut")
+            .rule("checkIn", new RequiredFieldValidator<>(Booking::getCheckIn, "checkIn"))
+            .rule("checkOut", new RequiredFieldValidator<>(Booking::getCheckOut, "checkOut"));
+    }
+
+    private static List<String> messages(ValidationResult result) {
+        return result.getErrors().stream().map(ValidationError::getMessage).toList();
+    }
+
+    @Test
+    void build_ShouldOrderRulesTopologically() {
+        // Act
+        ValidatorGraph<Booking> graph = bookingGraph().build();
+
+        // Assert
+        assertEquals(List.of("checkIn", "checkOut", "stay"), graph.getExecutionOrder());
+    }
+
+    @Test
+    void validate_ShouldRunDependentRule_WhenPrerequisitesPass() {
+        // Arrange
+        ValidatorGraph<Booking> graph = bookingGraph().build();
+
+        // Act
+        ValidationResult result = graph.validate(new Booking(LocalDate.of(2024, 5, 3), LocalDate.of(2024, 5, 1)));
+
+        // Assert
+        assertEquals(List.of("stay"), messages(result));
+        assertEquals(1, rangeChecks.get());
+    }
+
+    @Test
+    void validate_ShouldSkipDependentRule_WhenPrerequisiteFails() {
+        // Arrange
+        ValidatorGraph<Booking> graph = bookingGraph().build();
+
+        // Act
+        ValidationResult result = graph.validate(new Booking(null, null));
+
+        // Assert
+        assertEquals(List.of("Field 'checkIn' is required", "Field 'checkOut' is required"), messages(result));
+        assertEquals(0, rangeChecks.get());
+    }
+
+    @Test
+    void validate_ShouldSkipTransitively_WhenPrerequisiteWasSkipped() {
+        // Arrange
+        AtomicInteger downstream = new AtomicInteger();
+        ValidatorGraph<Booking> graph = bookingGraph()
+            .rule("loyalty", booking -> {
+                downstream.incrementAndGet();
+                return ValidationResult.valid();
+            }, "stay")
+            .build();
+
+        // Act
+        ValidationResult result = graph.validate(new Booking(LocalDate.of(2024, 5, 1), null));
+
+        // Assert
+        assertEquals(List.of("Field 'checkOut' is required"), messages(result));
+        assertEquals(0, downstream.get());
+    }
+
+    @Test
+    void validate_ShouldReturnLoneFailureAsIs() {
+        // Arrange
+        ValidationResult failure = ValidationResult.invalid(new DefaultValidationError(ErrorCode.VALIDATION_ERROR));
+        ValidatorGraph<Booking> graph = ValidatorGraph.<Booking>builder()
+            .rule("first", booking -> ValidationResult.valid())
+            .rule("second", booking -> failure, "first")
+            .build();
+
+        // Act & Assert
+        assertSame(failure, graph.validate(new Booking(null, null)));
+    }
+
+    @Test
+    void validate_WithExecutor_ShouldRunIndependentRulesConcurrently() {
+        // Arrange
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Validator<Booking> waitsForOther = booking -> {
+            bothStarted.countDown();
+            try {
+                return bothStarted.await(5, TimeUnit.SECONDS) ? ValidationResult.valid() :
+                    ValidationResult.invalid(new DefaultValidationError(ErrorCode.VALIDATION_ERROR, "sequential"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        };
+        ValidatorGraph<Booking> graph = ValidatorGraph.<Booking>builder()
+            .rule("left", waitsForOther)
+            .rule("right", waitsForOther)
+            .rule("stay", stayValidator(), "left", "right")
+            .executor(executor)
+            .build();
+
+        // Act
+        ValidationResult result = graph.validate(new Booking(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 3)));
+
+        // Assert
+        assertTrue(result.isValid());
+        assertEquals(1, rangeChecks.get());
+    }
+
+    @Test
+    void validate_WithExecutor_ShouldSkipDependentRuleAndKeepErrorOrder() {
+        // Arrange
+        ValidatorGraph<Booking> graph = bookingGraph().executor(executor).build();
+
+        // Act
+        ValidationResult result = graph.validate(new Booking(null, null));
+
+        // Assert
+        assertEquals(List.of("Field 'checkIn' is required", "Field 'checkOut' is required"), messages(result));
+        assertEquals(0, rangeChecks.get());
+    }
+
+    @Test
+    void validate_WithExecutor_ShouldRethrowRuleException() {
+        // Arrange
+        ValidatorGraph<Booking> graph = ValidatorGraph.<Booking>builder()
+            .rule("broken", booking -> {
+                throw new IllegalStateException("boom");
+            })
+            .executor(executor)
+            .build();
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                                                       () -> graph.validate(new Booking(null, null)));
+        assertEquals("boom", exception.getMessage());
+    }
+
+    @Test
+    void build_ShouldRejectUnknownPrerequisite() {
+        // Arrange
+        ValidatorGraph.Builder<Booking> builder = ValidatorGraph.<Booking>builder()
+            .rule("stay", stayValidator(), "checkIn");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void build_ShouldRejectCycle() {
+        // Arrange
+        ValidatorGraph.Builder<Booking> builder = ValidatorGraph.<Booking>builder()
+            .rule("a", stayValidator(), "b")
+            .rule("b", stayValidator(), "a");
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, builder::build);
+        assertTrue(exception.getMessage().contains("[a, b]"));
+    }
+
+    @Test
+    void rule_ShouldRejectDuplicateName() {
+        // Arrange
+        ValidatorGraph.Builder<Booking> builder = ValidatorGraph.<Booking>builder().rule("a", stayValidator());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.rule("a", stayValidator()));
+    }
+}
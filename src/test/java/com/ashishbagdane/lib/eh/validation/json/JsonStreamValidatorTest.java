@@ -0,0 +1,267 @@
+package com.ashishbagdane.lib.eh.validation.json;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.json.JsonStreamValidator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonStreamValidatorTest {
+
+    private final JsonStreamValidator orderValidator = JsonStreamValidator.builder()
+        .required("/customer/email")
+        .email("/customer/email")
+        .required("/lines")
+        .required("/lines/*/sku")
+        .length("/lines/*/sku", 3, 8)
+        .range("/lines/*/quantity", 1, 100)
+        .build();
+
+    private static byte[] json(String json) {
+        return json.replace('\'', '"').getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> pointers(ValidationResult result) {
+        return result.getErrors().stream()
+            .map(error -> (String) error.getMetadata().get(JsonStreamValidator.POINTER_METADATA))
+            .toList();
+    }
+
+    @Test
+    void validate_ShouldPass_WhenDocumentSatisfiesRules() {
+        // Arrange
+        byte[] document = json("{'id':7,'customer':{'email':'jane@example.com','tags':[1,{'x':[]}]},"
+                                   + "'lines':[{'sku':'ABC-1','quantity':2},{'sku':'XYZ','quantity':100}]}");
+
+        // Act
+        ValidationResult result = orderValidator.validate(document);
+
+        // Assert
+        assertTrue(result.isValid());
+    }
+
+    @Test
+    void validate_ShouldReportErrorsWithJsonPointers() {
+        // Arrange
+        byte[] document = json("{'customer':{'email':'jane@'},"
+                                   + "'lines':[{'sku':'ABC-1','quantity':0},{'quantity':5},{'sku':'TOO-LONG-SKU'}]}");
+
+        // Act
+        ValidationResult result = orderValidator.validate(document);
+
+        // Assert
+        assertEquals(List.of("/customer/email", "/lines/0/quantity", "/lines/1/sku", "/lines/2/sku"),
+                     pointers(result));
+        List<ValidationError> errors = result.getErrors();
+        assertEquals(ErrorCode.VALIDATION_INVALID_EMAIL, errors.get(0).getErrorCode());
+        assertEquals("Field '/lines/0/quantity' must be at least 1", errors.get(1).getMessage());
+        assertEquals(ErrorCode.VALIDATION_MISSING_FIELD, errors.get(2).getErrorCode());
+        assertEquals("Field '/lines/2/sku' must be at most 8 characters long", errors.get(3).getMessage());
+    }
+
+    @Test
+    void validate_ShouldTreatNullBlankAndEmptyAsMissing() {
+        // Arrange
+        byte[] document = json("{'customer':{'email':null},'lines':[]}");
+        byte[] blankSku = json("{'customer':{'email':'a@b.io'},'lines':[{'sku':'   '}]}");
+
+        // Act
+        ValidationResult result = orderValidator.validate(document);
+        ValidationResult blankResult = orderValidator.validate(blankSku);
+
+        // Assert
+        assertEquals(List.of("/customer/email", "/lines"), pointers(result));
+        assertEquals(List.of("/lines/0/sku"), pointers(blankResult));
+    }
+
+    @Test
+    void validate_ShouldReportMissingParentMembers() {
+        // Act
+        ValidationResult result = orderValidator.validate(json("{'customer':{}}"));
+
+        // Assert
+        assertEquals(List.of("/customer/email", "/lines"), pointers(result));
+    }
+
+    @Test
+    void validate_ShouldReportRequiredDescendants_WhenAncestorIsMissingOrNull() {
+        // Act
+        ValidationResult missingCustomer = orderValidator.validate(json("{'lines':[{'sku':'ABC'}]}"));
+        ValidationResult nullCustomer = orderValidator.validate(json("{'customer':null,'lines':[{'sku':'ABC'}]}"));
+        ValidationResult emptyDocument = orderValidator.validate(json("{}"));
+
+        // Assert
+        assertEquals(List.of("/customer/email"), pointers(missingCustomer));
+        assertEquals(ErrorCode.VALIDATION_MISSING_FIELD, missingCustomer.getErrors().get(0).getErrorCode());
+        assertEquals(List.of("/customer/email"), pointers(nullCustomer));
+        assertEquals(List.of("/customer/email", "/lines"), pointers(emptyDocument));
+    }
+
+    @Test
+    void validate_ShouldReportRequiredAncestorOnly_WhenItIsMissing() {
+        // Arrange
+        JsonStreamValidator validator = JsonStreamValidator.builder()
+            .required("/shipping")
+            .required("/shipping/address/city")
+            .required("/billing/address/city")
+            .build();
+
+        // Act
+        ValidationResult result = validator.validate(json("{'billing':{'address':null}}"));
+
+        // Assert
+        assertEquals(List.of("/billing/address/city", "/shipping"), pointers(result));
+    }
+
+    @Test
+    void validate_ShouldReportWrongJsonTypes() {
+        // Arrange
+        byte[] document = json("{'customer':'jane','lines':[{'sku':12,'quantity':'two'}]}");
+
+        // Act
+        ValidationResult result = orderValidator.validate(document);
+
+        // Assert
+        assertEquals(List.of("/customer", "/lines/0/sku", "/lines/0/quantity"), pointers(result));
+        assertTrue(result.getErrors().stream()
+                       .allMatch(error -> error.getErrorCode() == ErrorCode.VALIDATION_INVALID_FORMAT));
+    }
+
+    @Test
+    void validate_ShouldReportRequiredValues_WhenDocumentIsEmpty() {
+        // Act
+        ValidationResult empty = orderValidator.validate(json(""));
+        ValidationResult blank = orderValidator.validate(json(" \n\t "));
+
+        // Assert
+        assertEquals(List.of("/customer/email", "/lines"), pointers(empty));
+        assertEquals(List.of("/customer/email", "/lines"), pointers(blank));
+        assertEquals(ErrorCode.VALIDATION_MISSING_FIELD, empty.getErrors().get(0).getErrorCode());
+    }
+
+    @Test
+    void validate_ShouldReportWrongContainerAndRequiredDescendants_WhenArrayReplacesObject() {
+        // Act
+        ValidationResult rootArray = orderValidator.validate(json("[]"));
+        ValidationResult emptyCustomer = orderValidator.validate(json("{'customer':[],'lines':[{'sku':'ABC'}]}"));
+        ValidationResult customer = orderValidator.validate(json("{'customer':[1,2],'lines':[{'sku':'ABC'}]}"));
+
+        // Assert
+        assertEquals(List.of("", "/customer/email", "/lines"), pointers(rootArray));
+        assertEquals(ErrorCode.VALIDATION_INVALID_FORMAT, rootArray.getErrors().get(0).getErrorCode());
+        assertEquals(List.of("/customer", "/customer/email"), pointers(emptyCustomer));
+        assertEquals(List.of("/customer", "/customer/email"), pointers(customer));
+        assertEquals(ErrorCode.VALIDATION_INVALID_FORMAT, customer.getErrors().get(0).getErrorCode());
+        assertEquals(ErrorCode.VALIDATION_MISSING_FIELD, customer.getErrors().get(1).getErrorCode());
+    }
+
+    @Test
+    void validate_ShouldReportWrongContainer_WhenObjectReplacesArray() {
+        // Act
+        ValidationResult result = orderValidator.validate(
+            json("{'customer':{'email':'jane@example.com'},'lines':{'sku':'ABC'}}"));
+
+        // Assert
+        assertEquals(List.of("/lines"), pointers(result));
+        assertEquals(ErrorCode.VALIDATION_INVALID_FORMAT, result.getErrors().get(0).getErrorCode());
+    }
+
+    @Test
+    void validate_ShouldReportMalformedJson() {
+        // Act
+        ValidationResult result = orderValidator.validate(json("{'customer':{'email':'jane@example.com',}"));
+
+        // Assert
+        assertEquals(1, result.getErrors().size());
+        ValidationError error = result.getErrors().get(0);
+        assertEquals(ErrorCode.VALIDATION_INVALID_FORMAT, error.getErrorCode());
+        assertTrue(error.getMessage().startsWith("Malformed JSON at line 1"));
+    }
+
+    @Test
+    void validate_ShouldApplyRulesToTopLevelArrayAndEscapedNames() {
+        // Arrange
+        JsonStreamValidator validator = JsonStreamValidator.builder()
+            .required("/*/a~1b")
+            .build();
+
+        // Act
+        ValidationResult result = validator.validate(json("[{'a/b':'x'},{'ab':'y'}]"));
+
+        // Assert
+        assertEquals(List.of("/1/a~1b"), pointers(result));
+    }
+
+    @Test
+    void validate_ShouldStopAtMaxErrors_AndMarkResultTruncated() {
+        // Arrange
+        JsonStreamValidator validator = JsonStreamValidator.builder()
+            .range("/*", 0, 1)
+            .maxErrors(2)
+            .build();
+
+        // Act
+        ValidationResult result = validator.validate(json("[5,6,7,8]"));
+
+        // Assert
+        assertEquals(List.of("/0", "/1"), pointers(result));
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void validate_ShouldReadDirectByteBufferWithoutMovingIt() {
+        // Arrange
+        byte[] document = json("{'customer':{'email':'jane@example.com'},'lines':[{'sku':'ABC'}]}");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(document.length);
+        buffer.put(document).flip();
+
+        // Act
+        ValidationResult result = orderValidator.validate(buffer);
+
+        // Assert
+        assertTrue(result.isValid());
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void validate_ShouldNotCloseInputStream() {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream input = new ByteArrayInputStream(json("{'customer':{'email':'a@b.io'},'lines':[{'sku':'ABC'}]}")) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        // Act
+        ValidationResult result = orderValidator.validate(input);
+
+        // Assert
+        assertTrue(result.isValid());
+        assertFalse(closed.get());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidRules() {
+        // Arrange
+        JsonStreamValidator.Builder builder = JsonStreamValidator.builder();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.required("customer"));
+        assertThrows(IllegalArgumentException.class, () -> builder.length("/name", 5, 2));
+        assertThrows(IllegalArgumentException.class, () -> builder.range("/n", Double.NaN, 1));
+    }
+}
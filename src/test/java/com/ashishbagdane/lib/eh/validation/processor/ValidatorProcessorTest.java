@@ -0,0 +1,259 @@
+package com.ashishbagdane.lib.eh.validation.processor;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.processor.ValidatorProcessor;
+import com.ashishbagdane.lib.eh.exception.validation.validators.EmailFieldValidator;
+import com.ashishbagdane.lib.eh.exception.validation.validators.RequiredFieldValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorProcessorTest {
+
+    private static final String USER_DTO = """
+        package sample;
+
+        import com.ashishbagdane.lib.eh.exception.validation.annotation.Email;
+        import com.ashishbagdane.lib.eh.exception.validation.annotation.Required;
+        import java.util.List;
+
+        public class UserDto {
+            @Required
+            private final String name;
+            @Required @Email
+            private final String email;
+            @Required
+            private final List<String> roles;
+            @Required
+            private final int age;
+
+            public UserDto(String name, String email, List<String> roles, int age) {
+                this.name = name;
+                this.email = email;
+                this.roles = roles;
+                this.age = age;
+            }
+
+            public String getName() { return name; }
+            public String getEmail() { return email; }
+            public List<String> getRoles() { return roles; }
+            public int getAge() { return age; }
+        }
+        """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generatedValidator_ShouldReturnSharedValidResult_WhenAllConstraintsHold() throws Exception {
+        // Arrange
+        ClassLoader loader = compile("sample.UserDto", USER_DTO);
+        Object dto = newInstance(loader, "sample.UserDto", "John", "john@example.com", List.of("admin"), 30);
+
+        // Act
+        ValidationResult result = validator(loader, "sample.UserDtoValidator").validate(dto);
+
+        // Assert
+        assertSame(ValidationResult.valid(), result);
+    }
+
+    @Test
+    void generatedValidator_ShouldReportSameErrorsAsRuntimeValidators() throws Exception {
+        // Arrange
+        ClassLoader loader = compile("sample.UserDto", USER_DTO);
+        Object dto = newInstance(loader, "sample.UserDto", "  ", "not-an-email", List.of(), 0);
+
+        // Act
+        ValidationResult result = validator(loader, "sample.UserDtoValidator").validate(dto);
+
+        // Assert
+        assertEquals(List.of(
+            new RequiredFieldValidator<>(ignored -> "  ", "name").validate(null).getErrors().get(0),
+            new EmailFieldValidator<>(ignored -> "not-an-email", "email").validate(null).getErrors().get(0),
+            new RequiredFieldValidator<>(ignored -> List.of(), "roles").validate(null).getErrors().get(0)
+        ), result.getErrors());
+    }
+
+    @Test
+    void generatedValidator_ShouldCheckRecordComponentOnce() throws Exception {
+        // Arrange
+        ClassLoader loader = compile("sample.Address", """
+            package sample;
+
+            import com.ashishbagdane.lib.eh.exception.validation.annotation.Required;
+
+            public record Address(@Required String city) {
+            }
+            """);
+        Object address = newInstance(loader, "sample.Address", (Object) null);
+
+        // Act
+        ValidationResult result = validator(loader, "sample.AddressValidator").validate(address);
+
+        // Assert
+        assertEquals(1, result.getErrors().size());
+        assertEquals(ErrorCode.VALIDATION_MISSING_FIELD, result.getErrors().get(0).getErrorCode());
+    }
+
+    @Test
+    void generatedValidator_ShouldApplyCustomValidatorsAndReadFieldsWithoutGetter() throws Exception {
+        // Arrange
+        ClassLoader loader = compile("sample.Order", """
+            package sample;
+
+            import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+            import com.ashishbagdane.lib.eh.exception.validation.annotation.ValidatedBy;
+            import com.ashishbagdane.lib.eh.exception.validation.api.ValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+            import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+            import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+
+            public class Order {
+                @ValidatedBy(Order.PositiveQuantity.class)
+                int quantity;
+
+                public Order(int quantity) {
+                    this.quantity = quantity;
+                }
+
+                public static class PositiveQuantity implements Validator<Integer> {
+                    @Override
+                    public ValidationResult validate(Integer input) {
+                        return input > 0 ? ValidationResult.valid() :
+                            ValidationResult.invalid(new DefaultValidationError(ErrorCode.VALIDATION_INVALID_PARAMETER));
+                    }
+                }
+            }
+            """);
+        Validator<Object> validator = validator(loader, "sample.OrderValidator");
+
+        // Act
+        ValidationResult valid = validator.validate(newInstance(loader, "sample.Order", 2));
+        ValidationResult invalid = validator.validate(newInstance(loader, "sample.Order", 0));
+
+        // Assert
+        assertTrue(valid.isValid());
+        assertEquals(ErrorCode.VALIDATION_INVALID_PARAMETER, invalid.getErrors().get(0).getErrorCode());
+    }
+
+    @Test
+    void generatedValidator_ShouldKeepConstantsApart_WhenPropertyNamesMapToSameConstant() throws Exception {
+        // Arrange
+        ClassLoader loader = compile("sample.Customer", """
+            package sample;
+
+            import com.ashishbagdane.lib.eh.exception.validation.annotation.Required;
+
+            public class Customer {
+                @Required
+                public String fooBar;
+                @Required
+                public String foo_bar = "present";
+            }
+            """);
+        Validator<Object> validator = validator(loader, "sample.CustomerValidator");
+
+        // Act
+        ValidationResult result = validator.validate(newInstance(loader, "sample.Customer"));
+
+        // Assert
+        assertEquals(List.of("Field 'fooBar' is required"),
+                     result.getErrors().stream().map(ValidationError::getMessage).toList());
+    }
+
+    @Test
+    void processor_ShouldReportError_WhenEmailIsNotOnCharSequence() throws Exception {
+        // Arrange
+        Path source = writeSource("sample.Account", """
+            package sample;
+
+            import com.ashishbagdane.lib.eh.exception.validation.annotation.Email;
+
+            public class Account {
+                @Email
+                public Integer id;
+            }
+            """);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        // Act
+        boolean compiled = runCompiler(source, diagnostics);
+
+        // Assert
+        assertFalse(compiled);
+        assertTrue(diagnostics.getDiagnostics().stream()
+                       .anyMatch(diagnostic -> diagnostic.getMessage(null).contains("@Email requires")));
+    }
+
+    private ClassLoader compile(String className, String code) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean compiled = runCompiler(writeSource(className, code), diagnostics);
+        assertTrue(compiled, () -> diagnostics.getDiagnostics().toString());
+        return new URLClassLoader(new URL[]{tempDir.resolve("classes").toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private boolean runCompiler(Path source, DiagnosticCollector<JavaFileObject> diagnostics) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Files.createDirectories(tempDir.resolve("classes"));
+        Files.createDirectories(tempDir.resolve("generated"));
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = List.of(
+                "-classpath", classPathOf(ValidatorProcessor.class, ErrorCode.class),
+                "-processor", ValidatorProcessor.class.getName(),
+                "-d", tempDir.resolve("classes").toString(),
+                "-s", tempDir.resolve("generated").toString());
+            return compiler.getTask(null, fileManager, diagnostics, options, null,
+                                    fileManager.getJavaFileObjects(source)).call();
+        }
+    }
+
+    private Path writeSource(String className, String code) throws IOException {
+        Path file = tempDir.resolve("src").resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, code);
+    }
+
+    private static String classPathOf(Class<?>... types) throws IOException {
+        StringBuilder classPath = new StringBuilder();
+        for (Class<?> type : types) {
+            try {
+                classPath.append(Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()))
+                    .append(File.pathSeparator);
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        return classPath.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Validator<Object> validator(ClassLoader loader, String className) throws Exception {
+        return (Validator<Object>) loader.loadClass(className).getDeclaredConstructor().newInstance();
+    }
+
+    private static Object newInstance(ClassLoader loader, String className, Object... arguments) throws Exception {
+        Class<?> type = loader.loadClass(className);
+        return type.getDeclaredConstructors()[0].newInstance(arguments);
+    }
+}
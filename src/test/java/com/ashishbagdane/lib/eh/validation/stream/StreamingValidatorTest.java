@@ -0,0 +1,272 @@
+package com.ashishbagdane.lib.eh.validation.stream;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.stream.RejectedItem;
+import com.ashishbagdane.lib.eh.exception.validation.stream.StreamingValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingValidatorTest {
+
+    private static final Validator<Integer> EVEN_VALIDATOR = value -> value % 2 == 0 ?
+        ValidationResult.valid() :
+        ValidationResult.invalid(new DefaultValidationError(ErrorCode.VALIDATION_ERROR));
+
+    @Test
+    void validate_Stream_ShouldPassValidAndRejectInvalidElements() {
+        // Arrange
+        List<RejectedItem<Integer>> rejected = new ArrayList<>();
+        StreamingValidator<Integer> validator = new StreamingValidator<>(EVEN_VALIDATOR, rejected::add);
+
+        // Act
+        List<Integer> valid = validator.validate(Stream.of(0, 1, 2, 3, 4)).collect(Collectors.toList());
+
+        // Assert
+        assertEquals(List.of(0, 2, 4), valid);
+        assertEquals(2, rejected.size());
+        assertEquals(1, rejected.get(0).getIndex());
+        assertEquals(3, rejected.get(1).getItem());
+        assertEquals(ErrorCode.VALIDATION_ERROR, rejected.get(1).getErrors().get(0).getErrorCode());
+    }
+
+    @Test
+    void validate_Stream_ShouldConsumeInfiniteInputLazily() {
+        // Arrange
+        AtomicInteger rejected = new AtomicInteger();
+        StreamingValidator<Integer> validator = new StreamingValidator<>(EVEN_VALIDATOR,
+                                                                         item -> rejected.incrementAndGet());
+
+        // Act
+        List<Integer> valid = validator.validate(Stream.iterate(0, i -> i + 1)).limit(3).collect(Collectors.toList());
+
+        // Assert
+        assertEquals(List.of(0, 2, 4), valid);
+        assertEquals(2, rejected.get());
+    }
+
+    @Test
+    void validate_Iterator_ShouldSkipInvalidElements() {
+        // Arrange
+        List<RejectedItem<Integer>> rejected = new ArrayList<>();
+        StreamingValidator<Integer> validator = new StreamingValidator<>(EVEN_VALIDATOR, rejected::add);
+
+        // Act
+        Iterator<Integer> iterator = validator.validate(List.of(1, 2, 3, 5, 6).iterator());
+
+        // Assert
+        assertTrue(iterator.hasNext());
+        assertEquals(2, iterator.next());
+        assertEquals(6, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(List.of(0L, 2L, 3L), rejected.stream().map(RejectedItem::getIndex).collect(Collectors.toList()));
+    }
+
+    @Test
+    void processor_ShouldHonourDownstreamDemand() throws InterruptedException {
+        // Arrange
+        List<RejectedItem<Integer>> rejected = new CopyOnWriteArrayList<>();
+        StreamingValidator<Integer> validator = new StreamingValidator<>(EVEN_VALIDATOR, rejected::add);
+        Flow.Processor<Integer, Integer> processor = validator.processor();
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicInteger outstanding = new AtomicInteger();
+        AtomicInteger overflow = new AtomicInteger();
+
+        processor.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                outstanding.set(1);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                if (outstanding.decrementAndGet() < 0) {
+                    overflow.incrementAndGet();
+                }
+                received.add(item);
+                outstanding.incrementAndGet();
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+
+        // Act
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            IntStream.range(0, 1_000).forEach(publisher::submit);
+        }
+
+        // Assert
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(500, received.size());
+        assertEquals(500, rejected.size());
+        assertEquals(0, overflow.get());
+        assertTrue(received.stream().allMatch(value -> value % 2 == 0));
+    }
+
+    @Test
+    void processor_ShouldNotSignalDownstreamDuringOnSubscribe() throws InterruptedException {
+        // Arrange
+        Flow.Processor<Integer, Integer> processor =
+            new StreamingValidator<>(EVEN_VALIDATOR, rejected -> { }).processor();
+        List<Long> requested = new CopyOnWriteArrayList<>();
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+                requested.add(n);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        CountDownLatch subscribing = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicBoolean insideOnSubscribe = new AtomicBoolean();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        List<Long> requestedDuringOnSubscribe = new CopyOnWriteArrayList<>();
+        Thread completer = new Thread(() -> {
+            try {
+                subscribing.await();
+            } catch (InterruptedException e) {
+                return;
+            }
+            processor.onComplete();
+        });
+        completer.start();
+
+        // Act
+        processor.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                insideOnSubscribe.set(true);
+                subscription.request(2);
+                subscription.request(3);
+                requestedDuringOnSubscribe.addAll(requested);
+                subscribing.countDown();
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                insideOnSubscribe.set(false);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                overlapped.set(insideOnSubscribe.get());
+                completed.countDown();
+            }
+        });
+
+        // Assert
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+        completer.join();
+        assertFalse(overlapped.get());
+        assertTrue(requestedDuringOnSubscribe.isEmpty());
+    }
+
+    @Test
+    void processor_ShouldCancelUpstreamAndSignalError_WhenValidatorThrows() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("validator bug");
+        Validator<Integer> failingValidator = value -> {
+            if (value == 3) {
+                throw failure;
+            }
+            return ValidationResult.valid();
+        };
+        Flow.Processor<Integer, Integer> processor =
+            new StreamingValidator<>(failingValidator, rejected -> { }).processor();
+        List<Integer> received = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicInteger completions = new AtomicInteger();
+
+        processor.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error.set(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completions.incrementAndGet();
+            }
+        });
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.set(true);
+            }
+        });
+
+        // Act
+        IntStream.range(0, 5).forEach(processor::onNext);
+        processor.onComplete();
+
+        // Assert
+        assertTrue(cancelled.get());
+        assertSame(failure, error.get());
+        assertEquals(List.of(0, 1, 2), received);
+        assertEquals(0, completions.get());
+    }
+}
@@ -0,0 +1,216 @@
+package com.ashishbagdane.lib.eh.validation.validators;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.validators.CachingValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingValidatorTest {
+
+    private AtomicInteger invocations;
+
+    private Validator<String> delegate;
+
+    @BeforeEach
+    void setUp() {
+        invocations = new AtomicInteger();
+        delegate = input -> {
+            invocations.incrementAndGet();
+            return input.isEmpty() ?
+                ValidationResult.invalid(new DefaultValidationError(ErrorCode.VALIDATION_MISSING_FIELD)) :
+                ValidationResult.valid();
+        };
+    }
+
+    @Test
+    void validate_ShouldReuseResultForSameInstance() {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate).build();
+        String input = new String("value");
+
+        // Act
+        ValidationResult first = validator.validate(input);
+        ValidationResult second = validator.validate(input);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, invocations.get());
+        assertEquals(1, validator.getHitCount());
+        assertEquals(1, validator.getMissCount());
+    }
+
+    @Test
+    void validate_ShouldKeyByIdentityByDefault() {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate).build();
+
+        // Act
+        validator.validate(new String("value"));
+        validator.validate(new String("value"));
+
+        // Assert
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void validate_ShouldUseKeyFunction() {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate)
+            .keyFunction(String::toLowerCase)
+            .build();
+
+        // Act
+        validator.validate("Value");
+        validator.validate("VALUE");
+
+        // Assert
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void validate_ShouldCacheInvalidResults() {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate).build();
+        String input = "";
+
+        // Act
+        validator.validate(input);
+        ValidationResult result = validator.validate(input);
+
+        // Assert
+        assertFalse(result.isValid());
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void validate_ShouldEvictOldestEntries_WhenMaximumSizeExceeded() {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate)
+            .keyFunction(input -> input)
+            .maximumSize(2)
+            .build();
+
+        // Act
+        validator.validate("a");
+        validator.validate("b");
+        validator.validate("c");
+        validator.validate("a");
+
+        // Assert
+        assertEquals(4, invocations.get());
+        assertEquals(2, validator.getEvictionCount());
+        assertEquals(2, validator.size());
+    }
+
+    @Test
+    void validate_ShouldRevalidate_AfterExpiry() throws InterruptedException {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate)
+            .expireAfterWrite(Duration.ofMillis(20))
+            .build();
+        String input = "value";
+
+        // Act
+        validator.validate(input);
+        Thread.sleep(50);
+        validator.validate(input);
+
+        // Assert
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void invalidate_ShouldDiscardCachedResult() {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate).build();
+        String input = "value";
+        validator.validate(input);
+
+        // Act
+        validator.invalidate(input);
+        validator.validate(input);
+        validator.invalidateAll();
+        validator.validate(input);
+
+        // Assert
+        assertEquals(3, invocations.get());
+    }
+
+    @Test
+    void validate_ShouldNotCacheNullInput() {
+        // Arrange
+        Validator<String> nullSafe = input -> {
+            invocations.incrementAndGet();
+            return ValidationResult.valid();
+        };
+        CachingValidator<String> validator = CachingValidator.builder(nullSafe).build();
+
+        // Act
+        validator.validate(null);
+        validator.validate(null);
+
+        // Assert
+        assertEquals(2, invocations.get());
+        assertEquals(0, validator.size());
+    }
+
+    @Test
+    void invalidateAll_ShouldLetCacheRefillToMaximumSize() {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate)
+            .keyFunction(input -> input)
+            .maximumSize(2)
+            .build();
+        validator.validate("a");
+        validator.validate("b");
+
+        // Act
+        validator.invalidateAll();
+        validator.validate("c");
+        validator.validate("d");
+        validator.validate("c");
+
+        // Assert
+        assertEquals(0, validator.getEvictionCount());
+        assertEquals(2, validator.size());
+        assertEquals(1, validator.getHitCount());
+    }
+
+    @Test
+    void validate_ShouldNotCache_WhenKeyIsNull() {
+        // Arrange
+        CachingValidator<String> validator = CachingValidator.builder(delegate)
+            .keyFunction(input -> input.isEmpty() ? null : input)
+            .build();
+
+        // Act
+        ValidationResult result = validator.validate("");
+        validator.validate("");
+        validator.invalidate("");
+
+        // Assert
+        assertTrue(result.isInvalid());
+        assertEquals(2, invocations.get());
+        assertEquals(0, validator.size());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> CachingValidator.builder(delegate).maximumSize(0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> CachingValidator.builder(delegate).expireAfterWrite(Duration.ZERO));
+        assertTrue(CachingValidator.builder(delegate).build().validate("x").isValid());
+    }
+}
@@ -215,4 +215,50 @@ class ChainedValidatorTest {
         assertTrue(result.isValid());
         verify(validator).validate(null);
     }
+
+    @Test
+    void validate_WithAdaptiveFailFast_ShouldMoveRejectingValidatorFirst() {
+        // Arrange
+        ValidationError error = new DefaultValidationError(ErrorCode.VALIDATION_ERROR);
+        Validator<String> alwaysValid = input -> ValidationResult.valid();
+        Validator<String> alwaysInvalid = input -> ValidationResult.invalid(error);
+
+        ChainedValidator<String> chainedValidator = new ChainedValidator<>(
+            ValidationType.ADAPTIVE_FAIL_FAST,
+            alwaysValid,
+            alwaysInvalid
+        );
+
+        // Act
+        for (int i = 0; i < 200_000; i++) {
+            ValidationResult result = chainedValidator.validate("test");
+            assertEquals(List.of(error), result.getErrors());
+        }
+
+        // Assert
+        assertEquals(List.of(alwaysInvalid, alwaysValid), chainedValidator.getExecutionOrder());
+        assertEquals(List.of(alwaysValid, alwaysInvalid), chainedValidator.getValidators());
+    }
+
+    @Test
+    void getExecutionOrder_WithFailFast_ShouldKeepDeclarationOrder() {
+        // Arrange
+        ValidationError error = new DefaultValidationError(ErrorCode.VALIDATION_ERROR);
+        Validator<String> alwaysValid = input -> ValidationResult.valid();
+        Validator<String> alwaysInvalid = input -> ValidationResult.invalid(error);
+
+        ChainedValidator<String> chainedValidator = new ChainedValidator<>(
+            ValidationType.FAIL_FAST,
+            alwaysValid,
+            alwaysInvalid
+        );
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            chainedValidator.validate("test");
+        }
+
+        // Assert
+        assertEquals(List.of(alwaysValid, alwaysInvalid), chainedValidator.getExecutionOrder());
+    }
 }
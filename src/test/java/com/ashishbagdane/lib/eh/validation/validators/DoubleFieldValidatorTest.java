@@ -0,0 +1,89 @@
+package com.ashishbagdane.lib.eh.validation.validators;
+
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.validators.DoubleFieldValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DoubleFieldValidatorTest {
+
+    private final DoubleFieldValidator<double[]> price =
+        DoubleFieldValidator.<double[]>builder(value -> value[0], "price")
+            .positive()
+            .lessThan(1_000)
+            .multipleOf(0.01)
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.01, 0.3, 19.99, 999.99})
+    void validate_ShouldReturnValid_ForPricesOnTheTick(double value) {
+        assertTrue(price.validate(new double[]{value}).isValid());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, -1, 1_000, 12.345, Double.NaN})
+    void validate_ShouldReturnInvalid_ForPricesOutsideTheRules(double value) {
+        assertTrue(price.validate(new double[]{value}).isInvalid());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {12_345_678.01, 9_999_999.12, 1e15, 0.07, 1e-2})
+    void validate_ShouldAcceptMultiples_OfAnyMagnitude(double value) {
+        // Arrange
+        DoubleFieldValidator<double[]> cents = DoubleFieldValidator.<double[]>builder(amount -> amount[0], "amount")
+            .multipleOf(0.01)
+            .build();
+
+        // Act & Assert
+        assertTrue(cents.validate(new double[]{value}).isValid());
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {12_345_678.005, 9_999_999.123, 1_000_000.001, 1e-20})
+    void validate_ShouldRejectNonMultiples_OfAnyMagnitude(double value) {
+        // Arrange
+        DoubleFieldValidator<double[]> cents = DoubleFieldValidator.<double[]>builder(amount -> amount[0], "amount")
+            .multipleOf(0.01)
+            .build();
+
+        // Act & Assert
+        assertTrue(cents.validate(new double[]{value}).isInvalid());
+    }
+
+    @Test
+    void validate_ShouldDescribeExclusiveBounds() {
+        // Act
+        ValidationResult below = price.validate(new double[]{0});
+        ValidationResult above = price.validate(new double[]{1_000});
+
+        // Assert
+        assertEquals("Field 'price' must be greater than 0", below.getErrors().get(0).getMessage());
+        assertEquals("Field 'price' must be less than 1000", above.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void validate_ShouldRejectInfinity_WhenFiniteIsRequired() {
+        // Arrange
+        DoubleFieldValidator<double[]> validator = DoubleFieldValidator.<double[]>builder(value -> value[0], "rate")
+            .finite()
+            .build();
+
+        // Act
+        ValidationResult result = validator.validate(new double[]{Double.POSITIVE_INFINITY});
+
+        // Assert
+        assertEquals("Field 'rate' must be a finite number", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void builder_ShouldRejectEmptyRange() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> DoubleFieldValidator.<double[]>builder(value -> value[0], "price")
+                         .greaterThan(1).max(1).build());
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -195,4 +196,18 @@ class EmailFieldValidatorTest {
         ValidationError error = result.getErrors().get(0);
         assertEquals(ErrorCode.VALIDATION_INVALID_EMAIL, error.getErrorCode());
     }
+
+    @Test
+    void validate_ShouldReturnSameResultInstance_ForRepeatedFailures() {
+        // Arrange
+        EmailFieldValidator<TestUser> validator = new EmailFieldValidator<>(user -> user.email, "email");
+
+        // Act
+        ValidationResult first = validator.validate(new TestUser("invalid"));
+        ValidationResult second = validator.validate(new TestUser("also@invalid"));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("Invalid email format for field email", first.getErrors().get(0).getMessage());
+    }
 }
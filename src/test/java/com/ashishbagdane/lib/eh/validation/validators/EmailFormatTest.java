@@ -0,0 +1,118 @@
+package com.ashishbagdane.lib.eh.validation.validators;
+
+import com.ashishbagdane.lib.eh.exception.validation.validators.EmailFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailFormatTest {
+
+    // Reference pattern the state machine must agree with
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(
+        "^[A-Za-z0-9]+(?:[._+-]?[A-Za-z0-9]+)*@[A-Za-z0-9][A-Za-z0-9-]*(?:\\.[A-Za-z0-9-]+)*\\.[A-Za-z]{2,}$");
+
+    private static final String ALPHABET = "abzAZ019._+-@@..--#\u00e9 ";
+
+    private static final String[] SEEDS = {
+        "test@example.com",
+        "test.name+label@sub.example-domain.org",
+        "a_b-c@x-1.y.co",
+        "123@example.com"
+    };
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "a@b.cd",
+        "a.b_c+d-e@f.gh",
+        "test@sub.-domain.com",
+        "test@domain-.com",
+        "x@1.2.ab"
+    })
+    void isValid_ShouldAcceptWellFormedAddresses(String email) {
+        assertTrue(EmailFormat.isValid(email));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "a@b.c",
+        "a@-b.com",
+        "a.@b.com",
+        ".a@b.com",
+        "a@b.c1",
+        "a@b..com",
+        "a@b.com.",
+        "a@b@c.com"
+    })
+    void isValid_ShouldRejectMalformedAddresses(String email) {
+        assertFalse(EmailFormat.isValid(email));
+    }
+
+    @Test
+    void isValid_ShouldRejectNull() {
+        assertFalse(EmailFormat.isValid(null));
+    }
+
+    @Test
+    void isValid_ShouldRespectMaxLength() {
+        String email = "test@example.com";
+
+        assertTrue(EmailFormat.isValid(email, email.length()));
+        assertFalse(EmailFormat.isValid(email, email.length() - 1));
+        assertFalse(EmailFormat.isValid("a".repeat(EmailFormat.DEFAULT_MAX_LENGTH) + "@example.com"));
+    }
+
+    @Test
+    void isValid_ShouldMatchRegex_ForRandomInputs() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            String candidate = random.nextBoolean() ? randomString(random) : mutate(random);
+            assertEquals(EMAIL_PATTERN.matcher(candidate).matches(), EmailFormat.isValid(candidate, Integer.MAX_VALUE),
+                         () -> "Mismatch for '" + candidate + "'");
+        }
+    }
+
+    @Test
+    void isValid_ShouldRunInLinearTime_ForPathologicalInput() {
+        String pathological = "a".repeat(100_000) + "!";
+        String longDomain = "a@" + "a-".repeat(50_000) + "!";
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertFalse(EmailFormat.isValid(pathological, Integer.MAX_VALUE));
+            assertFalse(EmailFormat.isValid(longDomain, Integer.MAX_VALUE));
+        });
+    }
+
+    private static String randomString(Random random) {
+        int length = random.nextInt(16);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String mutate(Random random) {
+        StringBuilder builder = new StringBuilder(SEEDS[random.nextInt(SEEDS.length)]);
+        int mutations = 1 + random.nextInt(3);
+        for (int i = 0; i < mutations && builder.length() > 0; i++) {
+            int position = random.nextInt(builder.length());
+            char replacement = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            switch (random.nextInt(3)) {
+                case 0 -> builder.setCharAt(position, replacement);
+                case 1 -> builder.insert(position, replacement);
+                default -> builder.deleteCharAt(position);
+            }
+        }
+        return builder.toString();
+    }
+}
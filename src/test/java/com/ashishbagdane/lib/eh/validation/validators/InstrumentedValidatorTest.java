@@ -0,0 +1,138 @@
+package com.ashishbagdane.lib.eh.validation.validators;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.api.Validator;
+import com.ashishbagdane.lib.eh.exception.validation.base.DefaultValidationError;
+import com.ashishbagdane.lib.eh.exception.validation.builder.ValidatorBuilder;
+import com.ashishbagdane.lib.eh.exception.validation.validators.InstrumentedValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstrumentedValidatorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final ValidationResult failure =
+        ValidationResult.invalid(new DefaultValidationError(ErrorCode.VALIDATION_ERROR));
+
+    private final Validator<String> delegate = input -> input.isEmpty() ? failure : ValidationResult.valid();
+
+    private double calls(String validator, String outcome) {
+        Counter counter = registry.find(InstrumentedValidator.CALLS_METER)
+            .tags("validator", validator, "outcome", outcome)
+            .counter();
+        return counter.count();
+    }
+
+    private Timer timer(String validator) {
+        return registry.find(InstrumentedValidator.DURATION_METER).tag("validator", validator).timer();
+    }
+
+    @Test
+    void validate_ShouldCountOutcomes_AndReturnDelegateResult() {
+        // Arrange
+        Validator<String> validator = InstrumentedValidator.builder(delegate, registry, "name").build();
+
+        // Act
+        validator.validate("Ada");
+        validator.validate("Grace");
+        ValidationResult result = validator.validate("");
+
+        // Assert
+        assertSame(failure, result);
+        assertEquals(2, calls("name", "passed"));
+        assertEquals(1, calls("name", "failed"));
+        assertEquals(0, calls("name", "error"));
+    }
+
+    @Test
+    void validate_ShouldTimeEveryCall_WhenSamplingEveryCall() {
+        // Arrange
+        Validator<String> validator = InstrumentedValidator.builder(delegate, registry, "name").sampleEvery(1).build();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            validator.validate("Ada");
+        }
+
+        // Assert
+        assertEquals(10, timer("name").count());
+    }
+
+    @Test
+    void validate_ShouldTimeSampleOfCalls() {
+        // Arrange
+        Validator<String> validator = InstrumentedValidator.builder(delegate, registry, "name").sampleEvery(8).build();
+
+        // Act
+        for (int i = 0; i < 8_000; i++) {
+            validator.validate("Ada");
+        }
+
+        // Assert
+        long timed = timer("name").count();
+        assertTrue(timed > 500 && timed < 1_500, "timed " + timed);
+        assertEquals(8_000, calls("name", "passed"));
+    }
+
+    @Test
+    void validate_ShouldCountErrors_WhenDelegateThrows() {
+        // Arrange
+        Validator<String> validator = InstrumentedValidator.builder(delegate, registry, "name").build();
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> validator.validate(null));
+        assertEquals(1, calls("name", "error"));
+        assertEquals(0, calls("name", "failed"));
+    }
+
+    @Test
+    void validate_ShouldShareMeters_WhenValidatorsHaveSameName() {
+        // Arrange
+        Validator<String> first = InstrumentedValidator.builder(delegate, registry, "name").sampleEvery(1).build();
+        Validator<String> second = InstrumentedValidator.builder(delegate, registry, "name").sampleEvery(1).build();
+        first.validate("Ada");
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            second.validate("Grace");
+        }
+
+        // Assert
+        assertEquals(11, calls("name", "passed"));
+        assertEquals(11, timer("name").count());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidSamplingInterval() {
+        // Arrange
+        InstrumentedValidator.Builder<String> builder = InstrumentedValidator.builder(delegate, registry, "name");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.sampleEvery(0));
+    }
+
+    @Test
+    void validatorBuilder_ShouldInstrumentBuiltValidator() {
+        // Arrange
+        Validator<String> validator = new ValidatorBuilder<String>()
+            .addValidator(delegate)
+            .instrument(registry, "composite", 1)
+            .build();
+
+        // Act
+        validator.validate("");
+
+        // Assert
+        assertEquals(1, calls("composite", "failed"));
+        assertEquals(1, timer("composite").count());
+    }
+}
@@ -0,0 +1,78 @@
+package com.ashishbagdane.lib.eh.validation.validators;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.validators.IntFieldValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntFieldValidatorTest {
+
+    private final IntFieldValidator<int[]> quantity = IntFieldValidator.<int[]>builder(value -> value[0], "quantity")
+        .positive()
+        .max(1_000)
+        .multipleOf(10)
+        .build();
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 500, 1_000})
+    void validate_ShouldReturnValid_WhenAllChecksPass(int value) {
+        assertSame(ValidationResult.valid(), quantity.validate(new int[]{value}));
+    }
+
+    @Test
+    void validate_ShouldReportLowerBound_WhenValueIsNotPositive() {
+        // Act
+        ValidationResult result = quantity.validate(new int[]{0});
+
+        // Assert
+        assertEquals(1, result.getErrors().size());
+        assertEquals(ErrorCode.VALIDATION_INVALID_PARAMETER, result.getErrors().get(0).getErrorCode());
+        assertEquals("Field 'quantity' must be at least 1", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void validate_ShouldReportBoundAndMultipleOf_WhenBothFail() {
+        // Act
+        ValidationResult result = quantity.validate(new int[]{1_005});
+
+        // Assert
+        assertEquals(List.of("Field 'quantity' must be at most 1000", "Field 'quantity' must be a multiple of 10"),
+                     result.getErrors().stream().map(error -> error.getMessage()).toList());
+    }
+
+    @Test
+    void validate_ShouldReuseFailureResult() {
+        assertSame(quantity.validate(new int[]{7}), quantity.validate(new int[]{13}));
+    }
+
+    @Test
+    void builder_ShouldKeepStricterBound() {
+        // Arrange
+        IntFieldValidator<int[]> validator = IntFieldValidator.<int[]>builder(value -> value[0], "quantity")
+            .min(5)
+            .positive()
+            .build();
+
+        // Act & Assert
+        assertTrue(validator.validate(new int[]{3}).isInvalid());
+        assertTrue(validator.validate(new int[]{5}).isValid());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> IntFieldValidator.<int[]>builder(value -> value[0], "quantity").range(10, 1).build());
+        assertThrows(IllegalArgumentException.class,
+                     () -> IntFieldValidator.<int[]>builder(value -> value[0], "quantity").multipleOf(0));
+        assertThrows(IllegalArgumentException.class, () -> IntFieldValidator.<int[]>builder(value -> value[0], " "));
+    }
+}
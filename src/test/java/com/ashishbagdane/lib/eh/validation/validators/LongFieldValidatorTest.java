@@ -0,0 +1,116 @@
+package com.ashishbagdane.lib.eh.validation.validators;
+
+import com.ashishbagdane.lib.base.eh.core.ErrorCode;
+import com.ashishbagdane.lib.eh.exception.validation.api.ValidationResult;
+import com.ashishbagdane.lib.eh.exception.validation.validators.LongFieldValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongFieldValidatorTest {
+
+    private final LongFieldValidator<long[]> priceInCents =
+        LongFieldValidator.<long[]>builder(value -> value[0], "priceInCents")
+            .nonNegative()
+            .max(10_000_000_000L)
+            .multipleOf(5)
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 5, 10_000_000_000L})
+    void validate_ShouldReturnValid_WhenAllChecksPass(long value) {
+        assertSame(ValidationResult.valid(), priceInCents.validate(new long[]{value}));
+    }
+
+    @Test
+    void validate_ShouldReportLowerBound_WhenValueIsNegative() {
+        // Act
+        ValidationResult result = priceInCents.validate(new long[]{-5});
+
+        // Assert
+        assertEquals(1, result.getErrors().size());
+        assertEquals(ErrorCode.VALIDATION_INVALID_PARAMETER, result.getErrors().get(0).getErrorCode());
+        assertEquals("Field 'priceInCents' must be at least 0", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void validate_ShouldReportBoundAndMultipleOf_WhenBothFail() {
+        // Act
+        ValidationResult result = priceInCents.validate(new long[]{10_000_000_001L});
+
+        // Assert
+        assertEquals(List.of("Field 'priceInCents' must be at most 10000000000",
+                             "Field 'priceInCents' must be a multiple of 5"),
+                     result.getErrors().stream().map(error -> error.getMessage()).toList());
+    }
+
+    @Test
+    void validate_ShouldApplyBoundsNearLongExtremes() {
+        // Arrange
+        LongFieldValidator<long[]> validator = LongFieldValidator.<long[]>builder(value -> value[0], "offset")
+            .range(Long.MIN_VALUE + 1, Long.MAX_VALUE - 1)
+            .build();
+
+        // Act & Assert
+        assertTrue(validator.validate(new long[]{Long.MIN_VALUE + 1}).isValid());
+        assertTrue(validator.validate(new long[]{Long.MAX_VALUE - 1}).isValid());
+        assertEquals("Field 'offset' must be at least " + (Long.MIN_VALUE + 1),
+                     validator.validate(new long[]{Long.MIN_VALUE}).getErrors().get(0).getMessage());
+        assertEquals("Field 'offset' must be at most " + (Long.MAX_VALUE - 1),
+                     validator.validate(new long[]{Long.MAX_VALUE}).getErrors().get(0).getMessage());
+    }
+
+    @Test
+    void validate_ShouldCheckMultipleOf_AtLongExtremes() {
+        // Arrange
+        LongFieldValidator<long[]> validator = LongFieldValidator.<long[]>builder(value -> value[0], "offset")
+            .negative()
+            .multipleOf(2)
+            .build();
+
+        // Act & Assert
+        assertTrue(validator.validate(new long[]{Long.MIN_VALUE}).isValid());
+        assertTrue(validator.validate(new long[]{Long.MIN_VALUE + 1}).isInvalid());
+        assertTrue(validator.validate(new long[]{Long.MAX_VALUE - 1}).isInvalid());
+    }
+
+    @Test
+    void validate_ShouldReuseFailureResult() {
+        assertSame(priceInCents.validate(new long[]{7}), priceInCents.validate(new long[]{13}));
+    }
+
+    @Test
+    void builder_ShouldKeepStricterBound() {
+        // Arrange
+        LongFieldValidator<long[]> validator = LongFieldValidator.<long[]>builder(value -> value[0], "priceInCents")
+            .min(5)
+            .positive()
+            .max(Long.MAX_VALUE)
+            .max(100)
+            .build();
+
+        // Act & Assert
+        assertTrue(validator.validate(new long[]{3}).isInvalid());
+        assertTrue(validator.validate(new long[]{5}).isValid());
+        assertTrue(validator.validate(new long[]{101}).isInvalid());
+    }
+
+    @Test
+    void builder_ShouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> LongFieldValidator.<long[]>builder(value -> value[0], "offset").range(10, 1).build());
+        assertThrows(IllegalArgumentException.class,
+                     () -> LongFieldValidator.<long[]>builder(value -> value[0], "offset").multipleOf(0));
+        assertThrows(IllegalArgumentException.class,
+                     () -> LongFieldValidator.<long[]>builder(value -> value[0], "offset").multipleOf(-5));
+        assertThrows(IllegalArgumentException.class, () -> LongFieldValidator.<long[]>builder(value -> value[0], " "));
+        assertThrows(NullPointerException.class, () -> LongFieldValidator.<long[]>builder(null, "offset"));
+    }
+}
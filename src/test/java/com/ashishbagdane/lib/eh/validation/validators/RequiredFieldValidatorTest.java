@@ -16,6 +16,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -120,4 +121,21 @@ class RequiredFieldValidatorTest {
         ValidationResult result = mapValidator.validate(new HashMap<>());
         assertFalse(result.isValid());
     }
+
+    @Test
+    void validate_ShouldReuseErrorInstance_AcrossFailuresAndValidators() {
+        // Arrange
+        TestObject missing = new TestObject(null, null);
+        RequiredFieldValidator<TestObject, String> sameField =
+            new RequiredFieldValidator<>(obj -> obj.stringField, "stringField");
+
+        // Act
+        ValidationResult first = stringValidator.validate(missing);
+        ValidationResult second = stringValidator.validate(missing);
+        ValidationResult other = sameField.validate(missing);
+
+        // Assert
+        assertSame(first, second);
+        assertSame(first.getErrors().get(0), other.getErrors().get(0));
+    }
 }